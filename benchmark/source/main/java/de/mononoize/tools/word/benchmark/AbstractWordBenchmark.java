@@ -0,0 +1,63 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Base class for all {@code Word} benchmarks.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractWordBenchmark {
+
+	/**
+	 * The seed of the random number generator, so that all runs use the same values.
+	 */
+	protected static final long SEED = 190554597376876918L;
+	
+	/**
+	 * The {@code Word} size to be used. The sizes {@code 100} and {@code 65537} are not a multiple of {@code 64}, so
+	 * that the masking of the most significant element and the rotation of arbitrary sizes are measured as well.
+	 */
+	@Param({"8", "64", "100", "256", "4096", "65536", "65537", "1048576"})
+	public int size;
+	
+	/**
+	 * Returns a new {@code Word} with the given size where each bit is set to {@code 1} with the given probability.
+	 * 
+	 * @param size The size to be used.
+	 * @param density The probability of a bit to be set to {@code 1}.
+	 * @param random The random number generator to be used.
+	 * @return A new {@code Word} with the given size and density.
+	 */
+	protected static Word createWord(final int size, final double density, final Random random) {
+		final Word result = new Word(size);
+		
+		for (int i = 0; i < size; i++) {
+			if (random.nextDouble() < density) {
+				result.set(i);
+			}
+		}
+		
+		return result;
+	}
+	
+}
@@ -0,0 +1,56 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mononoize.tools.word.AtomicWord;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for an {@code AtomicWord} that is shared by all benchmark threads. The benchmark is run with an
+ * increasing number of threads by {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class AtomicWordConcurrentBenchmark extends AbstractWordBenchmark {
+
+	private AtomicWord m_word;
+	
+	private Word m_operand;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = new AtomicWord(this.size);
+		this.m_word.setValue(createWord(this.size, 0.5, random));
+		this.m_operand = createWord(this.size, 0.01, random);
+	}
+	
+	@Benchmark
+	public boolean getBoolean() {
+		return this.m_word.getBoolean(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word flip() {
+		return this.m_word.flip(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public int countOnes() {
+		return this.m_word.countOnes();
+	}
+	
+	@Benchmark
+	public Word xor() {
+		return this.m_word.xor(this.m_operand);
+	}
+	
+}
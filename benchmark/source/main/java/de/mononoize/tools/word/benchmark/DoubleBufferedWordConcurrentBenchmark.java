@@ -0,0 +1,79 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import de.mononoize.tools.word.DoubleBufferedWord;
+import de.mononoize.tools.word.SynchronizedWord;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the readers of a {@code DoubleBufferedWord} that is shared by all benchmark threads, compared to the
+ * readers of a {@code SynchronizedWord}. A single background thread modifies both words continuously. The benchmark is
+ * run with an increasing number of (reading) threads by {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class DoubleBufferedWordConcurrentBenchmark extends AbstractWordBenchmark {
+
+	private DoubleBufferedWord m_word;
+	
+	private SynchronizedWord m_synchronized;
+	
+	private Thread m_writer;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		final Word value = createWord(this.size, 0.5, random);
+		
+		this.m_word = new DoubleBufferedWord(this.size);
+		this.m_word.setValue(value);
+		this.m_synchronized = new SynchronizedWord(this.size);
+		this.m_synchronized.setValue(value);
+		
+		this.m_writer = new Thread(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				final int index = ThreadLocalRandom.current().nextInt(this.size);
+				this.m_word.flip(index);
+				this.m_synchronized.flip(index);
+			}
+		});
+		this.m_writer.setDaemon(true);
+		this.m_writer.start();
+	}
+	
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		this.m_writer.interrupt();
+		this.m_writer.join();
+	}
+	
+	@Benchmark
+	public boolean getBoolean() {
+		return this.m_word.getBoolean(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public int countOnes() {
+		return this.m_word.countOnes();
+	}
+	
+	@Benchmark
+	public boolean synchronizedGetBoolean() {
+		return this.m_synchronized.getBoolean(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public int synchronizedCountOnes() {
+		return this.m_synchronized.countOnes();
+	}
+	
+}
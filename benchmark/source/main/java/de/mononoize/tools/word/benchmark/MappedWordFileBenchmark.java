@@ -0,0 +1,65 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import de.mononoize.tools.word.MappedWordFile;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for loading a persisted {@code Word} and reading a single bit, either by deserializing it or by opening a
+ * {@code MappedWordFile}.
+ * 
+ * @author Alexander Mattes
+ */
+public class MappedWordFileBenchmark extends AbstractWordBenchmark {
+
+	private Path m_serialized;
+	
+	private Path m_mapped;
+	
+	@Setup
+	public void setup() throws IOException {
+		final Word word = createWord(this.size, 0.5, new Random(SEED));
+		
+		this.m_serialized = Files.createTempFile("word", ".ser");
+		try (final ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(this.m_serialized))) {
+			output.writeObject(word);
+		}
+		
+		this.m_mapped = Files.createTempFile("word", ".map");
+		try (final MappedWordFile file = MappedWordFile.create(this.m_mapped, this.size, 1)) {
+			file.getWord(0).setValue(word);
+			file.force();
+		}
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(this.m_serialized);
+		Files.delete(this.m_mapped);
+	}
+	
+	@Benchmark
+	public boolean deserialize() throws IOException, ClassNotFoundException {
+		try (final ObjectInputStream input = new ObjectInputStream(Files.newInputStream(this.m_serialized))) {
+			return ((Word) input.readObject()).getBoolean(this.size - 1);
+		}
+	}
+	
+	@Benchmark
+	public boolean map() throws IOException {
+		try (final MappedWordFile file = MappedWordFile.openReadOnly(this.m_mapped)) {
+			return file.getWord(0).getBoolean(this.size - 1);
+		}
+	}
+	
+}
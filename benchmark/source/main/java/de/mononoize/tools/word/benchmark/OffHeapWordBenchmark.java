@@ -0,0 +1,68 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import de.mononoize.tools.word.OffHeapWord;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the {@code OffHeapWord} class, compared to the corresponding operations of the {@code Word} class.
+ * 
+ * @author Alexander Mattes
+ */
+public class OffHeapWordBenchmark extends AbstractWordBenchmark {
+
+	private Word m_word;
+	
+	private Word m_other;
+	
+	private OffHeapWord m_offHeapWord;
+	
+	private OffHeapWord m_offHeapOther;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = createWord(this.size, 0.5, random);
+		this.m_other = createWord(this.size, 0.5, random);
+		this.m_offHeapWord = new OffHeapWord(this.size).setValue(this.m_word);
+		this.m_offHeapOther = new OffHeapWord(this.size).setValue(this.m_other);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		this.m_offHeapWord.close();
+		this.m_offHeapOther.close();
+	}
+	
+	@Benchmark
+	public Word xorHeap() {
+		return this.m_word.xor(this.m_other);
+	}
+	
+	@Benchmark
+	public OffHeapWord xorOffHeap() {
+		return this.m_offHeapWord.xor(this.m_offHeapOther);
+	}
+	
+	@Benchmark
+	public OffHeapWord xorOffHeapWithHeap() {
+		return this.m_offHeapWord.xor(this.m_other);
+	}
+	
+	@Benchmark
+	public int countOnesHeap() {
+		return this.m_word.countOnes();
+	}
+	
+	@Benchmark
+	public int countOnesOffHeap() {
+		return this.m_offHeapWord.countOnes();
+	}
+	
+}
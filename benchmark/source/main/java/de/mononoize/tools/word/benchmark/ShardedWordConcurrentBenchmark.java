@@ -0,0 +1,64 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mononoize.tools.word.AtomicWord;
+import de.mononoize.tools.word.ShardedWord;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for a {@code ShardedWord} that is shared by all benchmark threads, compared to the accumulation into an
+ * {@code AtomicWord}. The benchmark is run with an increasing number of threads by {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class ShardedWordConcurrentBenchmark extends AbstractWordBenchmark {
+
+	private ShardedWord m_word;
+	
+	private AtomicWord m_atomic;
+	
+	private Word m_operand;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = new ShardedWord(this.size, ShardedWord.Operator.OR);
+		this.m_atomic = new AtomicWord(this.size);
+		this.m_operand = createWord(this.size, 0.01, random);
+	}
+	
+	@Benchmark
+	public ShardedWord set() {
+		return this.m_word.set(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public ShardedWord or() {
+		return this.m_word.or(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word snapshot() {
+		return this.m_word.snapshot();
+	}
+	
+	@Benchmark
+	public Word atomicSet() {
+		return this.m_atomic.set(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word atomicOr() {
+		return this.m_atomic.or(this.m_operand);
+	}
+	
+}
@@ -0,0 +1,67 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.mononoize.tools.word.StripedWord;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for a {@code StripedWord} that is shared by all benchmark threads. All bits are accessed uniformly at
+ * random, so that the threads mostly work on different stripes of large words. The benchmark is run with an increasing
+ * number of threads by {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class StripedWordConcurrentBenchmark extends AbstractWordBenchmark {
+
+	@Param({"1", "8", "64"})
+	public int stripeElements;
+	
+	private StripedWord m_word;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = new StripedWord(this.size, this.stripeElements);
+		this.m_word.setValue(createWord(this.size, 0.5, random));
+	}
+	
+	@Benchmark
+	public boolean getBoolean() {
+		return this.m_word.getBoolean(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word flip() {
+		return this.m_word.flip(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word flipRange() {
+		final int start = ThreadLocalRandom.current().nextInt(this.size);
+		return this.m_word.flip(start, Math.min(start + 127, this.size - 1));
+	}
+	
+	@Benchmark
+	public void mixed(final Blackhole blackhole) {
+		final int index = ThreadLocalRandom.current().nextInt(this.size);
+		
+		// 95 % reads and 5 % writes.
+		if (ThreadLocalRandom.current().nextInt(100) < 5) {
+			blackhole.consume(this.m_word.flip(index));
+		} else {
+			blackhole.consume(this.m_word.getBoolean(index));
+		}
+	}
+	
+}
@@ -0,0 +1,115 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.mononoize.tools.word.SynchronizedWord;
+import de.mononoize.tools.word.Word;
+import de.mononoize.tools.word.WordLock;
+import de.mononoize.tools.word.WordTransaction;
+
+/**
+ * Benchmarks for a {@code SynchronizedWord} that is shared by all benchmark threads. The benchmark is run with an
+ * increasing number of threads by {@link WordBenchmarks} and for each lock strategy (see: {@link WordLock}). The
+ * fetch-and-modify operation {@code getAndXor} is compared to copying the word under its lock before the modification.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class SynchronizedWordConcurrentBenchmark extends AbstractWordBenchmark {
+
+	/**
+	 * The destination of the fetch-and-modify operations of each benchmark thread.
+	 */
+	@State(Scope.Thread)
+	public static class Destination {
+		
+		private Word m_word;
+		
+		@Setup
+		public void setup(final SynchronizedWordConcurrentBenchmark benchmark) {
+			this.m_word = new Word(benchmark.size);
+		}
+		
+	}
+	
+	@Param({"monitor", "reentrant", "readWrite", "spinning", "combining"})
+	public String lock;
+	
+	private SynchronizedWord m_word;
+	
+	private Word m_operand;
+	
+	private WordTransaction m_transaction;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = new SynchronizedWord(this.size, switch (this.lock) {
+			case "monitor" -> WordLock.monitor();
+			case "reentrant" -> WordLock.reentrant();
+			case "readWrite" -> WordLock.readWrite();
+			case "spinning" -> WordLock.spinning();
+			case "combining" -> WordLock.combining();
+			default -> throw new IllegalArgumentException("Unknown lock strategy: " + this.lock);
+		});
+		this.m_word.setValue(createWord(this.size, 0.5, random));
+		this.m_operand = createWord(this.size, 0.01, random);
+		this.m_transaction = new WordTransaction().write(this.m_word);
+	}
+	
+	@Benchmark
+	public boolean getBoolean() {
+		return this.m_word.getBoolean(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word flip() {
+		return this.m_word.flip(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public int countOnes() {
+		return this.m_word.countOnes();
+	}
+	
+	@Benchmark
+	public Word xor() {
+		return this.m_word.xor(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word getAndXor(final Destination destination) {
+		return this.m_word.getAndXor(this.m_operand, destination.m_word);
+	}
+	
+	@Benchmark
+	public Word cloneAndXor() {
+		return this.m_transaction.execute(() -> {
+			final Word result = (Word) this.m_word.clone();
+			this.m_word.xor(this.m_operand);
+			return result;
+		});
+	}
+	
+	@Benchmark
+	public void mixed(final Blackhole blackhole) {
+		final int index = ThreadLocalRandom.current().nextInt(this.size);
+		
+		// 95 % reads and 5 % writes.
+		if (ThreadLocalRandom.current().nextInt(100) < 5) {
+			blackhole.consume(this.m_word.flip(index));
+		} else {
+			blackhole.consume(this.m_word.getBoolean(index));
+		}
+	}
+	
+}
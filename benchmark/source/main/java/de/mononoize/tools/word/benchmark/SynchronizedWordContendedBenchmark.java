@@ -0,0 +1,61 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mononoize.tools.word.SynchronizedWord;
+import de.mononoize.tools.word.Word;
+import de.mononoize.tools.word.WordLock;
+
+/**
+ * Benchmarks for a hot {@code SynchronizedWord} that is updated by all benchmark threads, comparing the flat-combining
+ * lock strategy (see: {@link WordLock#combining()}) to the default lock strategy. The benchmark is run with 8, 16, and
+ * 64 threads by {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class SynchronizedWordContendedBenchmark extends AbstractWordBenchmark {
+
+	@Param({"monitor", "combining"})
+	public String lock;
+	
+	private SynchronizedWord m_word;
+	
+	private Word m_operand;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = new SynchronizedWord(this.size, switch (this.lock) {
+			case "monitor" -> WordLock.monitor();
+			case "combining" -> WordLock.combining();
+			default -> throw new IllegalArgumentException("Unknown lock strategy: " + this.lock);
+		});
+		this.m_word.setValue(createWord(this.size, 0.5, random));
+		this.m_operand = createWord(this.size, 0.01, random);
+	}
+	
+	@Benchmark
+	public Word set() {
+		return this.m_word.set(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word clear() {
+		return this.m_word.clear(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Word or() {
+		return this.m_word.or(this.m_operand);
+	}
+	
+}
@@ -0,0 +1,65 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mononoize.tools.word.SynchronizedWord;
+import de.mononoize.tools.word.VersionedWord;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for a {@code VersionedWord} that is shared by all benchmark threads, compared to copying a
+ * {@code SynchronizedWord} under its lock. The benchmark is run with an increasing number of threads by
+ * {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class VersionedWordConcurrentBenchmark extends AbstractWordBenchmark {
+
+	private VersionedWord m_word;
+	
+	private SynchronizedWord m_synchronized;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		final Word value = createWord(this.size, 0.5, random);
+		
+		this.m_word = new VersionedWord(this.size);
+		this.m_word.setValue(value);
+		this.m_synchronized = new SynchronizedWord(this.size);
+		this.m_synchronized.setValue(value);
+	}
+	
+	@Benchmark
+	public VersionedWord.Snapshot snapshot() {
+		return this.m_word.snapshot();
+	}
+	
+	@Benchmark
+	public int snapshotCountOnes() {
+		return this.m_word.snapshot().countOnes();
+	}
+	
+	@Benchmark
+	public VersionedWord flip() {
+		return this.m_word.flip(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+	@Benchmark
+	public Object synchronizedClone() {
+		return this.m_synchronized.clone();
+	}
+	
+	@Benchmark
+	public Word synchronizedFlip() {
+		return this.m_synchronized.flip(ThreadLocalRandom.current().nextInt(this.size));
+	}
+	
+}
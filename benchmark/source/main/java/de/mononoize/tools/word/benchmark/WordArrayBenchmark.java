@@ -0,0 +1,83 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+import de.mononoize.tools.word.WordArray;
+
+/**
+ * Benchmarks for the {@code WordArray} class, compared to an array of {@code Word}s with the same bits.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordArrayBenchmark extends AbstractWordBenchmark {
+
+	/**
+	 * The total number of bits of all {@code Word}s, so that the number of {@code Word}s depends on their size.
+	 */
+	private static final int TOTAL_BITS = 1 << 24;
+	
+	private Word[] m_words;
+	
+	private WordArray m_array;
+	
+	private WordArray.Cursor m_cursor;
+	
+	private Word m_mask;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		final int count = Math.max(1, TOTAL_BITS / this.size);
+		
+		this.m_words = new Word[count];
+		this.m_array = new WordArray(this.size, count);
+		this.m_cursor = this.m_array.cursor();
+		this.m_mask = createWord(this.size, 0.5, random);
+		
+		for (int i = 0; i < count; i++) {
+			this.m_words[i] = createWord(this.size, 0.5, random);
+			this.m_array.set(i, this.m_words[i]);
+		}
+	}
+	
+	@Benchmark
+	public long countOnesWords() {
+		long result = 0;
+		for (final Word word : this.m_words) {
+			result += word.countOnes();
+		}
+		return result;
+	}
+	
+	@Benchmark
+	public long countOnesCursor() {
+		long result = 0;
+		for (int i = 0; i < this.m_array.getCount(); i++) {
+			result += this.m_cursor.moveTo(i).countOnes();
+		}
+		return result;
+	}
+	
+	@Benchmark
+	public long countOnesArray() {
+		return this.m_array.countOnes();
+	}
+	
+	@Benchmark
+	public Word[] xorWords() {
+		for (final Word word : this.m_words) {
+			word.xor(this.m_mask);
+		}
+		return this.m_words;
+	}
+	
+	@Benchmark
+	public WordArray xorArray() {
+		return this.m_array.xor(this.m_mask);
+	}
+	
+}
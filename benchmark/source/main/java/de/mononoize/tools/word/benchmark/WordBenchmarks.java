@@ -0,0 +1,114 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.NoBenchmarksException;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>The entry point of the benchmarks. All JMH command line options are supported.</p>
+ * 
+ * <p>In addition to the plain JMH runner, the GC profiler (i.e. {@code -prof gc}) is enabled unless other profilers
+ * are given. Moreover, benchmarks whose class name ends with {@code ConcurrentBenchmark} are run with 1, 2, 4, ...
+ * threads up to the number of available processors, and benchmarks whose class name ends with
+ * {@code ContendedBenchmark} are run with {@link #CONTENDED_THREADS} threads (regardless of the number of available
+ * processors), unless the number of threads is given (i.e. {@code -t}).</p>
+ * 
+ * @author Alexander Mattes
+ */
+public final class WordBenchmarks {
+	
+	/**
+	 * The pattern of all concurrent benchmarks.
+	 */
+	private static final String CONCURRENT = "ConcurrentBenchmark";
+
+	/**
+	 * The pattern of all contended benchmarks.
+	 */
+	private static final String CONTENDED = "ContendedBenchmark";
+
+	/**
+	 * The numbers of threads of the contended benchmarks.
+	 */
+	private static final int[] CONTENDED_THREADS = {8, 16, 64};
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private WordBenchmarks() {
+		super();
+	}
+	
+	/**
+	 * Runs the benchmarks.
+	 * 
+	 * @param args The JMH command line options.
+	 * @throws CommandLineOptionException If the command line options are invalid.
+	 * @throws RunnerException If the benchmarks fail.
+	 * @throws IOException If the plain JMH runner fails.
+	 */
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		final CommandLineOptions commandLine = new CommandLineOptions(args);
+		
+		// The plain JMH runner handles all options that do not run benchmarks.
+		if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+				|| commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+		
+		if (commandLine.getThreads().hasValue()) {
+			run(create(commandLine));
+			return;
+		}
+		
+		run(create(commandLine).exclude(".*" + CONCURRENT + ".*").exclude(".*" + CONTENDED + ".*"));
+		
+		for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads <<= 1) {
+			run(create(commandLine).exclude("^(?!.*" + CONCURRENT + ")").threads(threads));
+		}
+		
+		for (final int threads : CONTENDED_THREADS) {
+			run(create(commandLine).exclude("^(?!.*" + CONTENDED + ")").threads(threads));
+		}
+	}
+	
+	/**
+	 * Returns a new options builder using the given command line options.
+	 * 
+	 * @param commandLine The command line options to be used.
+	 * @return A new options builder.
+	 */
+	private static ChainedOptionsBuilder create(final CommandLineOptions commandLine) {
+		final ChainedOptionsBuilder result = new OptionsBuilder().parent(commandLine);
+		
+		if (commandLine.getProfilers().isEmpty()) {
+			result.addProfiler(GCProfiler.class);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Runs the benchmarks using the given options. Having no matching benchmarks is not an error.
+	 * 
+	 * @param options The options to be used.
+	 * @throws RunnerException If the benchmarks fail.
+	 */
+	private static void run(final ChainedOptionsBuilder options) throws RunnerException {
+		try {
+			new Runner(options.build()).run();
+		} catch (final NoBenchmarksException e) {
+			// There is nothing to do when no benchmark matches.
+		}
+	}
+	
+}
@@ -0,0 +1,85 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the string conversions of the {@code Word} class.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordCodecBenchmark extends AbstractWordBenchmark {
+
+	/**
+	 * The probability of a bit to be set to {@code 1}.
+	 */
+	@Param({"0.01", "0.5", "0.99"})
+	public double density;
+	
+	private Word m_word;
+	
+	private String m_binary;
+	
+	private String m_hex;
+	
+	private String m_base64;
+	
+	private StringBuilder m_builder;
+	
+	@Setup
+	public void setup() {
+		this.m_word = createWord(this.size, this.density, new Random(SEED));
+		this.m_binary = this.m_word.toString();
+		this.m_hex = this.m_word.toHexString();
+		this.m_base64 = this.m_word.toBase64String();
+		this.m_builder = new StringBuilder(this.size);
+	}
+	
+	@Benchmark
+	public String toBinaryString() {
+		return this.m_word.toString();
+	}
+	
+	@Benchmark
+	public StringBuilder formatTo() throws IOException {
+		this.m_builder.setLength(0);
+		return this.m_word.formatTo(this.m_builder);
+	}
+	
+	@Benchmark
+	public Word ofBinary() {
+		return Word.of(this.m_binary);
+	}
+	
+	@Benchmark
+	public Word setBinaryValue() {
+		return this.m_word.setValue(this.m_binary);
+	}
+	
+	@Benchmark
+	public String toHexString() {
+		return this.m_word.toHexString();
+	}
+	
+	@Benchmark
+	public Word setHexValue() {
+		return this.m_word.setHexValue(this.m_hex);
+	}
+	
+	@Benchmark
+	public String toBase64String() {
+		return this.m_word.toBase64String();
+	}
+	
+	@Benchmark
+	public Word setBase64Value() {
+		return this.m_word.setBase64Value(this.m_base64);
+	}
+	
+}
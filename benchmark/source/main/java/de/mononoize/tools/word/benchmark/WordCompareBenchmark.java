@@ -0,0 +1,55 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the comparison and hash operations of the {@code Word} class. The compared {@code Word}s are equal
+ * except for their least significant bit, which is the worst case for a comparison.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordCompareBenchmark extends AbstractWordBenchmark {
+
+	/**
+	 * The probability of a bit to be set to {@code 1}.
+	 */
+	@Param({"0.01", "0.5", "0.99"})
+	public double density;
+	
+	private Word m_word;
+	
+	private Word m_other;
+	
+	@Setup
+	public void setup() {
+		this.m_word = createWord(this.size, this.density, new Random(SEED));
+		this.m_other = Word.of(this.m_word).flip(0);
+	}
+	
+	@Benchmark
+	public int compareTo() {
+		return this.m_word.compareTo(this.m_other);
+	}
+	
+	@Benchmark
+	public boolean equals() {
+		return this.m_word.equals(this.m_other);
+	}
+	
+	@Benchmark
+	public int hashCodeInt() {
+		return this.m_word.hashCode();
+	}
+	
+	@Benchmark
+	public long hash64() {
+		return this.m_word.hash64();
+	}
+	
+}
@@ -0,0 +1,64 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the logical operations of the {@code Word} class.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordLogicBenchmark extends AbstractWordBenchmark {
+
+	private Word m_word;
+	
+	private Word m_operand;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = createWord(this.size, 0.5, random);
+		this.m_operand = createWord(this.size, 0.5, random);
+	}
+	
+	@Benchmark
+	public Word not() {
+		return this.m_word.not();
+	}
+	
+	@Benchmark
+	public Word and() {
+		return this.m_word.and(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word nand() {
+		return this.m_word.nand(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word xor() {
+		return this.m_word.xor(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word or() {
+		return this.m_word.or(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word nor() {
+		return this.m_word.nor(this.m_operand);
+	}
+	
+	@Benchmark
+	public Word flipRange() {
+		return this.m_word.flip(1, this.size - 1);
+	}
+	
+}
@@ -0,0 +1,65 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.ParallelWordAccess;
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the parallel operations of the {@code ParallelWordAccess} class, compared to the sequential
+ * operations of the {@code Word} class. Words up to the default threshold are processed sequentially, so the
+ * benchmark should be run with large words (e.g. {@code -p size=16777216,134217728}).
+ * 
+ * @author Alexander Mattes
+ */
+public class WordParallelBenchmark extends AbstractWordBenchmark {
+
+	private Word m_word;
+	
+	private Word m_operand;
+	
+	private ParallelWordAccess m_parallel;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(SEED);
+		
+		this.m_word = createWord(this.size, 0.5, random);
+		this.m_operand = createWord(this.size, 0.5, random);
+		this.m_parallel = this.m_word.parallel();
+	}
+	
+	@Benchmark
+	public int countOnes() {
+		return this.m_word.countOnes();
+	}
+	
+	@Benchmark
+	public int parallelCountOnes() {
+		return this.m_parallel.countOnes();
+	}
+	
+	@Benchmark
+	public Word xor() {
+		return this.m_word.xor(this.m_operand);
+	}
+	
+	@Benchmark
+	public ParallelWordAccess parallelXor() {
+		return this.m_parallel.xor(this.m_operand);
+	}
+	
+	@Benchmark
+	public int compareTo() {
+		return this.m_word.compareTo(this.m_operand);
+	}
+	
+	@Benchmark
+	public int parallelCompareTo() {
+		return this.m_parallel.compareTo(this.m_operand);
+	}
+	
+}
@@ -0,0 +1,76 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the find and count operations of the {@code Word} class.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordScanBenchmark extends AbstractWordBenchmark {
+
+	/**
+	 * The probability of a bit to be set to {@code 1}.
+	 */
+	@Param({"0.0001", "0.5", "0.9999"})
+	public double density;
+	
+	private Word m_word;
+	
+	@Setup
+	public void setup() {
+		this.m_word = createWord(this.size, this.density, new Random(SEED));
+	}
+	
+	@Benchmark
+	public int findFirstOne() {
+		return this.m_word.findFirstOne();
+	}
+	
+	@Benchmark
+	public int findLastOne() {
+		return this.m_word.findLastOne();
+	}
+	
+	@Benchmark
+	public int findFirstZero() {
+		return this.m_word.findFirstZero();
+	}
+	
+	@Benchmark
+	public int findLastZero() {
+		return this.m_word.findLastZero();
+	}
+	
+	@Benchmark
+	public int countOnes() {
+		return this.m_word.countOnes();
+	}
+	
+	@Benchmark
+	public int countLeadingOnes() {
+		return this.m_word.countLeadingOnes();
+	}
+	
+	@Benchmark
+	public int countLeadingZeros() {
+		return this.m_word.countLeadingZeros();
+	}
+	
+	@Benchmark
+	public int countTrailingOnes() {
+		return this.m_word.countTrailingOnes();
+	}
+	
+	@Benchmark
+	public int countTrailingZeros() {
+		return this.m_word.countTrailingZeros();
+	}
+	
+}
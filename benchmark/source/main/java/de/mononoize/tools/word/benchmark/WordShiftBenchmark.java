@@ -0,0 +1,60 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the shift and rotate operations of the {@code Word} class. As the shift operations discard bits, the
+ * shifted {@code Word} is reset first. The {@link #setValue()} benchmark measures the cost of the reset alone.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordShiftBenchmark extends AbstractWordBenchmark {
+
+	/**
+	 * The offset to be used.
+	 */
+	@Param({"1", "37", "100"})
+	public int offset;
+	
+	private Word m_source;
+	
+	private Word m_word;
+	
+	@Setup
+	public void setup() {
+		this.m_source = createWord(this.size, 0.5, new Random(SEED));
+		this.m_word = Word.of(this.m_source);
+	}
+	
+	@Benchmark
+	public Word setValue() {
+		return this.m_word.setValue(this.m_source);
+	}
+	
+	@Benchmark
+	public Word shl() {
+		return this.m_word.setValue(this.m_source).shl(this.offset);
+	}
+	
+	@Benchmark
+	public Word shr() {
+		return this.m_word.setValue(this.m_source).shr(this.offset);
+	}
+	
+	@Benchmark
+	public Word rol() {
+		return this.m_word.rol(this.offset);
+	}
+	
+	@Benchmark
+	public Word ror() {
+		return this.m_word.ror(this.offset);
+	}
+	
+}
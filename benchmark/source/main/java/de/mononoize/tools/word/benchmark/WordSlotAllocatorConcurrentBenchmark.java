@@ -0,0 +1,65 @@
+package de.mononoize.tools.word.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mononoize.tools.word.SynchronizedWord;
+import de.mononoize.tools.word.WordSlotAllocator;
+
+/**
+ * Benchmarks for a {@code WordSlotAllocator} that is shared by all benchmark threads, compared to the allocation with
+ * {@code findFirstZero()} and {@code set(int)} under the lock of a {@code SynchronizedWord}. Each benchmark acquires
+ * and releases slots (i.e. an alloc/free pair). The benchmark is run with an increasing number of threads by
+ * {@link WordBenchmarks}.
+ * 
+ * @author Alexander Mattes
+ */
+@State(Scope.Benchmark)
+public class WordSlotAllocatorConcurrentBenchmark extends AbstractWordBenchmark {
+
+	private WordSlotAllocator m_allocator;
+	
+	private SynchronizedWord m_word;
+	
+	@Setup
+	public void setup() {
+		this.m_allocator = new WordSlotAllocator(this.size);
+		this.m_word = new SynchronizedWord(this.size);
+	}
+	
+	@Benchmark
+	public int acquireRelease() {
+		final int index = this.m_allocator.acquire();
+		if (index != -1) {
+			this.m_allocator.release(index);
+		}
+		return index;
+	}
+	
+	@Benchmark
+	public int acquireReleaseRange() {
+		final int index = this.m_allocator.acquire(4);
+		if (index != -1) {
+			this.m_allocator.release(index, 4);
+		}
+		return index;
+	}
+	
+	@Benchmark
+	public int synchronizedFindFirstZero() {
+		final int index;
+		synchronized (this.m_word) {
+			index = this.m_word.findFirstZero();
+			if (index != -1) {
+				this.m_word.set(index);
+			}
+		}
+		if (index != -1) {
+			this.m_word.clear(index);
+		}
+		return index;
+	}
+	
+}
@@ -0,0 +1,34 @@
+package de.mononoize.tools.word.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import de.mononoize.tools.word.Word;
+
+/**
+ * Benchmarks for the stream of the {@code Word} class.
+ * 
+ * @author Alexander Mattes
+ */
+public class WordStreamBenchmark extends AbstractWordBenchmark {
+
+	private Word m_word;
+	
+	@Setup
+	public void setup() {
+		this.m_word = createWord(this.size, 0.5, new Random(SEED));
+	}
+	
+	@Benchmark
+	public long streamSum() {
+		return this.m_word.stream().sum();
+	}
+	
+	@Benchmark
+	public long parallelStreamSum() {
+		return this.m_word.stream().parallel().sum();
+	}
+	
+}
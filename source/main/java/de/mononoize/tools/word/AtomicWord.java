@@ -0,0 +1,576 @@
+package de.mononoize.tools.word;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A lock-free set of bits with a fixed size. The elements of the (internal) data storage array are accessed with
+ * atomic read-modify-write operations (see: {@link VarHandle}), so that concurrent updates of different bits never
+ * get lost.</p>
+ *
+ * <p>The following consistency guarantees apply:</p>
+ * <ul>
+ * <li>Operations on a single bit (e.g. {@link #set(int)}, {@link #clear(int)}, {@link #flip(int)} and
+ * {@link #getBoolean(int)}) and range operations within a single element are linearizable.</li>
+ * <li>Range operations spanning several elements and the logical operations (e.g. {@link #and(Word)}) update each
+ * element atomically, but not the {@code AtomicWord} as a whole. Concurrent updates are never lost, but a concurrent
+ * reader may observe an operation that is only partially applied.</li>
+ * <li>Read operations over all bits (e.g. {@link #countOnes()}, {@link #toString()} or {@link #equals(Object)}) read
+ * each element atomically (without copying the {@code AtomicWord}), but the result does not necessarily reflect a
+ * single point in time.</li>
+ * <li>Operations that move bits between elements (i.e. the shift and rotate operations) and the {@code setValue}
+ * operations are computed on a copy (see: {@link #snapshot()}) that is written back element by element. These
+ * operations are not atomic, concurrent updates of other bits may get lost.</li>
+ * </ul>
+ *
+ * <p>See: {@link Word}.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class AtomicWord extends Word {
+
+	@Serial
+	private static final long serialVersionUID = -4279311594370529117L;
+
+	/**
+	 * The variable handle used to access the elements of the (internal) data storage array.
+	 */
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+	/**
+	 * Constructs a new {@code AtomicWord} with the given number of bits. Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 */
+	public AtomicWord(final int size) {
+		super(size);
+	}
+
+	/**
+	 * Returns a copy of this {@code AtomicWord} as a plain {@code Word}. Each element of the (internal) data storage
+	 * array is read atomically, but the copy does not necessarily reflect a single point in time if this
+	 * {@code AtomicWord} is modified concurrently.
+	 *
+	 * @return A copy of this {@code AtomicWord}.
+	 */
+	public Word snapshot() {
+		final Word result = new Word(this.m_size);
+
+		for (int i = 0; i < this.m_data.length; i++) {
+			result.m_data[i] = (long) ELEMENTS.getVolatile(this.m_data, i);
+		}
+
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		final long hash = this.hash64();
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	@Override
+	public long hash64() {
+		return hash64(this.elements(), 0, this.m_data.length, this.m_size);
+	}
+
+	@Override
+    public boolean equals(final Object object) {
+		if (object == null) {
+			return false;
+		}
+
+		if (this == object) {
+			return true;
+		}
+
+		if (this.getClass() != object.getClass()) {
+			return false;
+		}
+
+		final AtomicWord that = (AtomicWord) object;
+
+		return (this.m_size == that.m_size)
+			&& (compare(this.elements(), 0, that.elements(), 0, this.m_data.length) == 0);
+	}
+
+	@Override
+	public Object clone() {
+		return new AtomicWord(this.m_size).publish(this.snapshot());
+	}
+
+	@Override
+	public int compareTo(final Word that) {
+		Validate.notNull(that, "The word must not be null.");
+		Validate.isTrue(this.m_size == that.m_size, "Different word sizes not allowed.");
+
+		return compare(this.elements(), 0, new VolatileElements(that.m_data), 0, this.m_data.length);
+	}
+
+	@Override
+	public String toString() {
+		try {
+			return this.formatTo(new StringBuilder(this.m_size)).toString();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public String toHexString() {
+		return toHexString(this.elements(), 0, this.m_size);
+	}
+
+	@Override
+	public String toBase64String() {
+		return this.snapshot().toBase64String();
+	}
+
+	@Override
+	public <T extends Appendable> T formatTo(final T appendable) throws IOException {
+		return formatTo(this.elements(), 0, this.m_size, appendable);
+	}
+
+	@Override
+	public byte toByte() {
+		return (byte) this.getElement(0);
+	}
+
+	@Override
+	public short toShort() {
+		return (short) this.getElement(0);
+	}
+
+	@Override
+	public int toInteger() {
+		return (int) this.getElement(0);
+	}
+
+	@Override
+	public long toLong() {
+		return this.getElement(0);
+	}
+
+	@Override
+	public char toChar() {
+		return (char) this.getElement(0);
+	}
+
+	@Override
+	public long[] toLongArray() {
+		return this.snapshot().m_data;
+	}
+
+	@Override
+	public byte[] toByteArray(final ByteOrder order) {
+		return this.snapshot().toByteArray(order);
+	}
+
+	@Override
+	public ByteBuffer writeTo(final ByteBuffer buffer) {
+		return this.snapshot().writeTo(buffer);
+	}
+
+	@Override
+	public Word setValue(final Word that) {
+		Validate.notNull(that, "The word must not be null.");
+		Validate.isTrue(this.m_size == that.m_size, "Different word sizes not allowed.");
+
+		return this.publish((that instanceof AtomicWord) ? ((AtomicWord) that).snapshot() : that);
+	}
+
+	@Override
+	public Word setValue(final String value) {
+		return this.publish(new Word(this.m_size).setValue(value));
+	}
+
+	@Override
+	public Word setHexValue(final String value) {
+		return this.publish(new Word(this.m_size).setHexValue(value));
+	}
+
+	@Override
+	public Word setBase64Value(final String value) {
+		return this.publish(new Word(this.m_size).setBase64Value(value));
+	}
+
+	@Override
+	public Word setValue(final byte value) {
+		return this.publish(new Word(this.m_size).setValue(value));
+	}
+
+	@Override
+	public Word setValue(final short value) {
+		return this.publish(new Word(this.m_size).setValue(value));
+	}
+
+	@Override
+	public Word setValue(final int value) {
+		return this.publish(new Word(this.m_size).setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long value) {
+		return this.publish(new Word(this.m_size).setValue(value));
+	}
+
+	@Override
+	public Word setValue(final char value) {
+		return this.publish(new Word(this.m_size).setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long[] values) {
+		return this.publish(new Word(this.m_size).setValue(values));
+	}
+
+	@Override
+	public Word setValue(final byte[] bytes, final ByteOrder order) {
+		return this.publish(new Word(this.m_size).setValue(bytes, order));
+	}
+
+	@Override
+	public Word readFrom(final ByteBuffer buffer) {
+		return this.publish(new Word(this.m_size).readFrom(buffer));
+	}
+
+	@Override
+	public boolean getBoolean(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		return ((this.getElement(index >>> ELEMENT_ADDRESS_BITS) & (ONE << index)) != 0);
+	}
+
+	@Override
+	public Word set(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		ELEMENTS.getAndBitwiseOr(this.m_data, index >>> ELEMENT_ADDRESS_BITS, ONE << index);
+
+		return this;
+	}
+
+	@Override
+	public Word set(final int startIndex, final int endIndex) {
+		checkRange(this.m_size, startIndex, endIndex);
+
+		final int startWordIndex = startIndex >>> ELEMENT_ADDRESS_BITS;
+		final int endWordIndex = endIndex >>> ELEMENT_ADDRESS_BITS;
+
+		ELEMENTS.getAndBitwiseOr(this.m_data, startWordIndex, getMask(startWordIndex, startIndex, endIndex));
+		if (startWordIndex != endWordIndex) {
+			for (int i = (startWordIndex + 1); i < endWordIndex; i++) {
+				ELEMENTS.setVolatile(this.m_data, i, MAX);
+			}
+			ELEMENTS.getAndBitwiseOr(this.m_data, endWordIndex, getMask(endWordIndex, startIndex, endIndex));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word clear(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index , "Index out of bounds.");
+
+		ELEMENTS.getAndBitwiseAnd(this.m_data, index >>> ELEMENT_ADDRESS_BITS, ~(ONE << index));
+
+		return this;
+	}
+
+	@Override
+	public Word clear(final int startIndex, final int endIndex) {
+		checkRange(this.m_size, startIndex, endIndex);
+
+		final int startWordIndex = startIndex >>> ELEMENT_ADDRESS_BITS;
+		final int endWordIndex = endIndex >>> ELEMENT_ADDRESS_BITS;
+
+		ELEMENTS.getAndBitwiseAnd(this.m_data, startWordIndex, ~getMask(startWordIndex, startIndex, endIndex));
+		if (startWordIndex != endWordIndex) {
+			for (int i = (startWordIndex + 1); i < endWordIndex; i++) {
+				ELEMENTS.setVolatile(this.m_data, i, ZERO);
+			}
+			ELEMENTS.getAndBitwiseAnd(this.m_data, endWordIndex, ~getMask(endWordIndex, startIndex, endIndex));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word clear() {
+		for (int i = 0; i < this.m_data.length; i++) {
+			ELEMENTS.setVolatile(this.m_data, i, ZERO);
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word flip(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		ELEMENTS.getAndBitwiseXor(this.m_data, index >>> ELEMENT_ADDRESS_BITS, ONE << index);
+
+		return this;
+	}
+
+	@Override
+	public Word flip(final int startIndex, final int endIndex) {
+		checkRange(this.m_size, startIndex, endIndex);
+
+		final int startWordIndex = startIndex >>> ELEMENT_ADDRESS_BITS;
+		final int endWordIndex = endIndex >>> ELEMENT_ADDRESS_BITS;
+
+		ELEMENTS.getAndBitwiseXor(this.m_data, startWordIndex, getMask(startWordIndex, startIndex, endIndex));
+		if (startWordIndex != endWordIndex) {
+			for (int i = (startWordIndex + 1); i < endWordIndex; i++) {
+				ELEMENTS.getAndBitwiseXor(this.m_data, i, MAX);
+			}
+			ELEMENTS.getAndBitwiseXor(this.m_data, endWordIndex, getMask(endWordIndex, startIndex, endIndex));
+		}
+
+		return this;
+	}
+
+	@Override
+	public int findFirstOne() {
+		return findFirstOne(this.elements(), 0, this.m_data.length);
+	}
+
+	@Override
+	public int findLastOne() {
+		return findLastOne(this.elements(), 0, this.m_data.length);
+	}
+
+	@Override
+	public int findFirstZero() {
+		return findFirstZero(this.elements(), 0, this.m_data.length, getLastElementMask(this.m_size));
+	}
+
+	@Override
+	public int findLastZero() {
+		return findLastZero(this.elements(), 0, this.m_data.length, getLastElementMask(this.m_size));
+	}
+
+	@Override
+	public int countOnes() {
+		return countOnes(this.elements(), 0, this.m_data.length);
+	}
+
+	@Override
+	public Word and(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		if (this == that) {
+			return this;
+		}
+
+		for (int i = 0; i < this.m_data.length; i++) {
+			ELEMENTS.getAndBitwiseAnd(this.m_data, i, (long) ELEMENTS.getVolatile(that.m_data, i));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word nand(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		if (this == that) {
+			return this.not();
+		}
+
+		final int last = this.m_data.length - 1;
+
+		for (int i = 0; i <= last; i++) {
+			final long other = (long) ELEMENTS.getVolatile(that.m_data, i);
+			final long mask = (i == last) ? getLastElementMask(this.m_size) : MAX;
+
+			long current;
+			do {
+				current = this.getElement(i);
+			} while (!ELEMENTS.compareAndSet(this.m_data, i, current, ~(current & other) & mask));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word xor(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		if (this == that) {
+			return this.clear();
+		}
+
+		for (int i = 0; i < this.m_data.length; i++) {
+			ELEMENTS.getAndBitwiseXor(this.m_data, i, (long) ELEMENTS.getVolatile(that.m_data, i));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word or(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		if (this == that) {
+			return this;
+		}
+
+		for (int i = 0; i < this.m_data.length; i++) {
+			ELEMENTS.getAndBitwiseOr(this.m_data, i, (long) ELEMENTS.getVolatile(that.m_data, i));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word nor(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		if (this == that) {
+			return this.not();
+		}
+
+		final int last = this.m_data.length - 1;
+
+		for (int i = 0; i <= last; i++) {
+			final long other = (long) ELEMENTS.getVolatile(that.m_data, i);
+			final long mask = (i == last) ? getLastElementMask(this.m_size) : MAX;
+
+			long current;
+			do {
+				current = this.getElement(i);
+			} while (!ELEMENTS.compareAndSet(this.m_data, i, current, ~(current | other) & mask));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Word shl(final int offset) {
+		return this.publish(this.snapshot().shl(offset));
+	}
+
+	@Override
+	public Word shr(final int offset) {
+		return this.publish(this.snapshot().shr(offset));
+	}
+
+	@Override
+	public Word rol(final int offset) {
+		return this.publish(this.snapshot().rol(offset));
+	}
+
+	@Override
+	public Word ror(final int offset) {
+		return this.publish(this.snapshot().ror(offset));
+	}
+
+	/**
+	 * An unchecked access would bypass the atomic element access of this {@code AtomicWord} and is therefore not
+	 * supported.
+	 *
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public WordAccess unchecked() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A parallel access would bypass the atomic element access of this {@code AtomicWord} and is therefore not
+	 * supported.
+	 *
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public ParallelWordAccess parallel(final ForkJoinPool pool, final int threshold) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return this.snapshot().spliterator();
+	}
+
+	/**
+	 * Returns the element of the (internal) data storage array at the given index (using volatile semantics).
+	 *
+	 * @param index The index of the element to be returned.
+	 * @return The element at the given index.
+	 */
+	private long getElement(final int index) {
+		return (long) ELEMENTS.getVolatile(this.m_data, index);
+	}
+
+	/**
+	 * Returns the elements of the (internal) data storage array, which are read and written with volatile semantics.
+	 *
+	 * @return The elements of the (internal) data storage array.
+	 */
+	private Elements elements() {
+		return new VolatileElements(this.m_data);
+	}
+
+	/**
+	 * Writes the elements of the (internal) data storage array of the given {@code Word} to this {@code AtomicWord}
+	 * element by element (using volatile semantics).
+	 *
+	 * @param value The value to be written, which must have the same size as this {@code AtomicWord}.
+	 * @return A reference to this {@code AtomicWord}.
+	 */
+	private AtomicWord publish(final Word value) {
+		for (int i = 0; i < this.m_data.length; i++) {
+			ELEMENTS.setVolatile(this.m_data, i, value.m_data[i]);
+		}
+
+		return this;
+	}
+
+	/**
+	 * The elements of an (internal) data storage array, which are read and written with volatile semantics.
+	 */
+	private static final class VolatileElements extends Elements {
+
+		/**
+		 * The (internal) data storage array.
+		 */
+		private final long[] m_data;
+
+		/**
+		 * Constructs new {@code VolatileElements} of the given (internal) data storage array.
+		 *
+		 * @param data The (internal) data storage array.
+		 */
+		private VolatileElements(final long[] data) {
+			this.m_data = data;
+		}
+
+		@Override
+		long get(final int index) {
+			return (long) ELEMENTS.getVolatile(this.m_data, index);
+		}
+
+		@Override
+		void put(final int index, final long value) {
+			ELEMENTS.setVolatile(this.m_data, index, value);
+		}
+
+	}
+
+}
@@ -0,0 +1,453 @@
+package de.mononoize.tools.word;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A set of bits with a fixed size that is modified by a single thread and read by many threads without locking.</p>
+ *
+ * <p>The bits are stored in two buffers. The writer modifies the back buffer and publishes it as the front buffer by
+ * incrementing a sequence counter (a release store). Afterwards, the same modification is applied to the previous
+ * front buffer, which becomes the new back buffer, so that both buffers are equal again (similar to the Left-Right
+ * technique). Hence, a modification of a single bit does not copy the buffer.</p>
+ *
+ * <p>Readers read the front buffer and validate the sequence counter afterwards (similar to a sequence lock). Only if a
+ * modification has been published in the meantime, the read is repeated. Readers do not write to shared memory and
+ * do not allocate objects.</p>
+ *
+ * <p>This class does not synchronize the writers: The modifying operations must not be invoked concurrently.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class DoubleBufferedWord {
+
+	/**
+	 * The buffers. The front buffer is the buffer at index {@code m_sequence & 1}.
+	 */
+	private final Word[] m_buffers;
+
+	/**
+	 * The sequence counter, which is incremented by each published modification.
+	 */
+	private volatile long m_sequence;
+
+	/**
+	 * Constructs a new {@code DoubleBufferedWord} with the given number of bits. Initially, all bits are set to
+	 * {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 */
+	public DoubleBufferedWord(final int size) {
+		this.m_buffers = new Word[] {new Word(size), new Word(size)};
+	}
+
+	/**
+	 * Returns the number of bits of this {@code DoubleBufferedWord}.
+	 *
+	 * @return The number of bits of this {@code DoubleBufferedWord}.
+	 */
+	public int getSize() {
+		return this.m_buffers[0].m_size;
+	}
+
+	/**
+	 * Returns the number of published modifications.
+	 *
+	 * @return The number of published modifications.
+	 */
+	public long getSequence() {
+		return this.m_sequence;
+	}
+
+	/**
+	 * Returns the bit at the given index as a {@code boolean}.
+	 *
+	 * @param index The index of the bit to be returned.
+	 * @return The bit at the given index as a {@code boolean}.
+	 */
+	public boolean getBoolean(final int index) {
+		Validate.inclusiveBetween(0, (this.getSize() - 1), index, "Index out of bounds.");
+
+		return (this.readElement(index >>> Word.ELEMENT_ADDRESS_BITS) & (Word.ONE << index)) != Word.ZERO;
+	}
+
+	/**
+	 * Returns the highest bit as a {@code boolean}.
+	 *
+	 * @return The highest bit as a {@code boolean}.
+	 */
+	public boolean getBoolean() {
+		return this.getBoolean(this.getSize() - 1);
+	}
+
+	/**
+	 * Returns the index of the lowest bit set to {@code 1}.
+	 *
+	 * @return The index of the lowest bit set to {@code 1} or {@code -1} if there is no such bit.
+	 */
+	public int findFirstOne() {
+		return this.readInt(Word::findFirstOne);
+	}
+
+	/**
+	 * Returns the index of the highest bit set to {@code 1}.
+	 *
+	 * @return The index of the highest bit set to {@code 1} or {@code -1} if there is no such bit.
+	 */
+	public int findLastOne() {
+		return this.readInt(Word::findLastOne);
+	}
+
+	/**
+	 * Returns the index of the lowest bit set to {@code 0}.
+	 *
+	 * @return The index of the lowest bit set to {@code 0} or {@code -1} if there is no such bit.
+	 */
+	public int findFirstZero() {
+		return this.readInt(Word::findFirstZero);
+	}
+
+	/**
+	 * Returns the index of the highest bit set to {@code 0}.
+	 *
+	 * @return The index of the highest bit set to {@code 0} or {@code -1} if there is no such bit.
+	 */
+	public int findLastZero() {
+		return this.readInt(Word::findLastZero);
+	}
+
+	/**
+	 * Returns the number of bits set to {@code 1}.
+	 *
+	 * @return The number of bits set to {@code 1}.
+	 */
+	public int countOnes() {
+		return this.readInt(Word::countOnes);
+	}
+
+	/**
+	 * Returns the number of bits set to {@code 0}.
+	 *
+	 * @return The number of bits set to {@code 0}.
+	 */
+	public int countZeros() {
+		return this.readInt(Word::countZeros);
+	}
+
+	/**
+	 * Returns the number of leading (i.e. highest) bits set to {@code 1}.
+	 *
+	 * @return The number of leading bits set to {@code 1}.
+	 */
+	public int countLeadingOnes() {
+		return this.readInt(Word::countLeadingOnes);
+	}
+
+	/**
+	 * Returns the number of leading (i.e. highest) bits set to {@code 0}.
+	 *
+	 * @return The number of leading bits set to {@code 0}.
+	 */
+	public int countLeadingZeros() {
+		return this.readInt(Word::countLeadingZeros);
+	}
+
+	/**
+	 * Returns the number of trailing (i.e. lowest) bits set to {@code 1}.
+	 *
+	 * @return The number of trailing bits set to {@code 1}.
+	 */
+	public int countTrailingOnes() {
+		return this.readInt(Word::countTrailingOnes);
+	}
+
+	/**
+	 * Returns the number of trailing (i.e. lowest) bits set to {@code 0}.
+	 *
+	 * @return The number of trailing bits set to {@code 0}.
+	 */
+	public int countTrailingZeros() {
+		return this.readInt(Word::countTrailingZeros);
+	}
+
+	/**
+	 * Returns the lowest {@code 64} bits as a {@code long}.
+	 *
+	 * @return The lowest {@code 64} bits as a {@code long}.
+	 */
+	public long toLong() {
+		return this.readElement(0);
+	}
+
+	/**
+	 * Returns the 64-bit hash value (see: {@link Word#hash64()}).
+	 *
+	 * @return The 64-bit hash value.
+	 */
+	public long hash64() {
+		return this.readLong(Word::hash64);
+	}
+
+	/**
+	 * Compares this {@code DoubleBufferedWord} with the given {@code Word} as unsigned values (see:
+	 * {@link Word#compare(Word, Word)}).
+	 *
+	 * @param that The word to be compared.
+	 * @return {@code -1}, {@code 0}, or {@code 1} if this {@code DoubleBufferedWord} is less than, equal to, or
+	 *         greater than the given {@code Word}.
+	 */
+	public int compareTo(final Word that) {
+		Validate.notNull(that, "The word must not be null.");
+		Validate.isTrue(this.getSize() == that.m_size, "Different word sizes not allowed.");
+
+		while (true) {
+			final long sequence = this.m_sequence;
+			final int result = Word.compare(this.m_buffers[(int) sequence & 1], that);
+
+			if (this.validate(sequence)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Copies the bits to the given {@code Word}.
+	 *
+	 * @param destination The word to be used.
+	 * @return The given {@code Word}.
+	 */
+	public Word copyTo(final Word destination) {
+		Validate.notNull(destination, "The word must not be null.");
+		Validate.isTrue(this.getSize() == destination.m_size, "Different word sizes not allowed.");
+
+		while (true) {
+			final long sequence = this.m_sequence;
+			destination.setValue(this.m_buffers[(int) sequence & 1]);
+
+			if (this.validate(sequence)) {
+				return destination;
+			}
+		}
+	}
+
+	/**
+	 * Returns a copy of the bits.
+	 *
+	 * @return A copy of the bits.
+	 */
+	public Word snapshot() {
+		return this.copyTo(new Word(this.getSize()));
+	}
+
+	@Override
+	public String toString() {
+		return this.snapshot().toString();
+	}
+
+	/**
+	 * Sets the given bit to {@code 1} and publishes the modification.
+	 *
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord set(final int index) {
+		this.getBackBuffer().set(index);
+		this.publish().set(index);
+
+		return this;
+	}
+
+	/**
+	 * Sets all bits from {@code startIndex} to {@code endIndex} (inclusive) to {@code 1} and publishes the
+	 * modification.
+	 *
+	 * @param startIndex The index of the first bit to be set.
+	 * @param endIndex The index of the last bit to be set.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord set(final int startIndex, final int endIndex) {
+		this.getBackBuffer().set(startIndex, endIndex);
+		this.publish().set(startIndex, endIndex);
+
+		return this;
+	}
+
+	/**
+	 * Sets the given bit to {@code 0} and publishes the modification.
+	 *
+	 * @param index The index of the bit to be cleared.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord clear(final int index) {
+		this.getBackBuffer().clear(index);
+		this.publish().clear(index);
+
+		return this;
+	}
+
+	/**
+	 * Sets all bits from {@code startIndex} to {@code endIndex} (inclusive) to {@code 0} and publishes the
+	 * modification.
+	 *
+	 * @param startIndex The index of the first bit to be cleared.
+	 * @param endIndex The index of the last bit to be cleared.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord clear(final int startIndex, final int endIndex) {
+		this.getBackBuffer().clear(startIndex, endIndex);
+		this.publish().clear(startIndex, endIndex);
+
+		return this;
+	}
+
+	/**
+	 * Flips the given bit and publishes the modification.
+	 *
+	 * @param index The index of the bit to be flipped.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord flip(final int index) {
+		this.getBackBuffer().flip(index);
+		this.publish().flip(index);
+
+		return this;
+	}
+
+	/**
+	 * Flips all bits from {@code startIndex} to {@code endIndex} (inclusive) and publishes the modification.
+	 *
+	 * @param startIndex The index of the first bit to be flipped.
+	 * @param endIndex The index of the last bit to be flipped.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord flip(final int startIndex, final int endIndex) {
+		this.getBackBuffer().flip(startIndex, endIndex);
+		this.publish().flip(startIndex, endIndex);
+
+		return this;
+	}
+
+	/**
+	 * Sets the value and publishes the modification.
+	 *
+	 * @param that The value to be used.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord setValue(final Word that) {
+		this.getBackBuffer().setValue(that);
+		this.publish().setValue(that);
+
+		return this;
+	}
+
+	/**
+	 * Applies the given modification and publishes it as a single modification. The modification is applied to both
+	 * buffers and must therefore be deterministic and must not have any other side effects. The given {@code Word}
+	 * must not be used after the modification has returned.
+	 *
+	 * @param modification The modification to be applied.
+	 * @return A reference to this {@code DoubleBufferedWord}.
+	 */
+	public DoubleBufferedWord update(final Consumer<? super Word> modification) {
+		Validate.notNull(modification, "The modification must not be null.");
+
+		modification.accept(this.getBackBuffer());
+		modification.accept(this.publish());
+
+		return this;
+	}
+
+	/**
+	 * Returns the back buffer, which is not read by readers that have observed the current sequence counter.
+	 *
+	 * @return The back buffer.
+	 */
+	private Word getBackBuffer() {
+		return this.m_buffers[(int) (this.m_sequence + 1) & 1];
+	}
+
+	/**
+	 * Publishes the back buffer as the front buffer and returns the previous front buffer, which must be modified in
+	 * the same way.
+	 *
+	 * @return The new back buffer.
+	 */
+	private Word publish() {
+		final long sequence = this.m_sequence;
+		this.m_sequence = sequence + 1;
+
+		// The modifications of the new back buffer must not become visible before the new sequence counter.
+		VarHandle.storeStoreFence();
+
+		return this.m_buffers[(int) sequence & 1];
+	}
+
+	/**
+	 * Returns whether a read that started at the given sequence counter has read a consistent state.
+	 *
+	 * @param sequence The sequence counter observed before the read.
+	 * @return {@code true} if no modification has been published since, otherwise {@code false}.
+	 */
+	private boolean validate(final long sequence) {
+		// The reads of the buffer must not be reordered after the read of the sequence counter.
+		VarHandle.loadLoadFence();
+
+		return this.m_sequence == sequence;
+	}
+
+	/**
+	 * Executes the given read operation on the front buffer.
+	 *
+	 * @param operation The read operation to be executed.
+	 * @return The result of the read operation.
+	 */
+	private int readInt(final ToIntFunction<Word> operation) {
+		while (true) {
+			final long sequence = this.m_sequence;
+			final int result = operation.applyAsInt(this.m_buffers[(int) sequence & 1]);
+
+			if (this.validate(sequence)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Executes the given read operation on the front buffer.
+	 *
+	 * @param operation The read operation to be executed.
+	 * @return The result of the read operation.
+	 */
+	private long readLong(final ToLongFunction<Word> operation) {
+		while (true) {
+			final long sequence = this.m_sequence;
+			final long result = operation.applyAsLong(this.m_buffers[(int) sequence & 1]);
+
+			if (this.validate(sequence)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Returns the given element of the (internal) data storage array of the front buffer.
+	 *
+	 * @param element The index of the element.
+	 * @return The element.
+	 */
+	private long readElement(final int element) {
+		while (true) {
+			final long sequence = this.m_sequence;
+			final long result = this.m_buffers[(int) sequence & 1].m_data[element];
+
+			if (this.validate(sequence)) {
+				return result;
+			}
+		}
+	}
+
+}
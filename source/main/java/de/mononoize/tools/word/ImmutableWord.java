@@ -1,6 +1,9 @@
 package de.mononoize.tools.word;
 
 import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <p>An immutable set of bits with a fixed size.</p>
@@ -16,10 +19,12 @@ public final class ImmutableWord extends Word {
 
 	/**
 	 * Constructs a new {@code ImmutableWord} with the given number of bits. Initially, all bits are set to {@code 0}.
+	 * The value is defined by writing the (internal) data storage array before the {@code ImmutableWord} is published
+	 * (see: {@link VersionedWord}).
 	 * 
 	 * @param size The number of bits to be used.
 	 */
-	private ImmutableWord(int size) {
+	ImmutableWord(int size) {
 		super(size);
 	}
 
@@ -33,6 +38,16 @@ public final class ImmutableWord extends Word {
 		throw new UnsupportedOperationException();
 	}
 	
+	@Override
+	public Word setHexValue(final String value) {
+		throw new UnsupportedOperationException();
+	}
+	
+	@Override
+	public Word setBase64Value(final String value) {
+		throw new UnsupportedOperationException();
+	}
+	
 	@Override
 	public Word setValue(final byte value) {
 		throw new UnsupportedOperationException();
@@ -58,6 +73,21 @@ public final class ImmutableWord extends Word {
 		throw new UnsupportedOperationException();
 	}
 	
+	@Override
+	public Word setValue(final long[] values) {
+		throw new UnsupportedOperationException();
+	}
+	
+	@Override
+	public Word setValue(final byte[] bytes, final ByteOrder order) {
+		throw new UnsupportedOperationException();
+	}
+	
+	@Override
+	public Word readFrom(final ByteBuffer buffer) {
+		throw new UnsupportedOperationException();
+	}
+	
 	@Override
 	public Word set(final int index) {
 		throw new UnsupportedOperationException();
@@ -172,4 +202,28 @@ public final class ImmutableWord extends Word {
 		throw new UnsupportedOperationException();
 	}
 	
+	/**
+	 * Returns a read-only unchecked access to the bits of this {@code ImmutableWord}, which throws an
+	 * {@link UnsupportedOperationException} from the modifying methods only.
+	 * 
+	 * @return A read-only unchecked access to the bits of this {@code ImmutableWord}.
+	 */
+	@Override
+	public WordAccess unchecked() {
+		return new WordAccess(this, true);
+	}
+	
+	/**
+	 * Returns a read-only parallel access to the bits of this {@code ImmutableWord}, which throws an
+	 * {@link UnsupportedOperationException} from the modifying methods only.
+	 * 
+	 * @param pool The pool to be used.
+	 * @param threshold The maximum number of elements that are processed by a single task.
+	 * @return A read-only parallel access to the bits of this {@code ImmutableWord}.
+	 */
+	@Override
+	public ParallelWordAccess parallel(final ForkJoinPool pool, final int threshold) {
+		return new ParallelWordAccess(this, pool, threshold, true);
+	}
+	
 }
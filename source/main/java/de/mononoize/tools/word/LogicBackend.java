@@ -0,0 +1,177 @@
+package de.mononoize.tools.word;
+
+/**
+ * <p>The bulk logical operations on the (internal) data storage arrays of {@code Word}s.</p>
+ * 
+ * <p>There are two implementations: A scalar implementation that is always available, and a vector implementation
+ * based on the {@code jdk.incubator.vector} module (see: {@code VectorLogicBackend}). The vector implementation is
+ * only used if the module is available at runtime (i.e. {@code --add-modules jdk.incubator.vector}) and the number of
+ * elements is at least the threshold given by the system property {@value #THRESHOLD_PROPERTY} (default:
+ * {@value #DEFAULT_THRESHOLD} elements).</p>
+ * 
+ * @author Alexander Mattes
+ */
+abstract class LogicBackend {
+
+	/**
+	 * The name of the system property with the minimum number of elements to use the vector implementation.
+	 */
+	static final String THRESHOLD_PROPERTY = "de.mononoize.tools.word.vectorThreshold";
+	
+	/**
+	 * The default minimum number of elements to use the vector implementation.
+	 */
+	static final int DEFAULT_THRESHOLD = 64;
+	
+	/**
+	 * The name of the module of the vector implementation.
+	 */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	
+	/**
+	 * The name of the class of the vector implementation.
+	 */
+	private static final String VECTOR_CLASS = "de.mononoize.tools.word.VectorLogicBackend";
+	
+	/**
+	 * The scalar implementation.
+	 */
+	static final LogicBackend SCALAR = new ScalarLogicBackend();
+	
+	/**
+	 * The vector implementation or the scalar implementation if the vector implementation is not available.
+	 */
+	static final LogicBackend VECTOR = loadVector();
+	
+	/**
+	 * The minimum number of elements to use the vector implementation.
+	 */
+	private static final int THRESHOLD = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+	
+	/**
+	 * Returns the implementation to be used for the given number of elements.
+	 * 
+	 * @param length The number of elements.
+	 * @return The implementation to be used for the given number of elements.
+	 */
+	static LogicBackend of(final int length) {
+		return (length >= THRESHOLD) ? VECTOR : SCALAR;
+	}
+	
+	/**
+	 * Executes {@code target[i] &= source[i]} for all elements.
+	 * 
+	 * @param target The target array.
+	 * @param source The source array.
+	 */
+	abstract void and(long[] target, long[] source);
+	
+	/**
+	 * Executes {@code target[i] = ~(target[i] & source[i])} for all elements.
+	 * 
+	 * @param target The target array.
+	 * @param source The source array.
+	 */
+	abstract void nand(long[] target, long[] source);
+	
+	/**
+	 * Executes {@code target[i] ^= source[i]} for all elements.
+	 * 
+	 * @param target The target array.
+	 * @param source The source array.
+	 */
+	abstract void xor(long[] target, long[] source);
+	
+	/**
+	 * Executes {@code target[i] |= source[i]} for all elements.
+	 * 
+	 * @param target The target array.
+	 * @param source The source array.
+	 */
+	abstract void or(long[] target, long[] source);
+	
+	/**
+	 * Executes {@code target[i] = ~(target[i] | source[i])} for all elements.
+	 * 
+	 * @param target The target array.
+	 * @param source The source array.
+	 */
+	abstract void nor(long[] target, long[] source);
+	
+	/**
+	 * Executes {@code target[i] = ~target[i]} for all elements from {@code fromIndex} (inclusive) to {@code toIndex}
+	 * (exclusive).
+	 * 
+	 * @param target The target array.
+	 * @param fromIndex The index of the first element.
+	 * @param toIndex The index after the last element.
+	 */
+	abstract void not(long[] target, int fromIndex, int toIndex);
+	
+	/**
+	 * Returns the vector implementation or the scalar implementation if the vector implementation is not available.
+	 * 
+	 * @return The vector implementation or the scalar implementation.
+	 */
+	private static LogicBackend loadVector() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+			return SCALAR;
+		}
+		
+		try {
+			return (LogicBackend) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+		} catch (final ReflectiveOperationException | LinkageError e) {
+			return SCALAR;
+		}
+	}
+	
+	/**
+	 * The scalar implementation.
+	 */
+	private static final class ScalarLogicBackend extends LogicBackend {
+
+		@Override
+		void and(final long[] target, final long[] source) {
+			for (int i = 0; i < target.length; i++) {
+				target[i] &= source[i];
+			}
+		}
+
+		@Override
+		void nand(final long[] target, final long[] source) {
+			for (int i = 0; i < target.length; i++) {
+				target[i] = ~(target[i] & source[i]);
+			}
+		}
+
+		@Override
+		void xor(final long[] target, final long[] source) {
+			for (int i = 0; i < target.length; i++) {
+				target[i] ^= source[i];
+			}
+		}
+
+		@Override
+		void or(final long[] target, final long[] source) {
+			for (int i = 0; i < target.length; i++) {
+				target[i] |= source[i];
+			}
+		}
+
+		@Override
+		void nor(final long[] target, final long[] source) {
+			for (int i = 0; i < target.length; i++) {
+				target[i] = ~(target[i] | source[i]);
+			}
+		}
+
+		@Override
+		void not(final long[] target, final int fromIndex, final int toIndex) {
+			for (int i = fromIndex; i < toIndex; i++) {
+				target[i] = ~target[i];
+			}
+		}
+		
+	}
+	
+}
@@ -0,0 +1,363 @@
+package de.mononoize.tools.word;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A file that stores a fixed number of {@code Word}s with the same size, which are accessed as
+ * {@link OffHeapWord}s over memory mapped regions of the file (see: {@link FileChannel#map(MapMode, long, long)}). The
+ * bits are not copied when the file is opened, but loaded by the operating system on first access. Hence, the file may
+ * be larger than the heap, and opening the file takes constant time.</p>
+ *
+ * <p>The file consists of a header of {@value #HEADER_BYTES} bytes, followed by the (internal) data storage of the
+ * {@code Word}s in little-endian byte order. Each {@code Word} uses {@code 8 * ceil(size / 64)} bytes. Changes of the
+ * {@code Word}s are written to the page cache of the operating system, and written to the storage device by
+ * {@link #force()} (or eventually by the operating system).</p>
+ *
+ * <p>The {@code Word}s returned by {@link #getWord(int)} are lightweight views, which are created on each call and not
+ * retained by the file. Hence, only the mapped regions are tracked, regardless of the number of {@code Word}s that have
+ * been accessed. The views must not be used after the file has been closed. They are considered released by
+ * {@link #close()}, so that any later operation throws an {@link IllegalStateException}. {@code MappedWordFile}s are not
+ * thread-safe.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class MappedWordFile implements AutoCloseable {
+
+	/**
+	 * The number of bytes of the header.
+	 */
+	public static final int HEADER_BYTES = 64;
+
+	/**
+	 * The magic number at the start of the header ({@code "WORD"} in ASCII).
+	 */
+	static final int MAGIC = 0x574F5244;
+
+	/**
+	 * The version of the file format.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * The maximum number of bytes of a mapped region.
+	 */
+	static final int REGION_BYTES = 1 << 30;
+
+	/**
+	 * The number of bits of each {@code Word}.
+	 */
+	private final int m_size;
+
+	/**
+	 * The number of {@code Word}s.
+	 */
+	private final int m_count;
+
+	/**
+	 * The number of bytes of each {@code Word}.
+	 */
+	private final int m_wordBytes;
+
+	/**
+	 * The number of {@code Word}s of each mapped region.
+	 */
+	private final int m_regionWords;
+
+	/**
+	 * The mode used to map the regions.
+	 */
+	private final MapMode m_mode;
+
+	/**
+	 * The channel of the file or {@code null} if the file has been closed.
+	 */
+	private volatile FileChannel m_channel;
+
+	/**
+	 * The mapped regions, which are mapped on first use.
+	 */
+	private final MappedByteBuffer[] m_regions;
+
+	/**
+	 * Constructs a new {@code MappedWordFile}.
+	 *
+	 * @param channel The channel of the file.
+	 * @param mode The mode used to map the regions.
+	 * @param size The number of bits of each {@code Word}.
+	 * @param count The number of {@code Word}s.
+	 * @param regionBytes The maximum number of bytes of a mapped region.
+	 */
+	private MappedWordFile(final FileChannel channel, final MapMode mode, final int size, final int count, final int regionBytes) {
+		this.m_channel = channel;
+		this.m_mode = mode;
+		this.m_size = size;
+		this.m_count = count;
+		this.m_wordBytes = Word.getLength(size) * Long.BYTES;
+		this.m_regionWords = Math.max(1, regionBytes / this.m_wordBytes);
+		this.m_regions = new MappedByteBuffer[((count - 1) / this.m_regionWords) + 1];
+	}
+
+	/**
+	 * Creates a new file with the given number of {@code Word}s with the given size, and opens it for reading and
+	 * writing. An existing file is replaced. Initially, all bits are set to {@code 0}.
+	 *
+	 * @param path The path of the file.
+	 * @param size The number of bits of each {@code Word}.
+	 * @param count The number of {@code Word}s.
+	 * @return The opened file.
+	 * @throws IOException If the file cannot be created.
+	 */
+	public static MappedWordFile create(final Path path, final int size, final int count) throws IOException {
+		return create(path, size, count, REGION_BYTES);
+	}
+
+	/**
+	 * Creates a new file with the given number of {@code Word}s with the given size and the given maximum number of
+	 * bytes of a mapped region.
+	 *
+	 * @param path The path of the file.
+	 * @param size The number of bits of each {@code Word}.
+	 * @param count The number of {@code Word}s.
+	 * @param regionBytes The maximum number of bytes of a mapped region.
+	 * @return The opened file.
+	 * @throws IOException If the file cannot be created.
+	 */
+	static MappedWordFile create(final Path path, final int size, final int count, final int regionBytes) throws IOException {
+		Validate.notNull(path, "The path must not be null.");
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+		Validate.isTrue(count > 0, "The count must be at least 1.");
+
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(OffHeapWord.BYTE_ORDER);
+			header.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(count).clear();
+			writeFully(channel, header, 0);
+
+			// The file is extended by writing its last byte, so that the data storage is initially filled with 0s.
+			final long length = HEADER_BYTES + ((long) count * Word.getLength(size) * Long.BYTES);
+			writeFully(channel, ByteBuffer.allocate(1), length - 1);
+
+			return new MappedWordFile(channel, MapMode.READ_WRITE, size, count, regionBytes);
+		} catch (final IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing file for reading and writing.
+	 *
+	 * @param path The path of the file.
+	 * @return The opened file.
+	 * @throws IOException If the file cannot be opened or is not a valid file.
+	 */
+	public static MappedWordFile open(final Path path) throws IOException {
+		return open(path, false, REGION_BYTES);
+	}
+
+	/**
+	 * Opens an existing file for reading only. Any operation that modifies a {@code Word} of the file throws a
+	 * {@link java.nio.ReadOnlyBufferException}.
+	 *
+	 * @param path The path of the file.
+	 * @return The opened file.
+	 * @throws IOException If the file cannot be opened or is not a valid file.
+	 */
+	public static MappedWordFile openReadOnly(final Path path) throws IOException {
+		return open(path, true, REGION_BYTES);
+	}
+
+	/**
+	 * Opens an existing file with the given maximum number of bytes of a mapped region.
+	 *
+	 * @param path The path of the file.
+	 * @param readOnly Whether the file is opened for reading only.
+	 * @param regionBytes The maximum number of bytes of a mapped region.
+	 * @return The opened file.
+	 * @throws IOException If the file cannot be opened or is not a valid file.
+	 */
+	static MappedWordFile open(final Path path, final boolean readOnly, final int regionBytes) throws IOException {
+		Validate.notNull(path, "The path must not be null.");
+
+		final FileChannel channel = readOnly
+			? FileChannel.open(path, StandardOpenOption.READ)
+			: FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(OffHeapWord.BYTE_ORDER);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("The file is too small.");
+				}
+			}
+			header.flip();
+
+			final int magic = header.getInt();
+			final int version = header.getInt();
+			final int size = header.getInt();
+			final int count = header.getInt();
+
+			if (magic != MAGIC) {
+				throw new IOException("The file is not a word file.");
+			}
+			if (version != VERSION) {
+				throw new IOException("The file version is not supported.");
+			}
+			if ((size <= 0) || (count <= 0)) {
+				throw new IOException("The file header is corrupted.");
+			}
+			if (channel.size() < (HEADER_BYTES + ((long) count * Word.getLength(size) * Long.BYTES))) {
+				throw new IOException("The file is too small.");
+			}
+
+			return new MappedWordFile(channel, readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, size, count, regionBytes);
+		} catch (final IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the number of bits of each {@code Word} of this file.
+	 *
+	 * @return The number of bits of each {@code Word}.
+	 */
+	public int getSize() {
+		return this.m_size;
+	}
+
+	/**
+	 * Returns the number of {@code Word}s of this file.
+	 *
+	 * @return The number of {@code Word}s.
+	 */
+	public int getCount() {
+		return this.m_count;
+	}
+
+	/**
+	 * Returns whether this file has been opened for reading only.
+	 *
+	 * @return Whether this file has been opened for reading only.
+	 */
+	public boolean isReadOnly() {
+		return (this.m_mode == MapMode.READ_ONLY);
+	}
+
+	/**
+	 * Returns a view of the given {@code Word} of this file. The bits are not copied, i.e. changes of the {@code Word}
+	 * are written to the file. A new view is returned for each call, and views of the same index are equal as long as
+	 * the file is open. The view provides the operations of a {@code Word} (see: {@link OffHeapWord} for the supported
+	 * operations), and a copy on the heap is returned by {@link OffHeapWord#toWord()}.
+	 *
+	 * @param index The index of the {@code Word} to be returned.
+	 * @return A view of the given {@code Word}.
+	 * @throws IOException If the file cannot be mapped.
+	 */
+	public OffHeapWord getWord(final int index) throws IOException {
+		Validate.inclusiveBetween(0, (this.m_count - 1), index, "Index out of bounds.");
+		Validate.validState(this.m_channel != null, "The file has been closed.");
+
+		final MappedByteBuffer region = this.getRegion(index / this.m_regionWords);
+		final int offset = (index % this.m_regionWords) * this.m_wordBytes;
+
+		return OffHeapWord.wrap(region.slice(offset, this.m_wordBytes), this.m_size, this::isOpen);
+	}
+
+	/**
+	 * Writes all changes of the {@code Word}s of this file to the storage device. Changes of read-only files are not
+	 * possible, so that this operation has no effect.
+	 */
+	public void force() {
+		Validate.validState(this.m_channel != null, "The file has been closed.");
+
+		if (this.isReadOnly()) {
+			return;
+		}
+
+		for (final MappedByteBuffer region : this.m_regions) {
+			if (region != null) {
+				region.force();
+			}
+		}
+	}
+
+	/**
+	 * Closes this file. All views of the {@code Word}s of this file are released and the channel of the file is closed.
+	 * Changes that have not been forced are written to the storage device by the operating system. Closing a file more
+	 * than once has no effect.
+	 *
+	 * <p>The mapped regions are not unmapped eagerly, but when they are garbage collected (i.e. when no view refers to
+	 * them anymore). A view that is used concurrently with this method therefore either throws an
+	 * {@link IllegalStateException} or still accesses mapped memory, whereas an eager unmapping could crash the JVM.</p>
+	 *
+	 * @throws IOException If the file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		final FileChannel channel = this.m_channel;
+		if (channel == null) {
+			return;
+		}
+
+		this.m_channel = null;
+
+		Arrays.fill(this.m_regions, null);
+
+		channel.close();
+	}
+
+	/**
+	 * Returns whether this file is open, i.e. whether the views of its {@code Word}s are valid.
+	 *
+	 * @return Whether this file is open.
+	 */
+	private boolean isOpen() {
+		return (this.m_channel != null);
+	}
+
+	/**
+	 * Returns the given mapped region. The region is mapped if it has not been mapped yet.
+	 *
+	 * @param index The index of the region.
+	 * @return The given mapped region.
+	 * @throws IOException If the region cannot be mapped.
+	 */
+	private MappedByteBuffer getRegion(final int index) throws IOException {
+		MappedByteBuffer result = this.m_regions[index];
+		if (result == null) {
+			final long words = Math.min(this.m_regionWords, this.m_count - ((long) index * this.m_regionWords));
+			final long position = HEADER_BYTES + ((long) index * this.m_regionWords * this.m_wordBytes);
+
+			result = this.m_channel.map(this.m_mode, position, words * this.m_wordBytes);
+			this.m_regions[index] = result;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Writes all remaining bytes of the given buffer to the given channel at the given position.
+	 *
+	 * @param channel The channel to be used.
+	 * @param buffer The buffer to be written.
+	 * @param position The position to be used.
+	 * @throws IOException If the bytes cannot be written.
+	 */
+	private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+		long current = position;
+		while (buffer.hasRemaining()) {
+			current += channel.write(buffer, current);
+		}
+	}
+
+}
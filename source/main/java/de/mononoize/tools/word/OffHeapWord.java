@@ -0,0 +1,1395 @@
+package de.mononoize.tools.word;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.LongBuffer;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A set of bits with a fixed size that is stored outside of the Java heap. The (internal) data storage is a direct
+ * {@link ByteBuffer}, so that large {@code OffHeapWord}s neither increase the heap size nor the work of the garbage
+ * collector. The elements are stored in little-endian byte order, i.e. the bytes of an {@code OffHeapWord} have the
+ * same layout on all platforms.</p>
+ *
+ * <p>The operations have the same semantics as the corresponding operations of {@link Word}, and the logic operations
+ * accept both {@code Word}s and {@code OffHeapWord}s of the same size. The bits can be copied from and to the heap (see:
+ * {@link #setValue(Word)}, {@link #copyTo(Word)}, and {@link #toWord()}). All other operations except the parsing of
+ * strings (e.g. the shifts, rotations, string representations, and {@link #hash64()}) work directly on the (internal)
+ * data storage. The hash codes are equal to the hash codes of a {@code Word} with the same bits.</p>
+ *
+ * <p>An {@code OffHeapWord} provides the instance operations of {@code Word} except {@code clone()},
+ * {@code unchecked()}, {@code parallel()}, and {@code spliterator()}, which are bound to the (internal) data storage
+ * array of a {@code Word} (see: {@link #toWord()}). It is not a subclass of {@code Word}, because the (internal) data
+ * storage of a {@code Word} is a {@code long} array on the heap that is accessed directly by its subclasses and by the
+ * other classes of this package. A subclass would either allocate that array anyway or have to override every
+ * operation.</p>
+ *
+ * <p>The memory of an {@code OffHeapWord} is released explicitly with {@link #close()} (e.g. in a try-with-resources
+ * statement) and not only when the {@code OffHeapWord} is garbage collected. Any operation on a released
+ * {@code OffHeapWord} throws an {@link IllegalStateException}. An {@code OffHeapWord} must not be released while it is
+ * used by other threads.</p>
+ *
+ * <p>{@code OffHeapWord}s are not thread-safe.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class OffHeapWord implements AutoCloseable, Comparable<OffHeapWord> {
+
+	/**
+	 * The byte order of the (internal) data storage.
+	 */
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/**
+	 * The method handle used to release direct buffers or {@code null} if the buffers are released by the garbage
+	 * collector only.
+	 */
+	private static final MethodHandle CLEANER = findCleaner();
+
+	/**
+	 * The comparator that compares {@code OffHeapWord}s as unsigned values.
+	 */
+	private static final Comparator<OffHeapWord> COMPARATOR = OffHeapWord::compareTo;
+
+	/**
+	 * The number of bits.
+	 */
+	private final int m_size;
+
+	/**
+	 * Whether the buffer is released when this {@code OffHeapWord} is closed.
+	 */
+	private final boolean m_owner;
+
+	/**
+	 * Whether the buffer is still valid or {@code null} if the buffer is valid until this {@code OffHeapWord} is
+	 * released.
+	 */
+	private final BooleanSupplier m_valid;
+
+	/**
+	 * The buffer or {@code null} if this {@code OffHeapWord} has been released.
+	 */
+	private ByteBuffer m_buffer;
+
+	/**
+	 * The (internal) data storage or {@code null} if this {@code OffHeapWord} has been released.
+	 */
+	private LongBuffer m_data;
+
+	/**
+	 * Constructs a new {@code OffHeapWord} with the given number of bits. Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 */
+	public OffHeapWord(final int size) {
+		this(size, allocate(size), true, null);
+	}
+
+	/**
+	 * Constructs a new {@code OffHeapWord} with the given number of bits over the given buffer.
+	 *
+	 * @param size The number of bits to be used.
+	 * @param buffer The buffer to be used.
+	 * @param owner Whether the buffer is released when the {@code OffHeapWord} is closed.
+	 * @param valid Whether the buffer is still valid or {@code null}.
+	 */
+	private OffHeapWord(final int size, final ByteBuffer buffer, final boolean owner, final BooleanSupplier valid) {
+		this.m_size = size;
+		this.m_owner = owner;
+		this.m_valid = valid;
+		this.m_buffer = buffer;
+		this.m_data = buffer.slice(buffer.position(), Word.getLength(size) * Long.BYTES).order(BYTE_ORDER).asLongBuffer();
+	}
+
+	/**
+	 * Creates a new {@code OffHeapWord} with the given number of bits over the remaining bytes of the given buffer (e.g.
+	 * a {@link java.nio.MappedByteBuffer}). The bits are not copied, i.e. changes of the buffer are visible in the
+	 * {@code OffHeapWord} and vice versa. The buffer must have at least {@code 8 * ceil(size / 64)} remaining bytes, and
+	 * the unused bits of the most significant element must be set to {@code 0}. The buffer is not released when the
+	 * {@code OffHeapWord} is closed.
+	 *
+	 * @param buffer The buffer to be used.
+	 * @param size The number of bits to be used.
+	 * @return A new {@code OffHeapWord} over the given buffer.
+	 */
+	public static OffHeapWord wrap(final ByteBuffer buffer, final int size) {
+		return wrap(buffer, size, null);
+	}
+
+	/**
+	 * Creates a new {@code OffHeapWord} with the given number of bits over the remaining bytes of the given buffer (see:
+	 * {@link #wrap(ByteBuffer, int)}), which is only valid as long as the given supplier returns {@code true} (e.g.
+	 * until a mapped buffer is unmapped). Afterwards, the {@code OffHeapWord} is considered released.
+	 *
+	 * @param buffer The buffer to be used.
+	 * @param size The number of bits to be used.
+	 * @param valid Whether the buffer is still valid or {@code null}.
+	 * @return A new {@code OffHeapWord} over the given buffer.
+	 */
+	static OffHeapWord wrap(final ByteBuffer buffer, final int size, final BooleanSupplier valid) {
+		Validate.notNull(buffer, "The buffer must not be null.");
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+		Validate.isTrue(buffer.remaining() >= (Word.getLength(size) * Long.BYTES), "The buffer is too small.");
+
+		return new OffHeapWord(size, buffer, false, valid);
+	}
+
+	/**
+	 * Returns the number of bits of this {@code OffHeapWord}.
+	 *
+	 * @return The number of bits of this {@code OffHeapWord}.
+	 */
+	public int getSize() {
+		return this.m_size;
+	}
+
+	/**
+	 * Returns whether this {@code OffHeapWord} has been released.
+	 *
+	 * @return Whether this {@code OffHeapWord} has been released.
+	 */
+	public boolean isReleased() {
+		return (this.m_data == null) || ((this.m_valid != null) && !this.m_valid.getAsBoolean());
+	}
+
+	/**
+	 * Returns the value of the given bit.
+	 *
+	 * @param index The index of the bit to be returned.
+	 * @return The value of the given bit.
+	 */
+	public boolean getBoolean(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		return ((this.data().get(index >>> Word.ELEMENT_ADDRESS_BITS) >>> index) & Word.ONE) != Word.ZERO;
+	}
+
+	/**
+	 * Returns the value of the highest bit.
+	 *
+	 * @return The value of the highest bit.
+	 */
+	public boolean getBoolean() {
+		return this.getBoolean(this.m_size - 1);
+	}
+
+	/**
+	 * Returns the bit at the given index.
+	 *
+	 * @param index The index of the bit to be returned.
+	 * @return The bit at the given index.
+	 */
+	public long get(final int index) {
+		return this.getBoolean(index) ? Word.ONE : Word.ZERO;
+	}
+
+	/**
+	 * Returns the highest bit.
+	 *
+	 * @return The highest bit.
+	 */
+	public long get() {
+		return this.getBoolean() ? Word.ONE : Word.ZERO;
+	}
+
+	/**
+	 * Sets the given bit to {@code 1}.
+	 *
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord set(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		final LongBuffer data = this.data();
+		final int element = index >>> Word.ELEMENT_ADDRESS_BITS;
+		data.put(element, data.get(element) | (Word.ONE << index));
+
+		return this;
+	}
+
+	/**
+	 * Sets the given range of bits to {@code 1}.
+	 *
+	 * @param startIndex The index of the first bit to be set.
+	 * @param endIndex The index of the last bit to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord set(final int startIndex, final int endIndex) {
+		Word.checkRange(this.m_size, startIndex, endIndex);
+
+		final LongBuffer data = this.data();
+		for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+			data.put(i, data.get(i) | Word.getMask(i, startIndex, endIndex));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets all bits to {@code 1}.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord set() {
+		return this.set(0, (this.m_size - 1));
+	}
+
+	/**
+	 * Sets the given bit to {@code 0}.
+	 *
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord clear(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		final LongBuffer data = this.data();
+		final int element = index >>> Word.ELEMENT_ADDRESS_BITS;
+		data.put(element, data.get(element) & ~(Word.ONE << index));
+
+		return this;
+	}
+
+	/**
+	 * Sets the given range of bits to {@code 0}.
+	 *
+	 * @param startIndex The index of the first bit to be set.
+	 * @param endIndex The index of the last bit to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord clear(final int startIndex, final int endIndex) {
+		Word.checkRange(this.m_size, startIndex, endIndex);
+
+		final LongBuffer data = this.data();
+		for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+			data.put(i, data.get(i) & ~Word.getMask(i, startIndex, endIndex));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets all bits to {@code 0}.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord clear() {
+		return this.clear(0, (this.m_size - 1));
+	}
+
+	/**
+	 * Flips the given bit.
+	 *
+	 * @param index The index of the bit to be flipped.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord flip(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		final LongBuffer data = this.data();
+		final int element = index >>> Word.ELEMENT_ADDRESS_BITS;
+		data.put(element, data.get(element) ^ (Word.ONE << index));
+
+		return this;
+	}
+
+	/**
+	 * Flips the given range of bits.
+	 *
+	 * @param startIndex The index of the first bit to be flipped.
+	 * @param endIndex The index of the last bit to be flipped.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord flip(final int startIndex, final int endIndex) {
+		Word.checkRange(this.m_size, startIndex, endIndex);
+
+		final LongBuffer data = this.data();
+		for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+			data.put(i, data.get(i) ^ Word.getMask(i, startIndex, endIndex));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Flips all bits.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord flip() {
+		return this.flip(0, (this.m_size - 1));
+	}
+
+	/**
+	 * Executes a logical negation operation on this {@code OffHeapWord}.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord not() {
+		return this.flip();
+	}
+
+	/**
+	 * Executes a logical conjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord and(final Word that) {
+		return this.and(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical conjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord and(final OffHeapWord that) {
+		return this.and(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical conjunction operation on this {@code OffHeapWord} and negates the result.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord nand(final Word that) {
+		return this.nand(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical conjunction operation on this {@code OffHeapWord} and negates the result.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord nand(final OffHeapWord that) {
+		return this.nand(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord xor(final Word that) {
+		return this.xor(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord xor(final OffHeapWord that) {
+		return this.xor(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord or(final Word that) {
+		return this.or(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord or(final OffHeapWord that) {
+		return this.or(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code OffHeapWord} and negates the result.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord nor(final Word that) {
+		return this.nor(this.operand(that));
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code OffHeapWord} and negates the result.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord nor(final OffHeapWord that) {
+		return this.nor(this.operand(that));
+	}
+
+	/**
+	 * Returns the index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+	 *
+	 * @return The index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+	 */
+	public int findFirstOne() {
+		final LongBuffer data = this.data();
+
+		return Word.findFirstOne(elements(data), 0, data.limit());
+	}
+
+	/**
+	 * Returns the index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+	 *
+	 * @return The index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+	 */
+	public int findLastOne() {
+		final LongBuffer data = this.data();
+
+		return Word.findLastOne(elements(data), 0, data.limit());
+	}
+
+	/**
+	 * Returns the index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+	 *
+	 * @return The index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+	 */
+	public int findFirstZero() {
+		final LongBuffer data = this.data();
+
+		return Word.findFirstZero(elements(data), 0, data.limit(), Word.getLastElementMask(this.m_size));
+	}
+
+	/**
+	 * Returns the index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+	 *
+	 * @return The index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+	 */
+	public int findLastZero() {
+		final LongBuffer data = this.data();
+
+		return Word.findLastZero(elements(data), 0, data.limit(), Word.getLastElementMask(this.m_size));
+	}
+
+	/**
+	 * Returns the number of bits that are set to {@code 1}.
+	 *
+	 * @return The number of bits that are set to {@code 1}.
+	 */
+	public int countOnes() {
+		final LongBuffer data = this.data();
+
+		return Word.countOnes(elements(data), 0, data.limit());
+	}
+
+	/**
+	 * Returns the number of bits that are set to {@code 0}.
+	 *
+	 * @return The number of bits that are set to {@code 0}.
+	 */
+	public int countZeros() {
+		return (this.m_size - this.countOnes());
+	}
+
+	/**
+	 * Returns the number of leading bits that are set to {@code 1}.
+	 *
+	 * @return The number of leading bits that are set to {@code 1}.
+	 */
+	public int countLeadingOnes() {
+		final int index = this.findLastZero();
+		return (index != -1) ? this.m_size - 1 - index : this.m_size;
+	}
+
+	/**
+	 * Returns the number of leading bits that are set to {@code 0}.
+	 *
+	 * @return The number of leading bits that are set to {@code 0}.
+	 */
+	public int countLeadingZeros() {
+		final int index = this.findLastOne();
+		return (index != -1) ? this.m_size - 1 - index : this.m_size;
+	}
+
+	/**
+	 * Returns the number of trailing bits that are set to {@code 1}.
+	 *
+	 * @return The number of trailing bits that are set to {@code 1}.
+	 */
+	public int countTrailingOnes() {
+		final int index = this.findFirstZero();
+		return (index != -1) ? index : this.m_size;
+	}
+
+	/**
+	 * Returns the number of trailing bits that are set to {@code 0}.
+	 *
+	 * @return The number of trailing bits that are set to {@code 0}.
+	 */
+	public int countTrailingZeros() {
+		final int index = this.findFirstOne();
+		return (index != -1) ? index : this.m_size;
+	}
+
+	/**
+	 * Compares this {@code OffHeapWord} with the given {@code Word} as unsigned values. The result is {@code -1},
+	 * {@code 0}, or {@code 1} if this {@code OffHeapWord} is less than, equal to, or greater than the given
+	 * {@code Word}.
+	 *
+	 * @param that The word to be compared.
+	 * @return The result of the comparison.
+	 */
+	public int compareTo(final Word that) {
+		final LongBuffer other = this.operand(that);
+		final LongBuffer data = this.data();
+
+		return Word.compare(elements(data), 0, elements(other), 0, data.limit());
+	}
+
+	/**
+	 * Compares this {@code OffHeapWord} with the given {@code OffHeapWord} as unsigned values. The result is {@code -1},
+	 * {@code 0}, or {@code 1} if this {@code OffHeapWord} is less than, equal to, or greater than the given
+	 * {@code OffHeapWord}.
+	 *
+	 * @param that The word to be compared.
+	 * @return The result of the comparison.
+	 */
+	@Override
+	public int compareTo(final OffHeapWord that) {
+		final LongBuffer other = this.operand(that);
+		final LongBuffer data = this.data();
+
+		return Word.compare(elements(data), 0, elements(other), 0, data.limit());
+	}
+
+	/**
+	 * Returns a comparator that compares {@code OffHeapWord}s as unsigned values (see:
+	 * {@link #compareTo(OffHeapWord)}).
+	 *
+	 * @return A comparator that compares {@code OffHeapWord}s as unsigned values.
+	 */
+	public static Comparator<OffHeapWord> comparator() {
+		return COMPARATOR;
+	}
+
+	/**
+	 * Executes a logical shift-left operation on this {@code OffHeapWord} with an offset of one.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord shl() {
+		return this.shl(1);
+	}
+
+	/**
+	 * Executes a logical shift-left operation on this {@code OffHeapWord} using the given offset.
+	 *
+	 * @param offset The offset to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord shl(final int offset) {
+		Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+		final LongBuffer data = this.data();
+		if (offset >= this.m_size) {
+			return this.clear();
+		}
+		if (offset != 0) {
+			Word.shiftLeft(elements(data), 0, data.limit(), this.m_size, offset);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical shift-right operation on this {@code OffHeapWord} with an offset of one.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord shr() {
+		return this.shr(1);
+	}
+
+	/**
+	 * Executes a logical shift-right operation on this {@code OffHeapWord} using the given offset.
+	 *
+	 * @param offset The offset to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord shr(final int offset) {
+		Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+		final LongBuffer data = this.data();
+		if (offset >= this.m_size) {
+			return this.clear();
+		}
+		if (offset != 0) {
+			Word.shiftRight(elements(data), 0, data.limit(), this.m_size, offset);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical rotate-left operation on this {@code OffHeapWord} with an offset of one.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord rol() {
+		return this.rol(1);
+	}
+
+	/**
+	 * Executes a logical rotate-left operation on this {@code OffHeapWord} using the given offset. The rotation is done
+	 * in place, i.e. without a temporary copy.
+	 *
+	 * @param offset The offset to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord rol(final int offset) {
+		Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+		return this.rotate(offset % this.m_size);
+	}
+
+	/**
+	 * Executes a logical rotate-right operation on this {@code OffHeapWord} with an offset of one.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord ror() {
+		return this.ror(1);
+	}
+
+	/**
+	 * Executes a logical rotate-right operation on this {@code OffHeapWord} using the given offset. The rotation is
+	 * done in place, i.e. without a temporary copy.
+	 *
+	 * @param offset The offset to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord ror(final int offset) {
+		Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+		return this.rotate((this.m_size - (offset % this.m_size)) % this.m_size);
+	}
+
+	/**
+	 * Sets the bits of this {@code OffHeapWord} to the bits of the given {@code Word}.
+	 *
+	 * @param value The word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final Word value) {
+		Validate.notNull(value, "The word must not be null.");
+		Validate.isTrue(this.m_size == value.m_size, "Different word sizes not allowed.");
+
+		this.data().put(0, value.m_data);
+
+		return this;
+	}
+
+	/**
+	 * Sets the value to the given {@code long} value. Bits of the value beyond the size of this {@code OffHeapWord}
+	 * are ignored.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final long value) {
+		return this.setValue(Long.SIZE, value);
+	}
+
+	/**
+	 * Sets the value to the given {@code int} value. Bits of the value beyond the size of this {@code OffHeapWord}
+	 * are ignored.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final int value) {
+		return this.setValue(Integer.SIZE, value);
+	}
+
+	/**
+	 * Sets the value to the given {@code short} value. Bits of the value beyond the size of this {@code OffHeapWord}
+	 * are ignored.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final short value) {
+		return this.setValue(Short.SIZE, value);
+	}
+
+	/**
+	 * Sets the value to the given {@code byte} value. Bits of the value beyond the size of this {@code OffHeapWord}
+	 * are ignored.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final byte value) {
+		return this.setValue(Byte.SIZE, value);
+	}
+
+	/**
+	 * Sets the value to the given {@code char} value. Bits of the value beyond the size of this {@code OffHeapWord}
+	 * are ignored.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final char value) {
+		return this.setValue(Character.SIZE, value);
+	}
+
+	/**
+	 * Sets the value (see: {@link Word#setValue(long[])}). The elements are copied directly to the (internal) data
+	 * storage.
+	 *
+	 * @param values The values to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final long[] values) {
+		Validate.notNull(values, "The array must not be null.");
+
+		final LongBuffer data = this.data();
+
+		Validate.isTrue(data.limit() == values.length, "Different word sizes not allowed.");
+		Validate.isTrue((values[values.length - 1] & ~Word.getLastElementMask(this.m_size)) == 0,
+			"The value exceeds the word size.");
+
+		data.put(0, values);
+
+		return this;
+	}
+
+	/**
+	 * Sets the value (see: {@link Word#setValue(byte[], ByteOrder)}). The bytes are written directly to the (internal)
+	 * data storage.
+	 *
+	 * @param bytes The bytes to be set.
+	 * @param order The byte order to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final byte[] bytes, final ByteOrder order) {
+		Validate.notNull(bytes, "The array must not be null.");
+		Validate.notNull(order, "The byte order must not be null.");
+		Validate.isTrue(((this.m_size + (Byte.SIZE - 1)) / Byte.SIZE) == bytes.length, "Different word sizes not allowed.");
+
+		final boolean bigEndian = (order == ByteOrder.BIG_ENDIAN);
+		final int remainingBits = this.m_size - ((bytes.length - 1) * Byte.SIZE);
+		final byte last = bigEndian ? bytes[0] : bytes[bytes.length - 1];
+
+		Validate.isTrue(((last & 0xFF) >>> remainingBits) == 0, "The value exceeds the word size.");
+
+		final LongBuffer data = this.clear().data();
+
+		for (int i = 0, j = 0; j < bytes.length; i += Byte.SIZE, j++) {
+			final byte value = bigEndian ? bytes[bytes.length - 1 - j] : bytes[j];
+			final int index = i >>> Word.ELEMENT_ADDRESS_BITS;
+			data.put(index, data.get(index) | ((value & 0xFFL) << i));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets the value (see: {@link Word#setValue(String)}). The string is parsed into a temporary {@code Word}, which
+	 * has a fraction of the size of the string.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setValue(final String value) {
+		return this.setValue(new Word(this.m_size).setValue(value));
+	}
+
+	/**
+	 * Sets the value (see: {@link Word#setHexValue(String)}). The string is parsed into a temporary {@code Word}, which
+	 * has a fraction of the size of the string.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setHexValue(final String value) {
+		return this.setValue(new Word(this.m_size).setHexValue(value));
+	}
+
+	/**
+	 * Sets the value (see: {@link Word#setBase64Value(String)}). The string is parsed into a temporary {@code Word},
+	 * which has a fraction of the size of the string.
+	 *
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord setBase64Value(final String value) {
+		return this.setValue(new Word(this.m_size).setBase64Value(value));
+	}
+
+	/**
+	 * Reads the value from the given buffer (see: {@link Word#readFrom(ByteBuffer)}). The elements are copied directly
+	 * from the buffer.
+	 *
+	 * @param buffer The buffer to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	public OffHeapWord readFrom(final ByteBuffer buffer) {
+		Validate.notNull(buffer, "The buffer must not be null.");
+
+		final LongBuffer data = this.data();
+		final int length = data.limit() * Long.BYTES;
+		final int position = buffer.position();
+
+		if (buffer.remaining() < length) {
+			throw new BufferUnderflowException();
+		}
+
+		final long last = buffer.getLong(position + length - Long.BYTES);
+
+		Validate.isTrue((last & ~Word.getLastElementMask(this.m_size)) == 0, "The value exceeds the word size.");
+
+		data.put(0, buffer.asLongBuffer(), 0, data.limit());
+		buffer.position(position + length);
+
+		return this;
+	}
+
+	/**
+	 * Writes all bits to the given buffer (see: {@link Word#writeTo(ByteBuffer)}). The elements are copied directly
+	 * to the buffer.
+	 *
+	 * @param buffer The buffer to be used.
+	 * @return A reference to the given buffer.
+	 */
+	public ByteBuffer writeTo(final ByteBuffer buffer) {
+		Validate.notNull(buffer, "The buffer must not be null.");
+
+		final LongBuffer data = this.data();
+		final int length = data.limit() * Long.BYTES;
+		final int position = buffer.position();
+
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		buffer.asLongBuffer().put(0, data, 0, data.limit());
+		buffer.position(position + length);
+
+		return buffer;
+	}
+
+	/**
+	 * Copies the bits of this {@code OffHeapWord} to the given {@code Word}.
+	 *
+	 * @param destination The word to be used.
+	 * @return A reference to the given {@code Word}.
+	 */
+	public Word copyTo(final Word destination) {
+		Validate.notNull(destination, "The word must not be null.");
+		Validate.isTrue(this.m_size == destination.m_size, "Different word sizes not allowed.");
+
+		this.data().get(0, destination.m_data);
+
+		return destination;
+	}
+
+	/**
+	 * Returns a new {@code Word} (on the heap) with the bits of this {@code OffHeapWord}.
+	 *
+	 * @return A new {@code Word} with the bits of this {@code OffHeapWord}.
+	 */
+	public Word toWord() {
+		return this.copyTo(new Word(this.m_size));
+	}
+
+	/**
+	 * Returns the lowest {@code 8} bits as a {@code byte}.
+	 *
+	 * @return The lowest {@code 8} bits as a {@code byte}.
+	 */
+	public byte toByte() {
+		return (byte) this.data().get(0);
+	}
+
+	/**
+	 * Returns the lowest {@code 16} bits as a {@code short}.
+	 *
+	 * @return The lowest {@code 16} bits as a {@code short}.
+	 */
+	public short toShort() {
+		return (short) this.data().get(0);
+	}
+
+	/**
+	 * Returns the lowest {@code 32} bits as an {@code integer}.
+	 *
+	 * @return The lowest {@code 32} bits as an {@code integer}.
+	 */
+	public int toInteger() {
+		return (int) this.data().get(0);
+	}
+
+	/**
+	 * Returns the lowest {@code 64} bits as a {@code long}.
+	 *
+	 * @return The lowest {@code 64} bits as a {@code long}.
+	 */
+	public long toLong() {
+		return this.data().get(0);
+	}
+
+	/**
+	 * Returns the lowest {@code 16} bits as a {@code char}.
+	 *
+	 * @return The lowest {@code 16} bits as a {@code char}.
+	 */
+	public char toChar() {
+		return (char) this.data().get(0);
+	}
+
+	/**
+	 * Returns all bits as an array of {@code ceil(size / 64)} elements, starting with the least significant element.
+	 *
+	 * @return All bits as an array of {@code long}s.
+	 */
+	public long[] toLongArray() {
+		final LongBuffer data = this.data();
+		final long[] result = new long[data.limit()];
+		data.get(0, result);
+
+		return result;
+	}
+
+	/**
+	 * Returns all bits as an array of {@code ceil(size / 8)} bytes in the given byte order (see:
+	 * {@link Word#toByteArray(ByteOrder)}).
+	 *
+	 * @param order The byte order to be used.
+	 * @return All bits as an array of {@code byte}s.
+	 */
+	public byte[] toByteArray(final ByteOrder order) {
+		Validate.notNull(order, "The byte order must not be null.");
+
+		final LongBuffer data = this.data();
+		final boolean bigEndian = (order == ByteOrder.BIG_ENDIAN);
+		final byte[] result = new byte[(this.m_size + (Byte.SIZE - 1)) / Byte.SIZE];
+
+		for (int i = 0, j = 0; j < result.length; i += Byte.SIZE, j++) {
+			result[bigEndian ? (result.length - 1 - j) : j] = (byte) (data.get(i >>> Word.ELEMENT_ADDRESS_BITS) >>> i);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns a string representation of this {@code OffHeapWord} in base 16 (see: {@link Word#toHexString()}).
+	 *
+	 * @return A string representation of this {@code OffHeapWord} in base 16.
+	 */
+	public String toHexString() {
+		final LongBuffer data = this.data();
+		final char[] result = new char[(this.m_size + 3) / 4];
+
+		for (int i = 0, j = (result.length - 1); j >= 0; i += 4, j--) {
+			result[j] = Character.forDigit((int) (data.get(i >>> Word.ELEMENT_ADDRESS_BITS) >>> i) & 0xF, 16);
+		}
+
+		return new String(result);
+	}
+
+	/**
+	 * Returns a Base64 representation of this {@code OffHeapWord} (see: {@link Word#toBase64String()}).
+	 *
+	 * @return A Base64 representation of this {@code OffHeapWord}.
+	 */
+	public String toBase64String() {
+		return Base64.getEncoder().encodeToString(this.toByteArray(ByteOrder.BIG_ENDIAN));
+	}
+
+	/**
+	 * Appends a string representation of this {@code OffHeapWord} in base 2 (see: {@link Word#formatTo(Appendable)})
+	 * to the given appendable. The bits are read directly from the (internal) data storage.
+	 *
+	 * @param <T> The type of the appendable.
+	 * @param appendable The appendable to be used.
+	 * @return A reference to the given appendable.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public <T extends Appendable> T formatTo(final T appendable) throws IOException {
+		Validate.notNull(appendable, "The appendable must not be null.");
+
+		final LongBuffer data = this.data();
+		final char[] buffer = new char[Word.ELEMENT_SIZE];
+		final CharBuffer wrapper = CharBuffer.wrap(buffer);
+
+		int length = this.m_size - ((data.limit() - 1) << Word.ELEMENT_ADDRESS_BITS);
+
+		for (int i = (data.limit() - 1); i >= 0; i--) {
+			long element = data.get(i);
+			for (int j = (length - 1); j >= 0; j--) {
+				buffer[j] = (char) ('0' + (element & Word.ONE));
+				element >>>= 1;
+			}
+			appendable.append(wrapper, 0, length);
+			length = Word.ELEMENT_SIZE;
+		}
+
+		return appendable;
+	}
+
+	/**
+	 * Returns a sequential stream of bits of this {@code OffHeapWord}. The bits are returned from the least significant
+	 * bit to the most significant bit.
+	 *
+	 * @return A sequential stream of bits of this {@code OffHeapWord}.
+	 */
+	public LongStream stream() {
+		this.data();
+
+		return IntStream.range(0, this.m_size).mapToLong(index -> this.getBoolean(index) ? Word.ONE : Word.ZERO);
+	}
+
+	/**
+	 * Returns a {@code 64} bit hash code of this {@code OffHeapWord}, which is equal to the hash code of a {@code Word}
+	 * with the same bits (see: {@link Word#hash64()}).
+	 *
+	 * @return A {@code 64} bit hash code of this {@code OffHeapWord}.
+	 */
+	public long hash64() {
+		final LongBuffer data = this.data();
+
+		return Word.hash64(elements(data), 0, data.limit(), this.m_size);
+	}
+
+	/**
+	 * Releases this {@code OffHeapWord}. If the (internal) data storage has been allocated by this
+	 * {@code OffHeapWord}, its memory is released immediately. Releasing an {@code OffHeapWord} more than once has no
+	 * effect.
+	 */
+	@Override
+	public void close() {
+		final ByteBuffer buffer = this.m_buffer;
+		if (buffer == null) {
+			return;
+		}
+
+		this.m_buffer = null;
+		this.m_data = null;
+
+		if (this.m_owner) {
+			release(buffer);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		if (this.isReleased()) {
+			return System.identityHashCode(this);
+		}
+
+		final long hash = this.hash64();
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		if (this == object) {
+			return true;
+		}
+
+		if ((object == null) || (this.getClass() != object.getClass())) {
+			return false;
+		}
+
+		// Released words are only equal to themselves.
+
+		final OffHeapWord that = (OffHeapWord) object;
+		if (this.isReleased() || that.isReleased()) {
+			return false;
+		}
+
+		return (this.m_size == that.m_size) && this.m_data.equals(that.m_data);
+	}
+
+	@Override
+	public String toString() {
+		if (this.isReleased()) {
+			return "released";
+		}
+
+		try {
+			return this.formatTo(new StringBuilder(this.m_size)).toString();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Releases the memory of the given direct buffer immediately if supported by the runtime. Otherwise, the memory is
+	 * released when the buffer is garbage collected. The buffer must not be used afterwards.
+	 *
+	 * @param buffer The buffer to be released.
+	 */
+	static void release(final ByteBuffer buffer) {
+		if ((CLEANER == null) || !buffer.isDirect()) {
+			return;
+		}
+
+		try {
+			CLEANER.invokeExact(buffer);
+		} catch (final Throwable e) {
+			throw new IllegalStateException("The buffer could not be released.", e);
+		}
+	}
+
+	/**
+	 * Returns the (internal) data storage.
+	 *
+	 * @return The (internal) data storage.
+	 */
+	private LongBuffer data() {
+		final LongBuffer data = this.m_data;
+		Validate.validState((data != null) && ((this.m_valid == null) || this.m_valid.getAsBoolean()),
+			"The word has been released.");
+
+		return data;
+	}
+
+	/**
+	 * Sets the value to the given value with the given number of bits.
+	 *
+	 * @param size The number of bits of the value.
+	 * @param value The value to be set.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord setValue(final int size, final long value) {
+		this.clear().data().put(0, value & (Word.MAX >>> -Math.min(this.m_size, size)));
+
+		return this;
+	}
+
+	/**
+	 * Rotates this {@code OffHeapWord} to the left using the given distance, which must be between {@code 0} and
+	 * {@code size - 1} (inclusive).
+	 *
+	 * @param distance The distance to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord rotate(final int distance) {
+		final LongBuffer data = this.data();
+		if (distance != 0) {
+			Word.rotateLeft(elements(data), 0, data.limit(), this.m_size, distance);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the (internal) data storage of the given {@code Word} as a buffer.
+	 *
+	 * @param that The word to be used.
+	 * @return The (internal) data storage of the given {@code Word}.
+	 */
+	private LongBuffer operand(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		return LongBuffer.wrap(that.m_data);
+	}
+
+	/**
+	 * Returns the (internal) data storage of the given {@code OffHeapWord}.
+	 *
+	 * @param that The word to be used.
+	 * @return The (internal) data storage of the given {@code OffHeapWord}.
+	 */
+	private LongBuffer operand(final OffHeapWord that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		return that.data();
+	}
+
+	/**
+	 * Executes a logical conjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The (internal) data storage of the word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord and(final LongBuffer that) {
+		final LongBuffer data = this.data();
+		for (int i = 0; i < data.limit(); i++) {
+			data.put(i, data.get(i) & that.get(i));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical conjunction operation on this {@code OffHeapWord} and negates the result.
+	 *
+	 * @param that The (internal) data storage of the word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord nand(final LongBuffer that) {
+		final LongBuffer data = this.data();
+		for (int i = 0; i < data.limit(); i++) {
+			data.put(i, ~(data.get(i) & that.get(i)));
+		}
+
+		return this.clearUnusedBits();
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The (internal) data storage of the word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord xor(final LongBuffer that) {
+		final LongBuffer data = this.data();
+		for (int i = 0; i < data.limit(); i++) {
+			data.put(i, data.get(i) ^ that.get(i));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code OffHeapWord}.
+	 *
+	 * @param that The (internal) data storage of the word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord or(final LongBuffer that) {
+		final LongBuffer data = this.data();
+		for (int i = 0; i < data.limit(); i++) {
+			data.put(i, data.get(i) | that.get(i));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code OffHeapWord} and negates the result.
+	 *
+	 * @param that The (internal) data storage of the word to be used.
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord nor(final LongBuffer that) {
+		final LongBuffer data = this.data();
+		for (int i = 0; i < data.limit(); i++) {
+			data.put(i, ~(data.get(i) | that.get(i)));
+		}
+
+		return this.clearUnusedBits();
+	}
+
+	/**
+	 * Sets the unused bits of the most significant element of the (internal) data storage to {@code 0}.
+	 *
+	 * @return A reference to this {@code OffHeapWord}.
+	 */
+	private OffHeapWord clearUnusedBits() {
+		final LongBuffer data = this.data();
+		Word.clearUnusedBits(elements(data), 0, data.limit(), this.m_size);
+
+		return this;
+	}
+
+	/**
+	 * Returns the elements of the given (internal) data storage, so that the (static) engines of the {@code Word} class
+	 * can operate on it.
+	 *
+	 * @param data The (internal) data storage.
+	 * @return The elements of the given (internal) data storage.
+	 */
+	private static Word.Elements elements(final LongBuffer data) {
+		return new BufferElements(data);
+	}
+
+	/**
+	 * Allocates a direct buffer for the given number of bits.
+	 *
+	 * @param size The number of bits.
+	 * @return A new direct buffer.
+	 */
+	private static ByteBuffer allocate(final int size) {
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+
+		return ByteBuffer.allocateDirect(Word.getLength(size) * Long.BYTES);
+	}
+
+	/**
+	 * Returns the method handle used to release direct buffers, which is only available if the runtime provides
+	 * {@code sun.misc.Unsafe#invokeCleaner(ByteBuffer)}.
+	 *
+	 * @return The method handle used to release direct buffers or {@code null}.
+	 */
+	private static MethodHandle findCleaner() {
+		try {
+			final Class<?> type = Class.forName("sun.misc.Unsafe");
+			final Field field = type.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+
+			return MethodHandles.lookup()
+				.findVirtual(type, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+				.bindTo(field.get(null));
+		} catch (final ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The elements of the (internal) data storage of an {@code OffHeapWord}.
+	 */
+	private static final class BufferElements extends Word.Elements {
+
+		/**
+		 * The (internal) data storage.
+		 */
+		private final LongBuffer m_data;
+
+		/**
+		 * Constructs new {@code BufferElements} of the given (internal) data storage.
+		 *
+		 * @param data The (internal) data storage.
+		 */
+		private BufferElements(final LongBuffer data) {
+			this.m_data = data;
+		}
+
+		@Override
+		long get(final int index) {
+			return this.m_data.get(index);
+		}
+
+		@Override
+		void put(final int index, final long value) {
+			this.m_data.put(index, value);
+		}
+
+	}
+
+}
@@ -0,0 +1,533 @@
+package de.mononoize.tools.word;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A parallel access to the bits of a {@code Word}.</p>
+ *
+ * <p>The methods of the {@code ParallelWordAccess} class split the (internal) data storage array into ranges of
+ * elements, which are processed by the tasks of a {@link ForkJoinPool}. The results of the ranges are combined (e.g.
+ * the number of bits set to {@code 1} is summed up). The ranges are split until they contain at most the given
+ * threshold of elements (by default, the value of the system property {@value #THRESHOLD_PROPERTY} or
+ * {@value #DEFAULT_THRESHOLD} elements). Hence, {@code Word}s with at most the threshold of elements are processed
+ * sequentially by the calling thread.</p>
+ *
+ * <p><b>Note:</b> A {@code ParallelWordAccess} operates directly on the (internal) data storage of its {@code Word}.
+ * It must not be shared with multiple threads without external synchronization (see: {@link Word#parallel()}).</p>
+ *
+ * @author Alexander Mattes
+ */
+public final class ParallelWordAccess {
+
+	/**
+	 * The name of the system property with the default maximum number of elements that are processed by a single task.
+	 */
+	public static final String THRESHOLD_PROPERTY = "de.mononoize.tools.word.parallelThreshold";
+
+	/**
+	 * The default maximum number of elements that are processed by a single task (i.e. {@code 1} Mbit).
+	 */
+	public static final int DEFAULT_THRESHOLD = 16384;
+
+	/**
+	 * The maximum number of elements that are processed by a single task, unless given explicitly.
+	 */
+	static final int THRESHOLD = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+
+	/**
+	 * An operation on a range of elements.
+	 */
+	@FunctionalInterface
+	private interface RangeOperation {
+
+		/**
+		 * Executes the operation on the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+		 *
+		 * @param fromIndex The index of the first element.
+		 * @param toIndex The index after the last element.
+		 * @return The result of the operation.
+		 */
+		int execute(int fromIndex, int toIndex);
+
+	}
+
+	/**
+	 * The (internal) data storage array of the accessed {@code Word}.
+	 */
+	private final long[] m_data;
+
+	/**
+	 * The accessed {@code Word}.
+	 */
+	private final Word m_word;
+
+	/**
+	 * The pool that executes the tasks.
+	 */
+	private final ForkJoinPool m_pool;
+
+	/**
+	 * The maximum number of elements that are processed by a single task.
+	 */
+	private final int m_threshold;
+
+	/**
+	 * Whether the modifying methods are rejected.
+	 */
+	private final boolean m_readOnly;
+
+	/**
+	 * Constructs a new {@code ParallelWordAccess} for the given {@code Word}.
+	 *
+	 * @param word The word to be accessed.
+	 * @param pool The pool that executes the tasks.
+	 * @param threshold The maximum number of elements that are processed by a single task.
+	 */
+	ParallelWordAccess(final Word word, final ForkJoinPool pool, final int threshold) {
+		this(word, pool, threshold, false);
+	}
+
+	/**
+	 * Constructs a new {@code ParallelWordAccess} for the given {@code Word}. A read-only {@code ParallelWordAccess}
+	 * throws an {@link UnsupportedOperationException} from all modifying methods (see: {@link ImmutableWord}).
+	 *
+	 * @param word The word to be accessed.
+	 * @param pool The pool that executes the tasks.
+	 * @param threshold The maximum number of elements that are processed by a single task.
+	 * @param readOnly Whether the modifying methods are rejected.
+	 */
+	ParallelWordAccess(final Word word, final ForkJoinPool pool, final int threshold, final boolean readOnly) {
+		Validate.notNull(pool, "The pool must not be null.");
+		Validate.isTrue(threshold > 0, "The threshold must be at least 1.");
+
+		this.m_word = word;
+		this.m_data = word.m_data;
+		this.m_pool = pool;
+		this.m_threshold = threshold;
+		this.m_readOnly = readOnly;
+	}
+
+	/**
+	 * Returns the accessed {@code Word}.
+	 *
+	 * @return The accessed {@code Word}.
+	 */
+	public Word word() {
+		return this.m_word;
+	}
+
+	/**
+	 * Sets the given bits to {@code 1} (see: {@link Word#set(int, int)}).
+	 *
+	 * @param startIndex The index of the first bit to be set.
+	 * @param endIndex The index of the last bit to be set.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess set(final int startIndex, final int endIndex) {
+		this.checkWritable();
+
+		Word.checkRange(this.m_word.m_size, startIndex, endIndex);
+
+		final int startElement = startIndex >>> Word.ELEMENT_ADDRESS_BITS;
+		final int endElement = endIndex >>> Word.ELEMENT_ADDRESS_BITS;
+
+		this.execute(startElement, (endElement + 1), (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] |= Word.getMask(i, startIndex, endIndex);
+			}
+			return 0;
+		}, null);
+
+		return this;
+	}
+
+	/**
+	 * Sets the given bits to {@code 0} (see: {@link Word#clear(int, int)}).
+	 *
+	 * @param startIndex The index of the first bit to be cleared.
+	 * @param endIndex The index of the last bit to be cleared.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess clear(final int startIndex, final int endIndex) {
+		this.checkWritable();
+
+		Word.checkRange(this.m_word.m_size, startIndex, endIndex);
+
+		final int startElement = startIndex >>> Word.ELEMENT_ADDRESS_BITS;
+		final int endElement = endIndex >>> Word.ELEMENT_ADDRESS_BITS;
+
+		this.execute(startElement, (endElement + 1), (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] &= ~Word.getMask(i, startIndex, endIndex);
+			}
+			return 0;
+		}, null);
+
+		return this;
+	}
+
+	/**
+	 * Flips the given bits (see: {@link Word#flip(int, int)}).
+	 *
+	 * @param startIndex The index of the first bit to be flipped.
+	 * @param endIndex The index of the last bit to be flipped.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess flip(final int startIndex, final int endIndex) {
+		this.checkWritable();
+
+		Word.checkRange(this.m_word.m_size, startIndex, endIndex);
+
+		final int startElement = startIndex >>> Word.ELEMENT_ADDRESS_BITS;
+		final int endElement = endIndex >>> Word.ELEMENT_ADDRESS_BITS;
+
+		this.execute(startElement, (endElement + 1), (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] ^= Word.getMask(i, startIndex, endIndex);
+			}
+			return 0;
+		}, null);
+
+		return this;
+	}
+
+	/**
+	 * Flips all bits (see: {@link Word#not()}).
+	 *
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess not() {
+		return this.flip(0, (this.m_word.m_size - 1));
+	}
+
+	/**
+	 * Executes a logical conjunction operation on the accessed {@code Word}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess and(final Word that) {
+		this.checkWritable();
+
+		final long[] other = this.checkSize(that);
+
+		this.execute(0, this.m_data.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] &= other[i];
+			}
+			return 0;
+		}, null);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical conjunction operation on the accessed {@code Word} and negates the result.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess nand(final Word that) {
+		this.checkWritable();
+
+		final long[] other = this.checkSize(that);
+
+		this.execute(0, this.m_data.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] = ~(this.m_data[i] & other[i]);
+			}
+			return 0;
+		}, null);
+		Word.clearUnusedBits(this.m_data, 0, this.m_data.length, this.m_word.m_size);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on the accessed {@code Word}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess xor(final Word that) {
+		this.checkWritable();
+
+		final long[] other = this.checkSize(that);
+
+		this.execute(0, this.m_data.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] ^= other[i];
+			}
+			return 0;
+		}, null);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on the accessed {@code Word}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess or(final Word that) {
+		this.checkWritable();
+
+		final long[] other = this.checkSize(that);
+
+		this.execute(0, this.m_data.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] |= other[i];
+			}
+			return 0;
+		}, null);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on the accessed {@code Word} and negates the result.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ParallelWordAccess}.
+	 */
+	public ParallelWordAccess nor(final Word that) {
+		this.checkWritable();
+
+		final long[] other = this.checkSize(that);
+
+		this.execute(0, this.m_data.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				this.m_data[i] = ~(this.m_data[i] | other[i]);
+			}
+			return 0;
+		}, null);
+		Word.clearUnusedBits(this.m_data, 0, this.m_data.length, this.m_word.m_size);
+
+		return this;
+	}
+
+	/**
+	 * Returns the number of bits that are set to {@code 1}.
+	 *
+	 * @return The number of bits that are set to {@code 1}.
+	 */
+	public int countOnes() {
+		return this.execute(0, this.m_data.length, (from, to) -> Word.countOnes(this.m_data, from, (to - from)),
+				Integer::sum);
+	}
+
+	/**
+	 * Returns the number of bits that are set to {@code 0}.
+	 *
+	 * @return The number of bits that are set to {@code 0}.
+	 */
+	public int countZeros() {
+		return (this.m_word.m_size - this.countOnes());
+	}
+
+	/**
+	 * Returns the index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+	 *
+	 * @return The index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+	 */
+	public int findFirstOne() {
+		return this.execute(0, this.m_data.length, (from, to) -> offset(from, Word.findFirstOne(this.m_data, from, (to - from))),
+				(low, high) -> (low != -1) ? low : high);
+	}
+
+	/**
+	 * Returns the index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+	 *
+	 * @return The index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+	 */
+	public int findLastOne() {
+		return this.execute(0, this.m_data.length, (from, to) -> offset(from, Word.findLastOne(this.m_data, from, (to - from))),
+				(low, high) -> (high != -1) ? high : low);
+	}
+
+	/**
+	 * Returns the index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+	 *
+	 * @return The index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+	 */
+	public int findFirstZero() {
+		final long lastElementMask = Word.getLastElementMask(this.m_word.m_size);
+
+		// The unused bits of the most significant element must not be reported as zeros.
+		return this.execute(0, this.m_data.length, (from, to) -> {
+			final long mask = (to == this.m_data.length) ? lastElementMask : Word.MAX;
+			return offset(from, Word.findFirstZero(this.m_data, from, (to - from), mask));
+		}, (low, high) -> (low != -1) ? low : high);
+	}
+
+	/**
+	 * Returns the index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+	 *
+	 * @return The index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+	 */
+	public int findLastZero() {
+		final long lastElementMask = Word.getLastElementMask(this.m_word.m_size);
+
+		// The unused bits of the most significant element must not be reported as zeros.
+		return this.execute(0, this.m_data.length, (from, to) -> {
+			final long mask = (to == this.m_data.length) ? lastElementMask : Word.MAX;
+			return offset(from, Word.findLastZero(this.m_data, from, (to - from), mask));
+		}, (low, high) -> (high != -1) ? high : low);
+	}
+
+	/**
+	 * Compares the accessed {@code Word} with the given {@code Word} as unsigned values (see:
+	 * {@link Word#compare(Word, Word)}).
+	 *
+	 * @param that The word to be compared.
+	 * @return {@code -1}, {@code 0}, or {@code 1} if the accessed {@code Word} is less than, equal to, or greater than
+	 *         the given {@code Word}.
+	 */
+	public int compareTo(final Word that) {
+		final long[] other = this.checkSize(that);
+
+		// Only the most significant element that differs determines the result.
+		return this.execute(0, this.m_data.length, (from, to) -> Word.compare(this.m_data, from, other, from, (to - from)),
+				(low, high) -> (high != 0) ? high : low);
+	}
+
+	/**
+	 * Executes the given operation on the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+	 * If there are more elements than the threshold, the range is split in halves, which are executed in parallel, and
+	 * their results are combined.
+	 *
+	 * @param fromIndex The index of the first element.
+	 * @param toIndex The index after the last element.
+	 * @param operation The operation to be executed.
+	 * @param combiner The function that combines the results of the lower and the upper half (may be {@code null}
+	 *        if the operation has no result).
+	 * @return The (combined) result of the operation.
+	 */
+	private int execute(final int fromIndex, final int toIndex, final RangeOperation operation,
+			final IntBinaryOperator combiner) {
+		if ((toIndex - fromIndex) <= this.m_threshold) {
+			return operation.execute(fromIndex, toIndex);
+		}
+
+		final RangeTask task = new RangeTask(fromIndex, toIndex, operation, combiner, this.m_threshold);
+		this.m_pool.invoke(task);
+
+		return task.m_result;
+	}
+
+	/**
+	 * Throws an {@link UnsupportedOperationException} if this {@code ParallelWordAccess} is read-only.
+	 */
+	private void checkWritable() {
+		if (this.m_readOnly) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * Returns the (internal) data storage array of the given {@code Word} if it has the same size as the accessed
+	 * {@code Word}.
+	 *
+	 * @param that The word to be checked.
+	 * @return The (internal) data storage array of the given {@code Word}.
+	 */
+	private long[] checkSize(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_word.m_size == that.m_size, "Different size Words not allowed.");
+
+		return that.m_data;
+	}
+
+	/**
+	 * Returns the index of a bit relative to the given element as an absolute index.
+	 *
+	 * @param fromIndex The index of the element the given index is relative to.
+	 * @param index The relative index of the bit or {@code -1}.
+	 * @return The absolute index of the bit or {@code -1}.
+	 */
+	private static int offset(final int fromIndex, final int index) {
+		return (index == -1) ? -1 : (fromIndex << Word.ELEMENT_ADDRESS_BITS) + index;
+	}
+
+	/**
+	 * The task that executes an operation on a range of elements.
+	 */
+	private static final class RangeTask extends RecursiveAction {
+
+		@Serial
+		private static final long serialVersionUID = 4406529733128374120L;
+
+		/**
+		 * The index of the first element.
+		 */
+		private final int m_fromIndex;
+
+		/**
+		 * The index after the last element.
+		 */
+		private final int m_toIndex;
+
+		/**
+		 * The operation to be executed.
+		 */
+		private final transient RangeOperation m_operation;
+
+		/**
+		 * The function that combines the results of the halves (may be {@code null}).
+		 */
+		private final transient IntBinaryOperator m_combiner;
+
+		/**
+		 * The maximum number of elements that are processed without splitting.
+		 */
+		private final int m_threshold;
+
+		/**
+		 * The result of the operation.
+		 */
+		private int m_result;
+
+		/**
+		 * Constructs a new {@code RangeTask}.
+		 *
+		 * @param fromIndex The index of the first element.
+		 * @param toIndex The index after the last element.
+		 * @param operation The operation to be executed.
+		 * @param combiner The function that combines the results of the halves (may be {@code null}).
+		 * @param threshold The maximum number of elements that are processed without splitting.
+		 */
+		private RangeTask(final int fromIndex, final int toIndex, final RangeOperation operation,
+				final IntBinaryOperator combiner, final int threshold) {
+			this.m_fromIndex = fromIndex;
+			this.m_toIndex = toIndex;
+			this.m_operation = operation;
+			this.m_combiner = combiner;
+			this.m_threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if ((this.m_toIndex - this.m_fromIndex) <= this.m_threshold) {
+				this.m_result = this.m_operation.execute(this.m_fromIndex, this.m_toIndex);
+				return;
+			}
+
+			final int middle = (this.m_fromIndex + this.m_toIndex) >>> 1;
+			final RangeTask low = new RangeTask(this.m_fromIndex, middle, this.m_operation, this.m_combiner, this.m_threshold);
+			final RangeTask high = new RangeTask(middle, this.m_toIndex, this.m_operation, this.m_combiner, this.m_threshold);
+			invokeAll(low, high);
+
+			if (this.m_combiner != null) {
+				this.m_result = this.m_combiner.applyAsInt(low.m_result, high.m_result);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,398 @@
+package de.mononoize.tools.word;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A set of bits with a fixed size that accumulates bits from many threads (similar to
+ * {@link java.util.concurrent.atomic.LongAdder}). The bits are accumulated in several shards, which are selected by a
+ * per-thread probe, so that concurrent threads usually do not write to the same memory. The shards are merged when the
+ * result is read (see: {@link #snapshot()}).</p>
+ *
+ * <p>The accumulation operator is defined at construction: A {@code ShardedWord} either accumulates with a logical
+ * inclusive disjunction (see: {@link #set(int)} and {@link #or(Word)}) or with a logical exclusive disjunction (see:
+ * {@link #flip(int)} and {@link #xor(Word)}). As each operator is commutative, the result does not depend on the order
+ * of the operations or the shard that has been used. Operations of the other operator are not supported, because both
+ * operators do not commute with each other (e.g. {@code set(0)} followed by {@code flip(0)} differs from
+ * {@code flip(0)} followed by {@code set(0)}), so that a mixed result would depend on the interleaving of the threads,
+ * which the shards do not record. Two {@code ShardedWord}s should be used to accumulate with both operators.</p>
+ *
+ * <p>Initially, there is a single shard. When an update of a shard fails because of a concurrent update (i.e. a failed
+ * compare-and-set), the number of shards is doubled up to the maximum number of shards, and afterwards the probe of the
+ * calling thread is changed to select another shard. The shards are created on first use and padded against false
+ * sharing. Each element of a shard is updated atomically, so that threads that share a shard do not lose updates. The
+ * result of {@link #snapshot()} includes all operations that have completed before, and may include concurrent
+ * operations partially.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class ShardedWord {
+
+	/**
+	 * The accumulation operators.
+	 */
+	public enum Operator {
+
+		/**
+		 * The logical inclusive disjunction.
+		 */
+		OR,
+
+		/**
+		 * The logical exclusive disjunction.
+		 */
+		XOR
+
+	}
+
+	/**
+	 * The variable handle used to access the elements of the shards.
+	 */
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+	/**
+	 * The number of elements that are added before and after the elements of a shard (i.e. {@code 128} bytes, which
+	 * covers the adjacent cache line prefetch).
+	 */
+	private static final int PADDING = 16;
+
+	/**
+	 * The multiplier used to spread the thread IDs (the golden ratio).
+	 */
+	private static final long SPREAD = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * The probes of the threads, which select the shards. The probe of a thread is changed when the thread encounters
+	 * contention.
+	 */
+	private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(
+			() -> new int[] {((int) ((Thread.currentThread().getId() * SPREAD) >>> 32)) | 1});
+
+	/**
+	 * The number of bits.
+	 */
+	private final int m_size;
+
+	/**
+	 * The number of elements of a shard (excluding the padding).
+	 */
+	private final int m_length;
+
+	/**
+	 * The accumulation operator.
+	 */
+	private final Operator m_operator;
+
+	/**
+	 * The maximum number of shards.
+	 */
+	private final int m_maxShards;
+
+	/**
+	 * The lock that guards the creation of shards and the growth of the shard table.
+	 */
+	private final Object m_lock = new Object();
+
+	/**
+	 * The shard table, whose shards are created on first use.
+	 */
+	private volatile AtomicReferenceArray<long[]> m_shards = new AtomicReferenceArray<>(1);
+
+	/**
+	 * Constructs a new {@code ShardedWord} with the given number of bits and the given accumulation operator. The
+	 * maximum number of shards is the number of available processors (rounded up to a power of two). Initially, all
+	 * bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 * @param operator The accumulation operator to be used.
+	 */
+	public ShardedWord(final int size, final Operator operator) {
+		this(size, operator, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs a new {@code ShardedWord} with the given number of bits, the given accumulation operator, and the given
+	 * maximum number of shards (rounded up to a power of two). Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 * @param operator The accumulation operator to be used.
+	 * @param shards The maximum number of shards to be used.
+	 */
+	public ShardedWord(final int size, final Operator operator, final int shards) {
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+		Validate.notNull(operator, "The operator must not be null.");
+		Validate.inclusiveBetween(1, (1 << 16), shards, "Number of shards out of bounds.");
+
+		this.m_size = size;
+		this.m_length = ((size - 1) >>> Word.ELEMENT_ADDRESS_BITS) + 1;
+		this.m_operator = operator;
+		this.m_maxShards = (shards == 1) ? 1 : Integer.highestOneBit(shards - 1) << 1;
+	}
+
+	/**
+	 * Returns the number of bits of this {@code ShardedWord}.
+	 *
+	 * @return The number of bits of this {@code ShardedWord}.
+	 */
+	public int getSize() {
+		return this.m_size;
+	}
+
+	/**
+	 * Returns the accumulation operator of this {@code ShardedWord}.
+	 *
+	 * @return The accumulation operator of this {@code ShardedWord}.
+	 */
+	public Operator getOperator() {
+		return this.m_operator;
+	}
+
+	/**
+	 * Returns the current number of shards, which grows with contention up to the maximum number of shards.
+	 *
+	 * @return The current number of shards.
+	 */
+	public int getShardCount() {
+		return this.m_shards.length();
+	}
+
+	/**
+	 * Sets the given bit to {@code 1}. This operation requires the {@link Operator#OR} operator.
+	 *
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code ShardedWord}.
+	 */
+	public ShardedWord set(final int index) {
+		Validate.validState(this.m_operator == Operator.OR, "Operation not supported by the operator.");
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		final AtomicReferenceArray<long[]> shards = this.m_shards;
+		if (!this.accumulate(this.getShard(shards), index >>> Word.ELEMENT_ADDRESS_BITS, Word.ONE << index)) {
+			this.contended(shards);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on this {@code ShardedWord}. This operation requires the
+	 * {@link Operator#OR} operator.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ShardedWord}.
+	 */
+	public ShardedWord or(final Word that) {
+		Validate.validState(this.m_operator == Operator.OR, "Operation not supported by the operator.");
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		final AtomicReferenceArray<long[]> shards = this.m_shards;
+		final long[] shard = this.getShard(shards);
+
+		boolean uncontended = true;
+		for (int i = 0; i < this.m_length; i++) {
+			final long element = that.m_data[i];
+			if (element != Word.ZERO) {
+				uncontended &= this.accumulate(shard, i, element);
+			}
+		}
+
+		if (!uncontended) {
+			this.contended(shards);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Flips the given bit. This operation requires the {@link Operator#XOR} operator.
+	 *
+	 * @param index The index of the bit to be flipped.
+	 * @return A reference to this {@code ShardedWord}.
+	 */
+	public ShardedWord flip(final int index) {
+		Validate.validState(this.m_operator == Operator.XOR, "Operation not supported by the operator.");
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		final AtomicReferenceArray<long[]> shards = this.m_shards;
+		if (!this.accumulate(this.getShard(shards), index >>> Word.ELEMENT_ADDRESS_BITS, Word.ONE << index)) {
+			this.contended(shards);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on this {@code ShardedWord}. This operation requires the
+	 * {@link Operator#XOR} operator.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code ShardedWord}.
+	 */
+	public ShardedWord xor(final Word that) {
+		Validate.validState(this.m_operator == Operator.XOR, "Operation not supported by the operator.");
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+
+		final AtomicReferenceArray<long[]> shards = this.m_shards;
+		final long[] shard = this.getShard(shards);
+
+		boolean uncontended = true;
+		for (int i = 0; i < this.m_length; i++) {
+			final long element = that.m_data[i];
+			if (element != Word.ZERO) {
+				uncontended &= this.accumulate(shard, i, element);
+			}
+		}
+
+		if (!uncontended) {
+			this.contended(shards);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the accumulated bits, i.e. the merge of all shards.
+	 *
+	 * @return The accumulated bits.
+	 */
+	public Word snapshot() {
+		final Word result = new Word(this.m_size);
+
+		final AtomicReferenceArray<long[]> shards = this.m_shards;
+		for (int i = 0; i < shards.length(); i++) {
+			final long[] shard = shards.get(i);
+			if (shard == null) {
+				continue;
+			}
+
+			for (int j = 0; j < this.m_length; j++) {
+				final long element = (long) ELEMENTS.getVolatile(shard, PADDING + j);
+				if (this.m_operator == Operator.OR) {
+					result.m_data[j] |= element;
+				} else {
+					result.m_data[j] ^= element;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Sets all bits to {@code 0}. Concurrent operations may or may not be included in the result.
+	 *
+	 * @return A reference to this {@code ShardedWord}.
+	 */
+	public ShardedWord reset() {
+		final AtomicReferenceArray<long[]> shards = this.m_shards;
+		for (int i = 0; i < shards.length(); i++) {
+			final long[] shard = shards.get(i);
+			if (shard == null) {
+				continue;
+			}
+
+			for (int j = 0; j < this.m_length; j++) {
+				ELEMENTS.setVolatile(shard, PADDING + j, Word.ZERO);
+			}
+		}
+
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return this.snapshot().toString();
+	}
+
+	/**
+	 * Accumulates the given bits into the given element of the given shard. The bits are accumulated with a single
+	 * compare-and-set if possible. Otherwise, i.e. if the element has been updated concurrently, the bits are
+	 * accumulated with an atomic read-modify-write operation.
+	 *
+	 * @param shard The shard to be used.
+	 * @param index The index of the element.
+	 * @param bits The bits to be accumulated.
+	 * @return Whether the bits have been accumulated without contention.
+	 */
+	private boolean accumulate(final long[] shard, final int index, final long bits) {
+		final long element = (long) ELEMENTS.getOpaque(shard, PADDING + index);
+
+		if (this.m_operator == Operator.OR) {
+			if ((element | bits) == element) {
+				return true;
+			}
+			if (ELEMENTS.compareAndSet(shard, PADDING + index, element, element | bits)) {
+				return true;
+			}
+			ELEMENTS.getAndBitwiseOr(shard, PADDING + index, bits);
+		} else {
+			if (ELEMENTS.compareAndSet(shard, PADDING + index, element, element ^ bits)) {
+				return true;
+			}
+			ELEMENTS.getAndBitwiseXor(shard, PADDING + index, bits);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Handles contention of the calling thread on the given shard table: The number of shards is doubled if the
+	 * maximum number of shards has not been reached yet, and the probe of the calling thread is changed, so that the
+	 * thread will likely use another shard.
+	 *
+	 * @param shards The shard table that has been used.
+	 */
+	private void contended(final AtomicReferenceArray<long[]> shards) {
+		if (shards.length() < this.m_maxShards) {
+			synchronized (this.m_lock) {
+				if (this.m_shards == shards) {
+					final AtomicReferenceArray<long[]> result = new AtomicReferenceArray<>(shards.length() << 1);
+					for (int i = 0; i < shards.length(); i++) {
+						result.set(i, shards.get(i));
+					}
+					this.m_shards = result;
+				}
+			}
+		}
+
+		// The probe is advanced with a xorshift step (as in java.util.concurrent.ThreadLocalRandom).
+		final int[] probe = PROBE.get();
+		probe[0] ^= probe[0] << 13;
+		probe[0] ^= probe[0] >>> 17;
+		probe[0] ^= probe[0] << 5;
+	}
+
+	/**
+	 * Returns the shard of the calling thread in the given shard table. The shard is created if it does not exist yet.
+	 *
+	 * @param shards The shard table to be used.
+	 * @return The shard of the calling thread.
+	 */
+	private long[] getShard(final AtomicReferenceArray<long[]> shards) {
+		final int index = PROBE.get()[0] & (shards.length() - 1);
+
+		final long[] shard = shards.get(index);
+		if (shard != null) {
+			return shard;
+		}
+
+		// The shards are created while holding the lock, so that a shard is never created in a shard table that has
+		// already been replaced (and the shard would be lost).
+
+		synchronized (this.m_lock) {
+			final AtomicReferenceArray<long[]> current = this.m_shards;
+			final int currentIndex = index & (current.length() - 1);
+			if (current.get(currentIndex) == null) {
+				current.set(currentIndex, new long[PADDING + this.m_length + PADDING]);
+			}
+
+			return current.get(currentIndex);
+		}
+	}
+
+}
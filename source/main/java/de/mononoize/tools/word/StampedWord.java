@@ -0,0 +1,472 @@
+package de.mononoize.tools.word;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>A synchronized set of bits with a fixed size that is optimized for a read-mostly usage.</p>
+ *
+ * <p>Modifications acquire the write lock of a {@link StampedLock}. Reads are executed without locking (using an
+ * optimistic stamp) and validated afterwards. Only if a concurrent modification has been detected, the read is
+ * repeated under the read lock. Hence, reads do not block each other and do not write to shared memory, so that the
+ * read throughput scales with the number of cores as long as modifications are rare.</p>
+ *
+ * <p>Operations that have side effects besides their result (i.e. {@link #formatTo(Appendable)} and
+ * {@link #writeTo(ByteBuffer)}) cannot be repeated and therefore always acquire the read lock.</p>
+ *
+ * <p>See: {@link Word}.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class StampedWord extends Word {
+
+	@Serial
+	private static final long serialVersionUID = 3348152619026839761L;
+
+	/**
+	 * The lock.
+	 */
+	private final StampedLock m_lock = new StampedLock();
+
+	/**
+	 * The thread that currently holds the write lock. As a {@link StampedLock} is not reentrant, operations that are
+	 * (internally) invoked by the writing thread are executed without acquiring the lock again.
+	 */
+	private transient Thread m_writer;
+
+	/**
+	 * Constructs a new {@code StampedWord} with the given number of bits. Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 */
+	public StampedWord(final int size) {
+		super(size);
+	}
+
+	@Override
+	public long hash64() {
+		return this.readLong(() -> super.hash64());
+	}
+
+	@Override
+    public boolean equals(final Object object) {
+		return this.readBoolean(() -> super.equals(object));
+	}
+
+	@Override
+	public Object clone() {
+		return this.read(() -> super.clone());
+	}
+
+	@Override
+	public int compareTo(final Word that) {
+		return this.readInt(() -> super.compareTo(that));
+	}
+
+	@Override
+	public String toString() {
+		return this.read(() -> super.toString());
+	}
+
+	@Override
+	public String toHexString() {
+		return this.read(() -> super.toHexString());
+	}
+
+	@Override
+	public String toBase64String() {
+		return this.read(() -> super.toBase64String());
+	}
+
+	@Override
+	public <T extends Appendable> T formatTo(final T appendable) throws IOException {
+		if (this.m_writer == Thread.currentThread()) {
+			return super.formatTo(appendable);
+		}
+
+		final long stamp = this.m_lock.readLock();
+		try {
+			return super.formatTo(appendable);
+		} finally {
+			this.m_lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public byte toByte() {
+		return (byte) this.readInt(() -> super.toByte());
+	}
+
+	@Override
+	public short toShort() {
+		return (short) this.readInt(() -> super.toShort());
+	}
+
+	@Override
+	public int toInteger() {
+		return this.readInt(() -> super.toInteger());
+	}
+
+	@Override
+	public long toLong() {
+		return this.readLong(() -> super.toLong());
+	}
+
+	@Override
+	public char toChar() {
+		return (char) this.readInt(() -> super.toChar());
+	}
+
+	@Override
+	public long[] toLongArray() {
+		return this.read(() -> super.toLongArray());
+	}
+
+	@Override
+	public byte[] toByteArray(final ByteOrder order) {
+		return this.read(() -> super.toByteArray(order));
+	}
+
+	@Override
+	public ByteBuffer writeTo(final ByteBuffer buffer) {
+		if (this.m_writer == Thread.currentThread()) {
+			return super.writeTo(buffer);
+		}
+
+		final long stamp = this.m_lock.readLock();
+		try {
+			return super.writeTo(buffer);
+		} finally {
+			this.m_lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public Word setValue(final Word that) {
+		return this.write(() -> super.setValue(that));
+	}
+
+	@Override
+	public Word setValue(final String value) {
+		return this.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setHexValue(final String value) {
+		return this.write(() -> super.setHexValue(value));
+	}
+
+	@Override
+	public Word setBase64Value(final String value) {
+		return this.write(() -> super.setBase64Value(value));
+	}
+
+	@Override
+	public Word setValue(final byte value) {
+		return this.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final short value) {
+		return this.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final int value) {
+		return this.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long value) {
+		return this.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final char value) {
+		return this.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long[] values) {
+		return this.write(() -> super.setValue(values));
+	}
+
+	@Override
+	public Word setValue(final byte[] bytes, final ByteOrder order) {
+		return this.write(() -> super.setValue(bytes, order));
+	}
+
+	@Override
+	public Word readFrom(final ByteBuffer buffer) {
+		return this.write(() -> super.readFrom(buffer));
+	}
+
+	@Override
+	public boolean getBoolean(final int index) {
+		return this.readBoolean(() -> super.getBoolean(index));
+	}
+
+	@Override
+	public Word set(final int index) {
+		return this.write(() -> super.set(index));
+	}
+
+	@Override
+	public Word set(final int startIndex, final int endIndex) {
+		return this.write(() -> super.set(startIndex, endIndex));
+	}
+
+	@Override
+	public Word clear(final int index) {
+		return this.write(() -> super.clear(index));
+	}
+
+	@Override
+	public Word clear(final int startIndex, final int endIndex) {
+		return this.write(() -> super.clear(startIndex, endIndex));
+	}
+
+	@Override
+	public Word clear() {
+		return this.write(() -> super.clear());
+	}
+
+	@Override
+	public Word flip(final int index) {
+		return this.write(() -> super.flip(index));
+	}
+
+	@Override
+	public Word flip(final int startIndex, final int endIndex) {
+		return this.write(() -> super.flip(startIndex, endIndex));
+	}
+
+	@Override
+	public int findFirstOne() {
+		return this.readInt(() -> super.findFirstOne());
+	}
+
+	@Override
+	public int findLastOne() {
+		return this.readInt(() -> super.findLastOne());
+	}
+
+	@Override
+	public int findFirstZero() {
+		return this.readInt(() -> super.findFirstZero());
+	}
+
+	@Override
+	public int findLastZero() {
+		return this.readInt(() -> super.findLastZero());
+	}
+
+	@Override
+	public int countOnes() {
+		return this.readInt(() -> super.countOnes());
+	}
+
+	@Override
+	public Word and(final Word that) {
+		return this.write(() -> super.and(that));
+	}
+
+	@Override
+	public Word nand(final Word that) {
+		return this.write(() -> super.nand(that));
+	}
+
+	@Override
+	public Word xor(final Word that) {
+		return this.write(() -> super.xor(that));
+	}
+
+	@Override
+	public Word or(final Word that) {
+		return this.write(() -> super.or(that));
+	}
+
+	@Override
+	public Word nor(final Word that) {
+		return this.write(() -> super.nor(that));
+	}
+
+	@Override
+	public Word shl(final int offset) {
+		return this.write(() -> super.shl(offset));
+	}
+
+	@Override
+	public Word shr(final int offset) {
+		return this.write(() -> super.shr(offset));
+	}
+
+	@Override
+	public Word rol(final int offset) {
+		return this.write(() -> super.rol(offset));
+	}
+
+	@Override
+	public Word ror(final int offset) {
+		return this.write(() -> super.ror(offset));
+	}
+
+	/**
+	 * An unchecked access would bypass the locking of this {@code StampedWord} and is therefore not supported.
+	 *
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public WordAccess unchecked() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A parallel access would bypass the locking of this {@code StampedWord} and is therefore not supported.
+	 *
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public ParallelWordAccess parallel(final ForkJoinPool pool, final int threshold) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Executes the given read operation. The operation is executed with an optimistic stamp first and repeated under
+	 * the read lock if the stamp could not be validated afterwards.
+	 *
+	 * @param reader The read operation to be executed.
+	 * @return The result of the read operation.
+	 */
+	private <T> T read(final Supplier<T> reader) {
+		if (this.m_writer == Thread.currentThread()) {
+			return reader.get();
+		}
+
+		long stamp = this.m_lock.tryOptimisticRead();
+		if (stamp != 0) {
+			final T result = reader.get();
+			if (this.m_lock.validate(stamp)) {
+				return result;
+			}
+		}
+
+		stamp = this.m_lock.readLock();
+		try {
+			return reader.get();
+		} finally {
+			this.m_lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Executes the given read operation (see: {@link #read(Supplier)}).
+	 *
+	 * @param reader The read operation to be executed.
+	 * @return The result of the read operation.
+	 */
+	private boolean readBoolean(final BooleanSupplier reader) {
+		if (this.m_writer == Thread.currentThread()) {
+			return reader.getAsBoolean();
+		}
+
+		long stamp = this.m_lock.tryOptimisticRead();
+		if (stamp != 0) {
+			final boolean result = reader.getAsBoolean();
+			if (this.m_lock.validate(stamp)) {
+				return result;
+			}
+		}
+
+		stamp = this.m_lock.readLock();
+		try {
+			return reader.getAsBoolean();
+		} finally {
+			this.m_lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Executes the given read operation (see: {@link #read(Supplier)}).
+	 *
+	 * @param reader The read operation to be executed.
+	 * @return The result of the read operation.
+	 */
+	private int readInt(final IntSupplier reader) {
+		if (this.m_writer == Thread.currentThread()) {
+			return reader.getAsInt();
+		}
+
+		long stamp = this.m_lock.tryOptimisticRead();
+		if (stamp != 0) {
+			final int result = reader.getAsInt();
+			if (this.m_lock.validate(stamp)) {
+				return result;
+			}
+		}
+
+		stamp = this.m_lock.readLock();
+		try {
+			return reader.getAsInt();
+		} finally {
+			this.m_lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Executes the given read operation (see: {@link #read(Supplier)}).
+	 *
+	 * @param reader The read operation to be executed.
+	 * @return The result of the read operation.
+	 */
+	private long readLong(final LongSupplier reader) {
+		if (this.m_writer == Thread.currentThread()) {
+			return reader.getAsLong();
+		}
+
+		long stamp = this.m_lock.tryOptimisticRead();
+		if (stamp != 0) {
+			final long result = reader.getAsLong();
+			if (this.m_lock.validate(stamp)) {
+				return result;
+			}
+		}
+
+		stamp = this.m_lock.readLock();
+		try {
+			return reader.getAsLong();
+		} finally {
+			this.m_lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Executes the given write operation under the write lock.
+	 *
+	 * @param writer The write operation to be executed.
+	 * @return The result of the write operation.
+	 */
+	private Word write(final Supplier<Word> writer) {
+		if (this.m_writer == Thread.currentThread()) {
+			return writer.get();
+		}
+
+		final long stamp = this.m_lock.writeLock();
+		this.m_writer = Thread.currentThread();
+		try {
+			return writer.get();
+		} finally {
+			this.m_writer = null;
+			this.m_lock.unlockWrite(stamp);
+		}
+	}
+
+}
@@ -0,0 +1,578 @@
+package de.mononoize.tools.word;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A synchronized set of bits with a fixed size that is optimized for large words, which are modified concurrently
+ * at different positions.</p>
+ *
+ * <p>The (internal) data storage array is partitioned into stripes of {@code 2^n} elements, and each stripe is
+ * guarded by its own lock. By default, a stripe has {@value #DEFAULT_STRIPE_ELEMENTS} elements (i.e. the {@code 64}
+ * bytes of a typical cache line), and the stripes grow (in powers of two) for large words, so that there are at most
+ * {@value #DEFAULT_MAX_STRIPES} stripes. As a lock uses about {@code 160} bytes, this bounds the memory of the locks
+ * and the number of locks acquired by the operations on all bits. Operations on a single bit or a range of bits only lock the stripes they touch, so that
+ * threads working on different stripes do not contend. All other operations lock all stripes in ascending order.
+ * Operations with a second {@code StripedWord} operand lock the stripes of both words, where the words are locked in
+ * a global order.</p>
+ *
+ * <p>The locks of the stripes are reentrant and padded, so that the lock states of adjacent stripes do not share a
+ * cache line either.</p>
+ *
+ * <p>See: {@link Word}.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class StripedWord extends Word {
+
+	@Serial
+	private static final long serialVersionUID = 6105932806157829344L;
+
+	/**
+	 * The default number of elements per stripe.
+	 */
+	public static final int DEFAULT_STRIPE_ELEMENTS = 8;
+
+	/**
+	 * The maximum number of stripes if the default number of elements per stripe is used.
+	 */
+	public static final int DEFAULT_MAX_STRIPES = 1024;
+
+	/**
+	 * The sequence that defines the global order of all {@code StripedWord}s.
+	 */
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	/**
+	 * The locks of the stripes.
+	 */
+	private final StripeLock[] m_locks;
+
+	/**
+	 * The number of address bits of a stripe (i.e. the number of elements per stripe is {@code 2^m_stripeBits}).
+	 */
+	private final int m_stripeBits;
+
+	/**
+	 * The position of this {@code StripedWord} in the global order.
+	 */
+	private transient long m_order = SEQUENCE.getAndIncrement();
+
+	/**
+	 * Constructs a new {@code StripedWord} with the given number of bits and the default number of elements per stripe
+	 * (i.e. {@value #DEFAULT_STRIPE_ELEMENTS} elements, or more if the word would have more than
+	 * {@value #DEFAULT_MAX_STRIPES} stripes). Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 */
+	public StripedWord(final int size) {
+		this(size, getDefaultStripeElements(size));
+	}
+
+	/**
+	 * Constructs a new {@code StripedWord} with the given number of bits and the given number of elements per stripe.
+	 * Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 * @param stripeElements The number of elements per stripe, which must be a power of two.
+	 */
+	public StripedWord(final int size, final int stripeElements) {
+		super(size);
+
+		Validate.isTrue((stripeElements > 0) && (Integer.bitCount(stripeElements) == 1),
+				"The number of elements per stripe must be a power of two.");
+
+		this.m_stripeBits = Integer.numberOfTrailingZeros(stripeElements);
+		this.m_locks = new StripeLock[((this.m_data.length - 1) >>> this.m_stripeBits) + 1];
+
+		for (int i = 0; i < this.m_locks.length; i++) {
+			this.m_locks[i] = new StripeLock();
+		}
+	}
+
+	/**
+	 * Returns the default number of elements per stripe for the given number of bits, i.e. the smallest power of two
+	 * that is at least {@value #DEFAULT_STRIPE_ELEMENTS} and does not result in more than {@value #DEFAULT_MAX_STRIPES}
+	 * stripes.
+	 *
+	 * @param size The number of bits.
+	 * @return The default number of elements per stripe.
+	 */
+	static int getDefaultStripeElements(final int size) {
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+
+		final int elements = (Word.getLength(size) - 1) / DEFAULT_MAX_STRIPES + 1;
+
+		return Math.max(DEFAULT_STRIPE_ELEMENTS, Integer.highestOneBit(elements - 1) << 1);
+	}
+
+	/**
+	 * Returns the number of stripes.
+	 *
+	 * @return The number of stripes.
+	 */
+	public int getStripeCount() {
+		return this.m_locks.length;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.locked(() -> super.hashCode());
+	}
+
+	@Override
+	public long hash64() {
+		return this.locked(() -> super.hash64());
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		return this.locked(object, () -> super.equals(object));
+	}
+
+	@Override
+	public Object clone() {
+		return this.locked(() -> super.clone());
+	}
+
+	@Override
+	public int compareTo(final Word that) {
+		return this.locked(that, () -> super.compareTo(that));
+	}
+
+	@Override
+	public String toString() {
+		return this.locked(() -> super.toString());
+	}
+
+	@Override
+	public String toHexString() {
+		return this.locked(() -> super.toHexString());
+	}
+
+	@Override
+	public String toBase64String() {
+		return this.locked(() -> super.toBase64String());
+	}
+
+	@Override
+	public <T extends Appendable> T formatTo(final T appendable) throws IOException {
+		return this.locked(() -> super.formatTo(appendable));
+	}
+
+	@Override
+	public byte toByte() {
+		return this.locked(0, 0, () -> super.toByte());
+	}
+
+	@Override
+	public short toShort() {
+		return this.locked(0, 0, () -> super.toShort());
+	}
+
+	@Override
+	public int toInteger() {
+		return this.locked(0, 0, () -> super.toInteger());
+	}
+
+	@Override
+	public long toLong() {
+		return this.locked(0, 0, () -> super.toLong());
+	}
+
+	@Override
+	public char toChar() {
+		return this.locked(0, 0, () -> super.toChar());
+	}
+
+	@Override
+	public long[] toLongArray() {
+		return this.locked(() -> super.toLongArray());
+	}
+
+	@Override
+	public byte[] toByteArray(final ByteOrder order) {
+		return this.locked(() -> super.toByteArray(order));
+	}
+
+	@Override
+	public ByteBuffer writeTo(final ByteBuffer buffer) {
+		return this.locked(() -> super.writeTo(buffer));
+	}
+
+	@Override
+	public Word setValue(final Word that) {
+		return this.locked(that, () -> super.setValue(that));
+	}
+
+	@Override
+	public Word setValue(final String value) {
+		return this.locked(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setHexValue(final String value) {
+		return this.locked(() -> super.setHexValue(value));
+	}
+
+	@Override
+	public Word setBase64Value(final String value) {
+		return this.locked(() -> super.setBase64Value(value));
+	}
+
+	@Override
+	public Word setValue(final byte value) {
+		return this.locked(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final short value) {
+		return this.locked(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final int value) {
+		return this.locked(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long value) {
+		return this.locked(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final char value) {
+		return this.locked(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long[] values) {
+		return this.locked(() -> super.setValue(values));
+	}
+
+	@Override
+	public Word setValue(final byte[] bytes, final ByteOrder order) {
+		return this.locked(() -> super.setValue(bytes, order));
+	}
+
+	@Override
+	public Word readFrom(final ByteBuffer buffer) {
+		return this.locked(() -> super.readFrom(buffer));
+	}
+
+	@Override
+	public boolean getBoolean(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		return this.locked(index, index, () -> super.getBoolean(index));
+	}
+
+	@Override
+	public Word set(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		return this.locked(index, index, () -> super.set(index));
+	}
+
+	@Override
+	public Word set(final int startIndex, final int endIndex) {
+		checkRange(this.m_size, startIndex, endIndex);
+
+		return this.locked(startIndex, endIndex, () -> super.set(startIndex, endIndex));
+	}
+
+	@Override
+	public Word clear(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		return this.locked(index, index, () -> super.clear(index));
+	}
+
+	@Override
+	public Word clear(final int startIndex, final int endIndex) {
+		checkRange(this.m_size, startIndex, endIndex);
+
+		return this.locked(startIndex, endIndex, () -> super.clear(startIndex, endIndex));
+	}
+
+	@Override
+	public Word clear() {
+		return this.locked(() -> super.clear());
+	}
+
+	@Override
+	public Word flip(final int index) {
+		Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+		return this.locked(index, index, () -> super.flip(index));
+	}
+
+	@Override
+	public Word flip(final int startIndex, final int endIndex) {
+		checkRange(this.m_size, startIndex, endIndex);
+
+		return this.locked(startIndex, endIndex, () -> super.flip(startIndex, endIndex));
+	}
+
+	@Override
+	public int findFirstOne() {
+		return this.locked(() -> super.findFirstOne());
+	}
+
+	@Override
+	public int findLastOne() {
+		return this.locked(() -> super.findLastOne());
+	}
+
+	@Override
+	public int findFirstZero() {
+		return this.locked(() -> super.findFirstZero());
+	}
+
+	@Override
+	public int findLastZero() {
+		return this.locked(() -> super.findLastZero());
+	}
+
+	@Override
+	public int countOnes() {
+		return this.locked(() -> super.countOnes());
+	}
+
+	@Override
+	public Word and(final Word that) {
+		return this.locked(that, () -> super.and(that));
+	}
+
+	@Override
+	public Word nand(final Word that) {
+		return this.locked(that, () -> super.nand(that));
+	}
+
+	@Override
+	public Word xor(final Word that) {
+		return this.locked(that, () -> super.xor(that));
+	}
+
+	@Override
+	public Word or(final Word that) {
+		return this.locked(that, () -> super.or(that));
+	}
+
+	@Override
+	public Word nor(final Word that) {
+		return this.locked(that, () -> super.nor(that));
+	}
+
+	@Override
+	public Word shl(final int offset) {
+		return this.locked(() -> super.shl(offset));
+	}
+
+	@Override
+	public Word shr(final int offset) {
+		return this.locked(() -> super.shr(offset));
+	}
+
+	@Override
+	public Word rol(final int offset) {
+		return this.locked(() -> super.rol(offset));
+	}
+
+	@Override
+	public Word ror(final int offset) {
+		return this.locked(() -> super.ror(offset));
+	}
+
+	/**
+	 * An unchecked access would bypass the locking of this {@code StripedWord} and is therefore not supported.
+	 *
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public WordAccess unchecked() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A parallel access would bypass the locking of this {@code StripedWord} and is therefore not supported.
+	 *
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public ParallelWordAccess parallel(final ForkJoinPool pool, final int threshold) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Executes the given operation with the stripes locked that contain the bits from {@code startIndex} to
+	 * {@code endIndex} (inclusive). The indices must be valid.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param startIndex The index of the first bit.
+	 * @param endIndex The index of the last bit.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	private <T, E extends Exception> T locked(final int startIndex, final int endIndex,
+			final WordLock.Operation<T, E> operation) throws E {
+		final int startStripe = (startIndex >>> ELEMENT_ADDRESS_BITS) >>> this.m_stripeBits;
+		final int endStripe = (endIndex >>> ELEMENT_ADDRESS_BITS) >>> this.m_stripeBits;
+
+		this.lock(startStripe, endStripe);
+		try {
+			return operation.execute();
+		} finally {
+			this.unlock(startStripe, endStripe);
+		}
+	}
+
+	/**
+	 * Executes the given operation with all stripes locked.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	private <T, E extends Exception> T locked(final WordLock.Operation<T, E> operation) throws E {
+		this.lock(0, (this.m_locks.length - 1));
+		try {
+			return operation.execute();
+		} finally {
+			this.unlock(0, (this.m_locks.length - 1));
+		}
+	}
+
+	/**
+	 * Executes the given operation with all stripes of this {@code StripedWord} and (if the given object is another
+	 * {@code StripedWord}) all stripes of the given object locked. The words are locked in the global order.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param object The second operand of the operation.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	private <T, E extends Exception> T locked(final Object object, final WordLock.Operation<T, E> operation) throws E {
+		if (!(object instanceof StripedWord) || (object == this)) {
+			return this.locked(operation);
+		}
+
+		final StripedWord that = (StripedWord) object;
+
+		if (this.m_order < that.m_order) {
+			return this.locked(() -> that.locked(operation));
+		}
+
+		return that.locked(() -> this.locked(operation));
+	}
+
+	/**
+	 * Locks the given stripes in ascending order.
+	 *
+	 * @param startStripe The index of the first stripe.
+	 * @param endStripe The index of the last stripe.
+	 */
+	private void lock(final int startStripe, final int endStripe) {
+		for (int i = startStripe; i <= endStripe; i++) {
+			this.m_locks[i].acquire(1);
+		}
+	}
+
+	/**
+	 * Unlocks the given stripes in descending order.
+	 *
+	 * @param startStripe The index of the first stripe.
+	 * @param endStripe The index of the last stripe.
+	 */
+	private void unlock(final int startStripe, final int endStripe) {
+		for (int i = endStripe; i >= startStripe; i--) {
+			this.m_locks[i].release(1);
+		}
+	}
+
+	/**
+	 * Restores the position in the global order, which is not preserved by the serialization.
+	 *
+	 * @param input The stream to be read.
+	 * @throws IOException If the stream cannot be read.
+	 * @throws ClassNotFoundException If a class of a serialized object cannot be found.
+	 */
+	@Serial
+	private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+		input.defaultReadObject();
+
+		this.m_order = SEQUENCE.getAndIncrement();
+	}
+
+	/**
+	 * A reentrant lock of a stripe. The lock state is followed by {@code 128} bytes of padding (which covers the
+	 * adjacent cache line prefetch), so that the lock states of different stripes do not share a cache line, regardless
+	 * of where the locks are placed by the garbage collector. A {@link java.util.concurrent.locks.ReentrantLock} cannot
+	 * be padded this way, as its state is kept in a separate (internal) object.
+	 */
+	private static final class StripeLock extends AbstractQueuedSynchronizer {
+
+		@Serial
+		private static final long serialVersionUID = -3402376049811723482L;
+
+		@SuppressWarnings("unused")
+		private long m_padding00, m_padding01, m_padding02, m_padding03, m_padding04, m_padding05, m_padding06, m_padding07;
+
+		@SuppressWarnings("unused")
+		private long m_padding08, m_padding09, m_padding10, m_padding11, m_padding12, m_padding13, m_padding14, m_padding15;
+
+		@Override
+		protected boolean tryAcquire(final int acquires) {
+			final Thread current = Thread.currentThread();
+			final int state = this.getState();
+
+			if (state == 0) {
+				if (this.compareAndSetState(0, acquires)) {
+					this.setExclusiveOwnerThread(current);
+					return true;
+				}
+			} else if (current == this.getExclusiveOwnerThread()) {
+				this.setState(state + acquires);
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		protected boolean tryRelease(final int releases) {
+			if (Thread.currentThread() != this.getExclusiveOwnerThread()) {
+				throw new IllegalMonitorStateException();
+			}
+
+			final int state = this.getState() - releases;
+			if (state == 0) {
+				this.setExclusiveOwnerThread(null);
+			}
+			this.setState(state);
+
+			return (state == 0);
+		}
+
+		@Override
+		protected boolean isHeldExclusively() {
+			return (Thread.currentThread() == this.getExclusiveOwnerThread());
+		}
+
+	}
+
+}
@@ -1,10 +1,24 @@
 package de.mononoize.tools.word;
 
+import java.io.IOException;
 import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.LongStream;
 
+import org.apache.commons.lang3.Validate;
+
 /**
- * <p>An synchronized set of bits with a fixed size.</p>
+ * <p>An synchronized set of bits with a fixed size. All operations are executed under the lock strategy given at
+ * construction (see: {@link WordLock}). Operations with a second {@code SynchronizedWord} operand (e.g.
+ * {@link #and(Word)}) also hold the lock of the second operand. Operations on several {@code SynchronizedWord}s can be
+ * executed atomically with a {@link WordTransaction}.</p>
+ * 
+ * <p>The fetch-and-modify operations (e.g. {@link #getAndOr(Word, Word)}) modify the bits and copy their previous
+ * value in a single pass under the write lock. The previous value is written to a plain {@code Word} given by the
+ * caller, so that no copy is allocated.</p>
  * 
  * <p>See: {@link Word}.</p>
  *
@@ -16,52 +30,78 @@ public class SynchronizedWord extends Word {
 	private static final long serialVersionUID = 9031820144374535420L;
 	
 	/**
-	 * The mutex object.
+	 * The lock strategy.
 	 */
-	private final Object mutex = new Object();
+	protected final WordLock m_lock;
 	
 	/**
 	 * Constructs a new {@code SynchronizedWord} with the given number of bits. Initially, all bits are set to {@code 0}.
+	 * The {@code SynchronizedWord} uses the intrinsic lock of a mutex object (see: {@link WordLock#monitor()}).
 	 * 
 	 * @param size The number of bits to be used.
 	 */
 	public SynchronizedWord(final int size) {
+		this(size, WordLock.monitor());
+	}
+	
+	/**
+	 * Constructs a new {@code SynchronizedWord} with the given number of bits and the given lock strategy. Initially,
+	 * all bits are set to {@code 0}.
+	 * 
+	 * @param size The number of bits to be used.
+	 * @param lock The lock strategy to be used.
+	 */
+	public SynchronizedWord(final int size, final WordLock lock) {
 		super(size);
+		
+		Validate.notNull(lock, "The lock must not be null.");
+		
+		this.m_lock = lock;
 	}
 	
 	@Override
 	public int hashCode() {
-		synchronized(mutex) {
-			return super.hashCode();
-		}
+		return this.m_lock.read(() -> super.hashCode());
+	}
+
+	@Override
+	public long hash64() {
+		return this.m_lock.read(() -> super.hash64());
 	}
 
 	@Override
     public boolean equals(final Object object) {
-		synchronized(mutex) {
-			return super.equals(object);
-		}
+		return WordLock.readOrdered(this.m_lock, getLock(object), () -> super.equals(object));
 	}
 
 	@Override
 	public Object clone() {
-		synchronized(mutex) {
-			return super.clone();
-		}
+		return this.m_lock.read(() -> super.clone());
 	}
 
 	@Override
 	public int compareTo(final Word that) {
-		synchronized(mutex) {
-			return super.compareTo(that);
-		}
+		return WordLock.readOrdered(this.m_lock, getLock(that), () -> super.compareTo(that));
 	}
 
 	@Override
 	public String toString() {
-		synchronized(mutex) {
-			return super.toString();
-		}
+		return this.m_lock.read(() -> super.toString());
+	}
+
+	@Override
+	public String toHexString() {
+		return this.m_lock.read(() -> super.toHexString());
+	}
+
+	@Override
+	public String toBase64String() {
+		return this.m_lock.read(() -> super.toBase64String());
+	}
+
+	@Override
+	public <T extends Appendable> T formatTo(final T appendable) throws IOException {
+		return this.m_lock.read(() -> super.formatTo(appendable));
 	}
 
 	/**
@@ -121,359 +161,476 @@ public class SynchronizedWord extends Word {
 
 	@Override
 	public byte toByte() {
-		synchronized(mutex) {
-			return super.toByte();
-		}
+		return this.m_lock.read(() -> super.toByte());
 	}
 
 	@Override
 	public short toShort() {
-		synchronized(mutex) {
-			return super.toShort();
-		}
+		return this.m_lock.read(() -> super.toShort());
 	}
 
 	@Override
 	public int toInteger() {
-		synchronized(mutex) {
-			return super.toInteger();
-		}
+		return this.m_lock.read(() -> super.toInteger());
 	}
 
 	@Override
 	public long toLong() {
-		synchronized(mutex) {
-			return super.toLong();
-		}
+		return this.m_lock.read(() -> super.toLong());
 	}
 
 	@Override
 	public char toChar() {
-		synchronized(mutex) {
-			return super.toChar();
-		}
+		return this.m_lock.read(() -> super.toChar());
+	}
+
+	@Override
+	public long[] toLongArray() {
+		return this.m_lock.read(() -> super.toLongArray());
+	}
+
+	@Override
+	public byte[] toByteArray(final ByteOrder order) {
+		return this.m_lock.read(() -> super.toByteArray(order));
+	}
+
+	@Override
+	public ByteBuffer writeTo(final ByteBuffer buffer) {
+		return this.m_lock.read(() -> super.writeTo(buffer));
 	}
 
 	@Override
 	public int getSize() {
-		synchronized(mutex) {
-			return super.getSize();
-		}
+		return this.m_lock.read(() -> super.getSize());
 	}
 
 	@Override
 	public Word setValue(final Word that) {
-		synchronized(mutex) {
-			return super.setValue(that);
-		}
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> super.setValue(that));
 	}
 
 	@Override
 	public Word setValue(final String value) {
-		synchronized(mutex) {
-			return super.setValue(value);
-		}
+		return this.m_lock.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setHexValue(final String value) {
+		return this.m_lock.write(() -> super.setHexValue(value));
+	}
+
+	@Override
+	public Word setBase64Value(final String value) {
+		return this.m_lock.write(() -> super.setBase64Value(value));
 	}
 
 	@Override
 	public Word setValue(final byte value) {
-		synchronized(mutex) {
-			return super.setValue(value);
-		}
+		return this.m_lock.write(() -> super.setValue(value));
 	}
 
 	@Override
 	public Word setValue(final short value) {
-		synchronized(mutex) {
-			return super.setValue(value);
-		}
+		return this.m_lock.write(() -> super.setValue(value));
 	}
 
 	@Override
 	public Word setValue(final int value) {
-		synchronized(mutex) {
-			return super.setValue(value);
-		}
+		return this.m_lock.write(() -> super.setValue(value));
 	}
 
 	@Override
 	public Word setValue(final long value) {
-		synchronized(mutex) {
-			return super.setValue(value);
-		}
+		return this.m_lock.write(() -> super.setValue(value));
 	}
 
 	@Override
 	public Word setValue(final char value) {
-		synchronized(mutex) {
-			return super.setValue(value);
-		}
+		return this.m_lock.write(() -> super.setValue(value));
+	}
+
+	@Override
+	public Word setValue(final long[] values) {
+		return this.m_lock.write(() -> super.setValue(values));
+	}
+
+	@Override
+	public Word setValue(final byte[] bytes, final ByteOrder order) {
+		return this.m_lock.write(() -> super.setValue(bytes, order));
+	}
+
+	@Override
+	public Word readFrom(final ByteBuffer buffer) {
+		return this.m_lock.write(() -> super.readFrom(buffer));
 	}
 
 	@Override
 	public long get(final int index) {
-		synchronized(mutex) {
-			return super.get(index);
-		}
+		return this.m_lock.read(() -> super.get(index));
 	}
 
 	@Override
 	public long get() {
-		synchronized(mutex) {
-			return super.get();
-		}
+		return this.m_lock.read(() -> super.get());
 	}
 
 	@Override
 	public boolean getBoolean(final int index) {
-		synchronized(mutex) {
-			return super.getBoolean(index);
-		}
+		return this.m_lock.read(() -> super.getBoolean(index));
 	}
 
 	@Override
 	public boolean getBoolean() {
-		synchronized(mutex) {
-			return super.getBoolean();
-		}
+		return this.m_lock.read(() -> super.getBoolean());
 	}
 
 	@Override
 	public Word set(final int index) {
-		synchronized(mutex) {
-			return super.set(index);
-		}
+		return this.m_lock.write(() -> super.set(index));
 	}
 
 	@Override
 	public Word set(final int startIndex, final int endIndex) {
-		synchronized(mutex) {
-			return super.set(startIndex, endIndex);
-		}
+		return this.m_lock.write(() -> super.set(startIndex, endIndex));
 	}
 
 	@Override
 	public Word set() {
-		synchronized(mutex) {
-			return super.set();
-		}
+		return this.m_lock.write(() -> super.set());
 	}
 
 	@Override
 	public Word clear(final int index) {
-		synchronized(mutex) {
-			return super.clear(index);
-		}
+		return this.m_lock.write(() -> super.clear(index));
 	}
 
 	@Override
 	public Word clear(final int startIndex, final int endIndex) {
-		synchronized(mutex) {
-			return super.clear(startIndex, endIndex);
-		}
+		return this.m_lock.write(() -> super.clear(startIndex, endIndex));
 	}
 
 	@Override
 	public Word clear() {
-		synchronized(mutex) {
-			return super.clear();
-		}
+		return this.m_lock.write(() -> super.clear());
 	}
 
 	@Override
 	public Word flip(final int index) {
-		synchronized(mutex) {
-			return super.flip(index);
-		}
+		return this.m_lock.write(() -> super.flip(index));
 	}
 
 	@Override
 	public Word flip(final int startIndex, final int endIndex) {
-		synchronized(mutex) {
-			return super.flip(startIndex, endIndex);
-		}
+		return this.m_lock.write(() -> super.flip(startIndex, endIndex));
 	}
 
 	@Override
 	public Word flip() {
-		synchronized(mutex) {
-			return super.flip();
-		}
+		return this.m_lock.write(() -> super.flip());
 	}
 
 	@Override
 	public int findFirstOne() {
-		synchronized(mutex) {
-			return super.findFirstOne();
-		}
+		return this.m_lock.read(() -> super.findFirstOne());
 	}
 
 	@Override
 	public int findLastOne() {
-		synchronized(mutex) {
-			return super.findLastOne();
-		}
+		return this.m_lock.read(() -> super.findLastOne());
 	}
 
 	@Override
 	public int findFirstZero() {
-		synchronized(mutex) {
-			return super.findFirstZero();
-		}
+		return this.m_lock.read(() -> super.findFirstZero());
 	}
 
 	@Override
 	public int findLastZero() {
-		synchronized(mutex) {
-			return super.findLastZero();
-		}
+		return this.m_lock.read(() -> super.findLastZero());
 	}
 
 	@Override
     public int countOnes() {
-		synchronized(mutex) {
-			return super.countOnes();
-		}
+		return this.m_lock.read(() -> super.countOnes());
 	}
 
 	@Override
     public int countZeros() {
-		synchronized(mutex) {
-			return super.countZeros();
-		}
+		return this.m_lock.read(() -> super.countZeros());
 	}
 
 	@Override
     public int countLeadingOnes() {
-		synchronized(mutex) {
-			return super.countLeadingOnes();
-		}
+		return this.m_lock.read(() -> super.countLeadingOnes());
 	}
 
 	@Override
     public int countLeadingZeros() {
-		synchronized(mutex) {
-			return super.countLeadingZeros();
-		}
+		return this.m_lock.read(() -> super.countLeadingZeros());
 	}
 
 	@Override
     public int countTrailingOnes() {
-		synchronized(mutex) {
-			return super.countTrailingOnes();
-		}
+		return this.m_lock.read(() -> super.countTrailingOnes());
 	}
 
 	@Override
     public int countTrailingZeros() {
-		synchronized(mutex) {
-			return super.countTrailingZeros();
-		}
+		return this.m_lock.read(() -> super.countTrailingZeros());
 	}
 
 	@Override
 	public Word not() {
-		synchronized(mutex) {
-			return super.not();
-		}
+		return this.m_lock.write(() -> super.not());
 	}
 
 	@Override
 	public Word and(final Word that) {
-		synchronized(mutex) {
-			return super.and(that);
-		}
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> super.and(that));
 	}
 	
 	@Override
 	public Word nand(final Word that) {
-		synchronized(mutex) {
-			return super.nand(that);
-		}
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> super.nand(that));
 	}
 
 	@Override
 	public Word xor(final Word that) {
-		synchronized(mutex) {
-			return super.xor(that);
-		}
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> super.xor(that));
 	}
 
 	@Override
 	public Word or(final Word that) {
-		synchronized(mutex) {
-			return super.or(that);
-		}
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> super.or(that));
 	}
 	
 	@Override
 	public Word nor(final Word that) {
-		synchronized(mutex) {
-			return super.nor(that);
-		}
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> super.nor(that));
 	}
 
 	@Override
 	public Word shl() {
-		synchronized(mutex) {
-			return super.shl();
-		}
+		return this.m_lock.write(() -> super.shl());
 	}
 
 	@Override
 	public Word shl(final int steps) {
-		synchronized(mutex) {
-			return super.shl(steps);
-		}
+		return this.m_lock.write(() -> super.shl(steps));
 	}
 
 	@Override
 	public Word shr() {
-		synchronized(mutex) {
-			return super.shr();
-		}
+		return this.m_lock.write(() -> super.shr());
 	}
 
 	@Override
 	public Word shr(final int steps) {
-		synchronized(mutex) {
-			return super.shr(steps);
-		}
+		return this.m_lock.write(() -> super.shr(steps));
 	}
 
 	@Override
 	public Word rol() {
-		synchronized(mutex) {
-			return super.rol();
-		}
+		return this.m_lock.write(() -> super.rol());
 	}
 
 	@Override	
 	public Word rol(final int steps) {
-		synchronized(mutex) {
-			return super.rol(steps);
-		}
+		return this.m_lock.write(() -> super.rol(steps));
 	}
 
 	@Override
 	public Word ror() {
-		synchronized(mutex) {
-			return super.ror();
-		}
+		return this.m_lock.write(() -> super.ror());
 	}
 
 	@Override
 	public Word ror(final int steps) {
-		synchronized(mutex) {
-			return super.ror(steps);
-		}
+		return this.m_lock.write(() -> super.ror(steps));
+	}
+
+	/**
+	 * Atomically executes a logical conjunction operation on this {@code SynchronizedWord} and copies the previous
+	 * value to the given destination. Both are done in a single pass under the write lock.
+	 * 
+	 * @param that The word to be used.
+	 * @param destination The plain {@code Word} that receives the previous value.
+	 * @return The given destination.
+	 */
+	public Word getAndAnd(final Word that, final Word destination) {
+		this.checkOperand(that);
+		final long[] target = this.checkDestination(destination);
+		
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> {
+			for (int i = 0; i < this.m_data.length; i++) {
+				final long element = this.m_data[i];
+				this.m_data[i] = element & that.m_data[i];
+				target[i] = element;
+			}
+			return destination;
+		});
+	}
+	
+	/**
+	 * Atomically executes a logical exclusive disjunction operation on this {@code SynchronizedWord} and copies the
+	 * previous value to the given destination. Both are done in a single pass under the write lock.
+	 * 
+	 * @param that The word to be used.
+	 * @param destination The plain {@code Word} that receives the previous value.
+	 * @return The given destination.
+	 */
+	public Word getAndXor(final Word that, final Word destination) {
+		this.checkOperand(that);
+		final long[] target = this.checkDestination(destination);
+		
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> {
+			for (int i = 0; i < this.m_data.length; i++) {
+				final long element = this.m_data[i];
+				this.m_data[i] = element ^ that.m_data[i];
+				target[i] = element;
+			}
+			return destination;
+		});
+	}
+	
+	/**
+	 * Atomically executes a logical inclusive disjunction operation on this {@code SynchronizedWord} and copies the
+	 * previous value to the given destination. Both are done in a single pass under the write lock.
+	 * 
+	 * @param that The word to be used.
+	 * @param destination The plain {@code Word} that receives the previous value.
+	 * @return The given destination.
+	 */
+	public Word getAndOr(final Word that, final Word destination) {
+		this.checkOperand(that);
+		final long[] target = this.checkDestination(destination);
+		
+		return WordLock.writeOrdered(this.m_lock, getLock(that), () -> {
+			for (int i = 0; i < this.m_data.length; i++) {
+				final long element = this.m_data[i];
+				this.m_data[i] = element | that.m_data[i];
+				target[i] = element;
+			}
+			return destination;
+		});
+	}
+	
+	/**
+	 * Atomically sets the given bits to {@code 1} (see: {@link #set(int, int)}) and copies the previous value to the
+	 * given destination.
+	 * 
+	 * @param startIndex The index of the first bit to be set.
+	 * @param endIndex The index of the last bit to be set.
+	 * @param destination The plain {@code Word} that receives the previous value.
+	 * @return The given destination.
+	 */
+	public Word getAndSetRange(final int startIndex, final int endIndex, final Word destination) {
+		checkRange(this.m_size, startIndex, endIndex);
+		final long[] target = this.checkDestination(destination);
+		
+		return this.m_lock.write(() -> {
+			System.arraycopy(this.m_data, 0, target, 0, target.length);
+			super.set(startIndex, endIndex);
+			return destination;
+		});
+	}
+	
+	/**
+	 * Atomically sets the value to the given update if the current value is equal to the given expected value.
+	 * 
+	 * @param expected The expected value.
+	 * @param update The value to be set.
+	 * @return {@code true} if the value has been set, otherwise {@code false}.
+	 */
+	public boolean compareAndSet(final Word expected, final Word update) {
+		this.checkOperand(expected);
+		this.checkOperand(update);
+		
+		final WordLock.Operation<Boolean, RuntimeException> operation = () -> {
+			if (!Arrays.equals(this.m_data, expected.m_data)) {
+				return false;
+			}
+			System.arraycopy(update.m_data, 0, this.m_data, 0, this.m_data.length);
+			return true;
+		};
+		
+		// The operands are locked as well if they are synchronized themselves.
+		if (!(expected instanceof SynchronizedWord) && !(update instanceof SynchronizedWord)) {
+			return this.m_lock.write(operation);
+		}
+		
+		final WordTransaction transaction = new WordTransaction().write(this);
+		for (final Word operand : new Word[] {expected, update}) {
+			if (operand instanceof SynchronizedWord word) {
+				transaction.read(word);
+			}
+		}
+		
+		return transaction.execute(operation);
+	}
+	
+	/**
+	 * Checks the given operand.
+	 * 
+	 * @param that The word to be checked.
+	 */
+	private void checkOperand(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+	}
+	
+	/**
+	 * Returns the (internal) data storage array of the given destination of a fetch-and-modify operation. The
+	 * destination is written directly (i.e. without synchronization and without allocating a copy), so it must be a
+	 * plain {@code Word} that is not shared with other threads.
+	 * 
+	 * @param destination The word to be checked.
+	 * @return The (internal) data storage array of the given destination.
+	 */
+	private long[] checkDestination(final Word destination) {
+		Validate.notNull(destination, "The destination must not be null.");
+		Validate.isTrue(destination.getClass() == Word.class, "The destination must be a plain Word.");
+		Validate.isTrue(this.m_size == destination.m_size, "Different size Words not allowed.");
+		
+		return destination.m_data;
+	}
+	
+	/**
+	 * Returns the lock strategy of the given object if it is a {@code SynchronizedWord}, so that operations with a
+	 * second operand can lock both operands.
+	 * 
+	 * @param object The object to be used.
+	 * @return The lock strategy of the given object or {@code null}.
+	 */
+	private static WordLock getLock(final Object object) {
+		return (object instanceof SynchronizedWord) ? ((SynchronizedWord) object).m_lock : null;
+	}
+
+	/**
+	 * An unchecked access would bypass the synchronization of this {@code SynchronizedWord} and is therefore not
+	 * supported.
+	 * 
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public WordAccess unchecked() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A parallel access would bypass the synchronization of this {@code SynchronizedWord} and is therefore not
+	 * supported.
+	 * 
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public ParallelWordAccess parallel(final ForkJoinPool pool, final int threshold) {
+		throw new UnsupportedOperationException();
 	}
 
 	@Override
 	public LongStream stream() {
-		synchronized(mutex) {
-			return super.stream();
-		}
+		return this.m_lock.read(() -> super.stream());
 	}
 
 }
@@ -0,0 +1,764 @@
+package de.mononoize.tools.word;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A set of bits with a fixed size that is read without locking (copy-on-write). Each modification creates a new
+ * version, which is published through a volatile reference. Readers obtain the current version in constant time and
+ * are never blocked by writers, and a version never changes once it has been published.</p>
+ *
+ * <p>The (internal) data storage array of a version is partitioned into chunks of {@code 2^n} elements (by default
+ * {@value #DEFAULT_CHUNK_ELEMENTS} elements). A new version only copies the chunks it modifies and shares all other
+ * chunks with the previous version, so that setting a single bit of a large word copies a single chunk (and the table
+ * of the chunks) instead of the whole word. A version is returned as a read-only {@link Snapshot}, which is backed by
+ * the chunks of the version. A flat {@link ImmutableWord} is only built when it is explicitly requested (see:
+ * {@link Snapshot#toImmutableWord()}).</p>
+ *
+ * <p>Modifications are serialized by a lock. Several modifications can be combined into a single version (see:
+ * {@link #update(Consumer)}).</p>
+ *
+ * @author Alexander Mattes
+ */
+public class VersionedWord {
+
+	/**
+	 * A version, i.e. an immutable set of chunks, which provides read-only access to its bits without copying them.
+	 */
+	public static final class Snapshot {
+
+		/**
+		 * The number of this version.
+		 */
+		private final long m_number;
+
+		/**
+		 * The number of bits.
+		 */
+		private final int m_size;
+
+		/**
+		 * The number of address bits of a chunk.
+		 */
+		private final int m_chunkBits;
+
+		/**
+		 * The chunks of the (internal) data storage array.
+		 */
+		private final long[][] m_chunks;
+
+		/**
+		 * The {@code ImmutableWord} of this version, which is created on first use.
+		 */
+		private volatile ImmutableWord m_word;
+
+		/**
+		 * Constructs a new {@code Snapshot} with the given number and chunks.
+		 *
+		 * @param number The number of the version.
+		 * @param size The number of bits.
+		 * @param chunkBits The number of address bits of a chunk.
+		 * @param chunks The chunks of the version.
+		 */
+		private Snapshot(final long number, final int size, final int chunkBits, final long[][] chunks) {
+			this.m_number = number;
+			this.m_size = size;
+			this.m_chunkBits = chunkBits;
+			this.m_chunks = chunks;
+		}
+
+		/**
+		 * Returns the number of this version.
+		 *
+		 * @return The number of this version.
+		 */
+		public long getVersion() {
+			return this.m_number;
+		}
+
+		/**
+		 * Returns the number of bits of this {@code Snapshot}.
+		 *
+		 * @return The number of bits of this {@code Snapshot}.
+		 */
+		public int getSize() {
+			return this.m_size;
+		}
+
+		/**
+		 * Returns the value of the given bit.
+		 *
+		 * @param index The index of the bit to be returned.
+		 * @return The value of the given bit.
+		 */
+		public boolean getBoolean(final int index) {
+			Validate.inclusiveBetween(0, (this.m_size - 1), index, "Index out of bounds.");
+
+			return VersionedWord.getBoolean(this.m_chunks, this.m_chunkBits, index);
+		}
+
+		/**
+		 * Returns the number of bits that are set to {@code 1}.
+		 *
+		 * @return The number of bits that are set to {@code 1}.
+		 */
+		public int countOnes() {
+			int result = 0;
+			for (final long[] chunk : this.m_chunks) {
+				result += Word.countOnes(chunk, 0, chunk.length);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the number of bits that are set to {@code 0}.
+		 *
+		 * @return The number of bits that are set to {@code 0}.
+		 */
+		public int countZeros() {
+			return (this.m_size - this.countOnes());
+		}
+
+		/**
+		 * Returns the index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+		 *
+		 * @return The index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+		 */
+		public int findFirstOne() {
+			for (int i = 0; i < this.m_chunks.length; i++) {
+				final int result = Word.findFirstOne(this.m_chunks[i], 0, this.m_chunks[i].length);
+				if (result >= 0) {
+					return this.getOffset(i) + result;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * Returns the index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+		 *
+		 * @return The index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+		 */
+		public int findLastOne() {
+			for (int i = (this.m_chunks.length - 1); i >= 0; i--) {
+				final int result = Word.findLastOne(this.m_chunks[i], 0, this.m_chunks[i].length);
+				if (result >= 0) {
+					return this.getOffset(i) + result;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * Returns the index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+		 *
+		 * @return The index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+		 */
+		public int findFirstZero() {
+			for (int i = 0; i < this.m_chunks.length; i++) {
+				final long[] chunk = this.m_chunks[i];
+				final int result = Word.findFirstZero(chunk, 0, chunk.length, this.getLastElementMask(i));
+				if (result >= 0) {
+					return this.getOffset(i) + result;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * Returns the index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+		 *
+		 * @return The index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+		 */
+		public int findLastZero() {
+			for (int i = (this.m_chunks.length - 1); i >= 0; i--) {
+				final long[] chunk = this.m_chunks[i];
+				final int result = Word.findLastZero(chunk, 0, chunk.length, this.getLastElementMask(i));
+				if (result >= 0) {
+					return this.getOffset(i) + result;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * Compares this {@code Snapshot} with the given {@code Word} as unsigned values. The result is {@code -1},
+		 * {@code 0}, or {@code 1} if this {@code Snapshot} is less than, equal to, or greater than the given
+		 * {@code Word}.
+		 *
+		 * @param that The word to be compared.
+		 * @return The result of the comparison.
+		 */
+		public int compareTo(final Word that) {
+			Validate.notNull(that, "The word must not be null.");
+			Validate.isTrue(this.m_size == that.m_size, "Different word sizes not allowed.");
+
+			for (int i = (this.m_chunks.length - 1); i >= 0; i--) {
+				final long[] chunk = this.m_chunks[i];
+				final int result = Word.compare(chunk, 0, that.m_data, (i << this.m_chunkBits), chunk.length);
+				if (result != 0) {
+					return result;
+				}
+			}
+
+			return 0;
+		}
+
+		/**
+		 * Returns a new {@code Word} with the bits of this {@code Snapshot}.
+		 *
+		 * @return A new {@code Word} with the bits of this {@code Snapshot}.
+		 */
+		public Word toWord() {
+			return this.copyTo(new Word(this.m_size));
+		}
+
+		/**
+		 * Returns an {@code ImmutableWord} with the bits of this {@code Snapshot}. The {@code ImmutableWord} is created
+		 * once per version, so that subsequent calls return the same instance.
+		 *
+		 * @return An {@code ImmutableWord} with the bits of this {@code Snapshot}.
+		 */
+		public ImmutableWord toImmutableWord() {
+
+			// Concurrent readers may create the same ImmutableWord more than once, which is harmless.
+
+			ImmutableWord result = this.m_word;
+			if (result == null) {
+				result = this.copyTo(new ImmutableWord(this.m_size));
+				this.m_word = result;
+			}
+
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			final char[] result = new char[this.m_size];
+
+			// The characters are written from the end of the result (i.e. the least significant bit) to the start of
+			// the result (i.e. the most significant bit).
+
+			for (int i = 0, j = (this.m_size - 1); j >= 0; i++) {
+				long element = this.m_chunks[i >>> this.m_chunkBits][i & ((1 << this.m_chunkBits) - 1)];
+				for (int k = 0; (k < Word.ELEMENT_SIZE) && (j >= 0); k++, j--) {
+					result[j] = (char) ('0' + (element & Word.ONE));
+					element >>>= 1;
+				}
+			}
+
+			return new String(result);
+		}
+
+		/**
+		 * Copies the bits of this {@code Snapshot} to the given {@code Word} with the same size.
+		 *
+		 * @param <T> The type of the word.
+		 * @param destination The word to be used.
+		 * @return A reference to the given {@code Word}.
+		 */
+		private <T extends Word> T copyTo(final T destination) {
+			for (int i = 0; i < this.m_chunks.length; i++) {
+				final long[] chunk = this.m_chunks[i];
+				System.arraycopy(chunk, 0, destination.m_data, (i << this.m_chunkBits), chunk.length);
+			}
+
+			return destination;
+		}
+
+		/**
+		 * Returns the index of the first bit of the given chunk.
+		 *
+		 * @param chunk The index of the chunk.
+		 * @return The index of the first bit of the given chunk.
+		 */
+		private int getOffset(final int chunk) {
+			return (chunk << this.m_chunkBits) << Word.ELEMENT_ADDRESS_BITS;
+		}
+
+		/**
+		 * Returns the mask of the used bits of the most significant element of the given chunk.
+		 *
+		 * @param chunk The index of the chunk.
+		 * @return The mask of the used bits of the most significant element of the given chunk.
+		 */
+		private long getLastElementMask(final int chunk) {
+			return (chunk == (this.m_chunks.length - 1)) ? Word.getLastElementMask(this.m_size) : Word.MAX;
+		}
+
+	}
+
+	/**
+	 * A mutable view of the current version, which is passed to the modifications of
+	 * {@link VersionedWord#update(Consumer)}. A chunk is copied on its first modification, and all other chunks are
+	 * shared with the current version. An {@code Editor} must not be used after the modification has returned.
+	 */
+	public final class Editor {
+
+		/**
+		 * The chunks of the current version.
+		 */
+		private final long[][] m_previous;
+
+		/**
+		 * The chunks of the new version or {@code null} if no chunk has been copied yet.
+		 */
+		private long[][] m_chunks;
+
+		/**
+		 * Whether the modification has returned.
+		 */
+		private boolean m_done;
+
+		/**
+		 * Constructs a new {@code Editor} of the given chunks.
+		 *
+		 * @param previous The chunks of the current version.
+		 */
+		private Editor(final long[][] previous) {
+			this.m_previous = previous;
+		}
+
+		/**
+		 * Returns the number of bits.
+		 *
+		 * @return The number of bits.
+		 */
+		public int getSize() {
+			return VersionedWord.this.m_size;
+		}
+
+		/**
+		 * Returns the value of the given bit, including the modifications of this {@code Editor}.
+		 *
+		 * @param index The index of the bit to be returned.
+		 * @return The value of the given bit.
+		 */
+		public boolean getBoolean(final int index) {
+			Validate.inclusiveBetween(0, (VersionedWord.this.m_size - 1), index, "Index out of bounds.");
+
+			final long[][] chunks = (this.m_chunks != null) ? this.m_chunks : this.m_previous;
+
+			return VersionedWord.getBoolean(chunks, VersionedWord.this.m_chunkBits, index);
+		}
+
+		/**
+		 * Sets the given bit to {@code 1}.
+		 *
+		 * @param index The index of the bit to be set.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor set(final int index) {
+			return this.set(index, index);
+		}
+
+		/**
+		 * Sets all bits from {@code startIndex} to {@code endIndex} (inclusive) to {@code 1}.
+		 *
+		 * @param startIndex The index of the first bit to be set.
+		 * @param endIndex The index of the last bit to be set.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor set(final int startIndex, final int endIndex) {
+			Word.checkRange(VersionedWord.this.m_size, startIndex, endIndex);
+
+			for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+				final long[] chunk = this.getChunk(i);
+				chunk[i & VersionedWord.this.getChunkMask()] |= Word.getMask(i, startIndex, endIndex);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Sets the given bit to {@code 0}.
+		 *
+		 * @param index The index of the bit to be cleared.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor clear(final int index) {
+			return this.clear(index, index);
+		}
+
+		/**
+		 * Sets all bits from {@code startIndex} to {@code endIndex} (inclusive) to {@code 0}.
+		 *
+		 * @param startIndex The index of the first bit to be cleared.
+		 * @param endIndex The index of the last bit to be cleared.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor clear(final int startIndex, final int endIndex) {
+			Word.checkRange(VersionedWord.this.m_size, startIndex, endIndex);
+
+			for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+				final long[] chunk = this.getChunk(i);
+				chunk[i & VersionedWord.this.getChunkMask()] &= ~Word.getMask(i, startIndex, endIndex);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Flips the given bit.
+		 *
+		 * @param index The index of the bit to be flipped.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor flip(final int index) {
+			return this.flip(index, index);
+		}
+
+		/**
+		 * Flips all bits from {@code startIndex} to {@code endIndex} (inclusive).
+		 *
+		 * @param startIndex The index of the first bit to be flipped.
+		 * @param endIndex The index of the last bit to be flipped.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor flip(final int startIndex, final int endIndex) {
+			Word.checkRange(VersionedWord.this.m_size, startIndex, endIndex);
+
+			for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+				final long[] chunk = this.getChunk(i);
+				chunk[i & VersionedWord.this.getChunkMask()] ^= Word.getMask(i, startIndex, endIndex);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Sets the value. Only the chunks that differ from the given value are copied.
+		 *
+		 * @param that The value to be used.
+		 * @return A reference to this {@code Editor}.
+		 */
+		public Editor setValue(final Word that) {
+			Validate.notNull(that, "The word must not be null.");
+			Validate.isTrue(VersionedWord.this.m_size == that.m_size, "Different word sizes not allowed.");
+
+			final int chunkBits = VersionedWord.this.m_chunkBits;
+			for (int i = 0; i < this.m_previous.length; i++) {
+				final long[] current = (this.m_chunks != null) ? this.m_chunks[i] : this.m_previous[i];
+				final int from = i << chunkBits;
+				if (!Arrays.equals(current, 0, current.length, that.m_data, from, from + current.length)) {
+					System.arraycopy(that.m_data, from, this.getChunk(from), 0, current.length);
+				}
+			}
+
+			return this;
+		}
+
+		/**
+		 * Returns the chunk that contains the given element, which is copied if it is still shared with the current
+		 * version.
+		 *
+		 * @param element The index of the element.
+		 * @return The chunk that contains the given element.
+		 */
+		private long[] getChunk(final int element) {
+			Validate.validState(!this.m_done, "The modification has returned.");
+
+			if (this.m_chunks == null) {
+				this.m_chunks = this.m_previous.clone();
+			}
+
+			final int index = element >>> VersionedWord.this.m_chunkBits;
+			if (this.m_chunks[index] == this.m_previous[index]) {
+				this.m_chunks[index] = this.m_previous[index].clone();
+			}
+
+			return this.m_chunks[index];
+		}
+
+		/**
+		 * Completes the modification and returns the chunks of the new version or {@code null} if no bit has been
+		 * changed. Copied chunks that are equal to the chunks of the current version are shared again.
+		 *
+		 * @return The chunks of the new version or {@code null}.
+		 */
+		private long[][] complete() {
+			this.m_done = true;
+
+			if (this.m_chunks == null) {
+				return null;
+			}
+
+			boolean changed = false;
+			for (int i = 0; i < this.m_chunks.length; i++) {
+				if (this.m_chunks[i] != this.m_previous[i]) {
+					if (Arrays.equals(this.m_chunks[i], this.m_previous[i])) {
+						this.m_chunks[i] = this.m_previous[i];
+					} else {
+						changed = true;
+					}
+				}
+			}
+
+			return changed ? this.m_chunks : null;
+		}
+
+	}
+
+	/**
+	 * The default number of elements per chunk (i.e. {@code 512} bytes).
+	 */
+	public static final int DEFAULT_CHUNK_ELEMENTS = 64;
+
+	/**
+	 * The number of bits.
+	 */
+	private final int m_size;
+
+	/**
+	 * The number of address bits of a chunk (i.e. the number of elements per chunk is {@code 2^m_chunkBits}).
+	 */
+	private final int m_chunkBits;
+
+	/**
+	 * The lock that serializes the modifications.
+	 */
+	private final Object m_lock = new Object();
+
+	/**
+	 * The current version.
+	 */
+	private volatile Snapshot m_current;
+
+	/**
+	 * Constructs a new {@code VersionedWord} with the given number of bits and {@value #DEFAULT_CHUNK_ELEMENTS} elements
+	 * per chunk. Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 */
+	public VersionedWord(final int size) {
+		this(size, DEFAULT_CHUNK_ELEMENTS);
+	}
+
+	/**
+	 * Constructs a new {@code VersionedWord} with the given number of bits and the given number of elements per chunk.
+	 * Initially, all bits are set to {@code 0}.
+	 *
+	 * @param size The number of bits to be used.
+	 * @param chunkElements The number of elements per chunk, which must be a power of two.
+	 */
+	public VersionedWord(final int size, final int chunkElements) {
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+		Validate.isTrue((chunkElements > 0) && (Integer.bitCount(chunkElements) == 1),
+				"The number of elements per chunk must be a power of two.");
+
+		this.m_size = size;
+		this.m_chunkBits = Integer.numberOfTrailingZeros(chunkElements);
+
+		final int length = Word.getLength(size);
+		final long[][] chunks = new long[((length - 1) >>> this.m_chunkBits) + 1][];
+		for (int i = 0; i < chunks.length; i++) {
+			chunks[i] = new long[Math.min(chunkElements, length - (i << this.m_chunkBits))];
+		}
+
+		this.m_current = new Snapshot(0, size, this.m_chunkBits, chunks);
+	}
+
+	/**
+	 * Returns the number of bits of this {@code VersionedWord}.
+	 *
+	 * @return The number of bits of this {@code VersionedWord}.
+	 */
+	public int getSize() {
+		return this.m_size;
+	}
+
+	/**
+	 * Returns the number of chunks.
+	 *
+	 * @return The number of chunks.
+	 */
+	public int getChunkCount() {
+		return this.m_current.m_chunks.length;
+	}
+
+	/**
+	 * Returns the number of the current version. The number is incremented by each modification that changes at least
+	 * one bit.
+	 *
+	 * @return The number of the current version.
+	 */
+	public long getVersion() {
+		return this.m_current.m_number;
+	}
+
+	/**
+	 * Returns the current version as a read-only {@code Snapshot} in constant time. The bits are not copied, i.e. the
+	 * {@code Snapshot} is backed by the chunks of the version, and subsequent calls return the same instance until the
+	 * next modification.
+	 *
+	 * @return The current version as a {@code Snapshot}.
+	 */
+	public Snapshot snapshot() {
+		return this.m_current;
+	}
+
+	/**
+	 * Returns the value of the given bit of the current version.
+	 *
+	 * @param index The index of the bit to be returned.
+	 * @return The value of the given bit of the current version.
+	 */
+	public boolean getBoolean(final int index) {
+		return this.m_current.getBoolean(index);
+	}
+
+	/**
+	 * Sets the given bit to {@code 1}.
+	 *
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord set(final int index) {
+		return this.set(index, index);
+	}
+
+	/**
+	 * Sets all bits from {@code startIndex} to {@code endIndex} (inclusive) to {@code 1}.
+	 *
+	 * @param startIndex The index of the first bit to be set.
+	 * @param endIndex The index of the last bit to be set.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord set(final int startIndex, final int endIndex) {
+		Word.checkRange(this.m_size, startIndex, endIndex);
+
+		return this.update(editor -> editor.set(startIndex, endIndex));
+	}
+
+	/**
+	 * Sets the given bit to {@code 0}.
+	 *
+	 * @param index The index of the bit to be cleared.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord clear(final int index) {
+		return this.clear(index, index);
+	}
+
+	/**
+	 * Sets all bits from {@code startIndex} to {@code endIndex} (inclusive) to {@code 0}.
+	 *
+	 * @param startIndex The index of the first bit to be cleared.
+	 * @param endIndex The index of the last bit to be cleared.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord clear(final int startIndex, final int endIndex) {
+		Word.checkRange(this.m_size, startIndex, endIndex);
+
+		return this.update(editor -> editor.clear(startIndex, endIndex));
+	}
+
+	/**
+	 * Flips the given bit.
+	 *
+	 * @param index The index of the bit to be flipped.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord flip(final int index) {
+		return this.flip(index, index);
+	}
+
+	/**
+	 * Flips all bits from {@code startIndex} to {@code endIndex} (inclusive).
+	 *
+	 * @param startIndex The index of the first bit to be flipped.
+	 * @param endIndex The index of the last bit to be flipped.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord flip(final int startIndex, final int endIndex) {
+		Word.checkRange(this.m_size, startIndex, endIndex);
+
+		return this.update(editor -> editor.flip(startIndex, endIndex));
+	}
+
+	/**
+	 * Sets the value.
+	 *
+	 * @param that The value to be used.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord setValue(final Word that) {
+		Validate.notNull(that, "The word must not be null.");
+		Validate.isTrue(this.m_size == that.m_size, "Different word sizes not allowed.");
+
+		return this.update(editor -> editor.setValue(that));
+	}
+
+	/**
+	 * Applies the given modification to an {@code Editor} of the current version and publishes the result as a single
+	 * new version. The {@code Editor} copies a chunk on its first modification, so that the work is proportional to the
+	 * number of modified chunks rather than to the size of this {@code VersionedWord}. The chunks that have not been
+	 * changed are shared with the previous version. If no bit has been changed, no new version is published.
+	 *
+	 * @param modification The modification to be applied.
+	 * @return A reference to this {@code VersionedWord}.
+	 */
+	public VersionedWord update(final Consumer<? super Editor> modification) {
+		Validate.notNull(modification, "The modification must not be null.");
+
+		synchronized (this.m_lock) {
+			final Editor editor = new Editor(this.m_current.m_chunks);
+			try {
+				modification.accept(editor);
+				this.publish(editor.complete());
+			} finally {
+				editor.m_done = true;
+			}
+		}
+
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return this.m_current.toString();
+	}
+
+	/**
+	 * Publishes the given chunks as the next version.
+	 *
+	 * @param chunks The chunks of the next version or {@code null} if no bit has been changed.
+	 */
+	private void publish(final long[][] chunks) {
+		if (chunks != null) {
+			this.m_current = new Snapshot(this.m_current.m_number + 1, this.m_size, this.m_chunkBits, chunks);
+		}
+	}
+
+	/**
+	 * Returns the mask of the index of an element within its chunk.
+	 *
+	 * @return The mask of the index of an element within its chunk.
+	 */
+	private int getChunkMask() {
+		return (1 << this.m_chunkBits) - 1;
+	}
+
+	/**
+	 * Returns the value of the given bit of the given chunks.
+	 *
+	 * @param chunks The chunks to be used.
+	 * @param chunkBits The number of address bits of a chunk.
+	 * @param index The index of the bit to be returned.
+	 * @return The value of the given bit.
+	 */
+	private static boolean getBoolean(final long[][] chunks, final int chunkBits, final int index) {
+		final int element = index >>> Word.ELEMENT_ADDRESS_BITS;
+		final long[] chunk = chunks[element >>> chunkBits];
+
+		return (chunk[element & ((1 << chunkBits) - 1)] & (Word.ONE << index)) != Word.ZERO;
+	}
+
+}
@@ -1,16 +1,27 @@
 package de.mononoize.tools.word;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
 import java.util.function.LongConsumer;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
  * <p>A set of bits with a fixed size.</p>
@@ -55,6 +66,66 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 */
 	protected static final long MAX = -1L;
 	
+	/**
+	 * The number of bits of one binary digit.
+	 */
+	private static final int BINARY_DIGIT_BITS = 1;
+	
+	/**
+	 * The number of bits of one hexadecimal digit.
+	 */
+	private static final int HEX_DIGIT_BITS = 4;
+	
+	/**
+	 * The hexadecimal digits.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	
+	/**
+	 * The number of bits of one Base64 digit.
+	 */
+	private static final int BASE64_DIGIT_BITS = 6;
+	
+	/**
+	 * The Base64 digits (see: {@link Base64#getEncoder()}).
+	 */
+	private static final char[] BASE64_DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+	
+	/**
+	 * The values of the (ASCII) Base64 digits or {@code -1} for characters that are not Base64 digits.
+	 */
+	private static final byte[] BASE64_VALUES = getBase64Values();
+	
+	/**
+	 * The first prime number used by the hash function (see: {@link #hash64()}).
+	 */
+	private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+	
+	/**
+	 * The second prime number used by the hash function (see: {@link #hash64()}).
+	 */
+	private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+	
+	/**
+	 * The third prime number used by the hash function (see: {@link #hash64()}).
+	 */
+	private static final long PRIME64_3 = 0x165667B19E3779F9L;
+	
+	/**
+	 * The fourth prime number used by the hash function (see: {@link #hash64()}).
+	 */
+	private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+	
+	/**
+	 * The fifth prime number used by the hash function (see: {@link #hash64()}).
+	 */
+	private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+	
+	/**
+	 * The comparator that compares {@code Word}s as unsigned values.
+	 */
+	private static final Comparator<Word> COMPARATOR = Word::compareTo;
+	
 	/**
 	 * The (internal) data storage array.
 	 */
@@ -65,11 +136,6 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 */
 	protected final int m_size;
 	
-	/**
-	 * A mask to replace {@code x % this.m_size} with {@code x & this.m_sizeModMask}.
-	 */
-	protected final int m_sizeModMask;
-	
 	/**
 	 * Constructs a new {@code Word} with the given number of bits. Initially, all bits are set to {@code 0}.
 	 * 
@@ -79,7 +145,6 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 		Validate.isTrue(size > 0, "The size must be at least 1.");
 		
 		this.m_size = size;
-		this.m_sizeModMask = this.m_size - 1;
 		this.m_data = new long[((this.m_size - 1) >>> ELEMENT_ADDRESS_BITS) + 1];
 	}
 	
@@ -104,16 +169,54 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return A new {@code Word} using the given {@code String} value.
 	 */
 	public static Word of(final String value) {
+		return of(value, BINARY_DIGIT_BITS);
+	}
+	
+	/**
+	 * Returns a new {@code Word} using the given hexadecimal {@code String} value. The given string must consist of
+	 * {@code '0'} to {@code '9'}, {@code 'a'} to {@code 'f'}, and {@code 'A'} to {@code 'F'} characters. However, it is
+	 * allowed to group the individual digits into groups using the {@code ' '} and {@code '_'} characters. The size of
+	 * the new {@code Word} is four times the number of digits.
+	 * 
+	 * @param value The value to be used.
+	 * @return A new {@code Word} using the given hexadecimal {@code String} value.
+	 */
+	public static Word ofHex(final String value) {
+		return of(value, HEX_DIGIT_BITS);
+	}
+	
+	/**
+	 * Returns a new {@code Word} using the given value with the given number of bits per digit. The size of the new
+	 * {@code Word} is the number of digits multiplied by the number of bits per digit.
+	 * 
+	 * @param value The value to be used.
+	 * @param digitBits The number of bits per digit.
+	 * @return A new {@code Word} using the given value.
+	 */
+	private static Word of(final CharSequence value, final int digitBits) {
 		Validate.notNull(value, "The string must not be null.");
-		Validate.notEmpty(value, "The string must not be empty.");
-		Validate.isTrue(StringUtils.containsOnly(value, '0', '1', ' ', '_'), "The string contains invalid characters.");
-		Validate.isTrue(StringUtils.containsAny(value,  '0', '1'), "The string must include at least one '0' or '1' character");
 		
-		String temp = value;
-		temp = StringUtils.remove(temp, ' ');
-		temp = StringUtils.remove(temp, '_');
+		// The digits are parsed into an array that is large enough for all characters of the string, so that the
+		// string is read only once.
 		
-		return new Word(temp.length()).setValue(temp);
+		final long[] data = new long[getLength(Math.max(1, (int) Math.min(Integer.MAX_VALUE, (long) value.length() * digitBits)))];
+		final Word result = new Word(parse(value, digitBits, data) * digitBits);
+		
+		System.arraycopy(data, 0, result.m_data, 0, result.m_data.length);
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a new {@code Word} with the given number of bits using the given Base64 {@code String} value (see:
+	 * {@link #setBase64Value(String)}).
+	 * 
+	 * @param size The number of bits to be used.
+	 * @param value The value to be used.
+	 * @return A new {@code Word} using the given Base64 {@code String} value.
+	 */
+	public static Word ofBase64(final int size, final String value) {
+		return new Word(size).setBase64Value(value);
 	}
 	
 	/**
@@ -168,10 +271,18 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 		
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder() //
-				.append(this.m_size) //
-				.append(this.m_data) //
-				.build();
+		final long hash = this.hash64();
+		return (int) (hash ^ (hash >>> 32));
+	}
+	
+	/**
+	 * Returns a {@code 64} bit hash code of this {@code Word}. The elements of the (internal) data storage array are
+	 * mixed with the round and avalanche functions of xxHash64, so that all bits affect the result.
+	 * 
+	 * @return A {@code 64} bit hash code of this {@code Word}.
+	 */
+	public long hash64() {
+		return hash64(this.m_data, 0, this.m_data.length, this.m_size);
 	}
 	
 	@Override
@@ -190,10 +301,7 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 		
 		final Word that = (Word) object;
 		
-		return new EqualsBuilder() //
-				.append(this.m_size, that.m_size) //
-				.append(this.m_data, that.m_data) //
-				.isEquals();		
+		return (this.m_size == that.m_size) && Arrays.equals(this.m_data, that.m_data);
     }
 	
 	@Override
@@ -203,26 +311,41 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 
 	@Override
 	public int compareTo(final Word that) {
-		Validate.notNull(that, "The word must not be null.");
+		return compare(this, that);
+	}
 	
-		if (this.equals(that)) {
-			return 0;
-		} else {
-			final long[] temp = new long[this.m_data.length];
-			
-			for (int i = 0; i < this.m_data.length; i++) {
-				temp[i] = this.m_data[i] ^ that.m_data[i];
-			}
+	/**
+	 * Compares the given {@code Word}s as unsigned values. The result is {@code -1}, {@code 0}, or {@code 1} if the
+	 * first {@code Word} is less than, equal to, or greater than the second {@code Word}.
+	 * 
+	 * @param word1 The first word to be compared.
+	 * @param word2 The second word to be compared.
+	 * @return The result of the comparison.
+	 */
+	public static int compare(final Word word1, final Word word2) {
+		Validate.notNull(word1, "The word must not be null.");
+		Validate.notNull(word2, "The word must not be null.");
+		Validate.isTrue(word1.m_size == word2.m_size, "Different word sizes not allowed.");
 		
-			int result = 0;
-			for (int i = (this.m_size - 1); i >= 0; i--) {
-				if ((temp[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0) {
-					result = ((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0) ? 1 : -1;
-					break;
-				}
+		// The elements are compared from the most significant to the least significant element. Only the first
+		// element that differs determines the result.
+		
+		for (int i = (word1.m_data.length - 1); i >= 0; i--) {
+			if (word1.m_data[i] != word2.m_data[i]) {
+				return (Long.compareUnsigned(word1.m_data[i], word2.m_data[i]) < 0) ? -1 : 1;
 			}
-			return result;
 		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Returns a comparator that compares {@code Word}s as unsigned values (see: {@link #compareTo(Word)}).
+	 * 
+	 * @return A comparator that compares {@code Word}s as unsigned values.
+	 */
+	public static Comparator<Word> comparator() {
+		return COMPARATOR;
 	}
 		
 	@Override
@@ -294,13 +417,114 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return A string representation of the given value.
 	 */
 	private static String toString(final int size, final long ... values) {
-		final StringBuilder result = new StringBuilder();
+		final char[] result = new char[size];
+		
+		// The characters are written from the end of the result (i.e. the least significant bit) to the start of the
+		// result (i.e. the most significant bit).
+		
+		for (int i = 0, j = (size - 1); j >= 0; i++) {
+			long element = values[i];
+			for (int k = 0; (k < ELEMENT_SIZE) && (j >= 0); k++, j--) {
+				result[j] = (char) ('0' + (element & ONE));
+				element >>>= 1;
+			}
+		}
 		
-		for (int i = (values.length - 1); i >= 0; i--) {
-			result.append(StringUtils.leftPad(Long.toBinaryString(values[i]), ELEMENT_SIZE, '0'));
+		return new String(result);
+	}
+	
+	/**
+	 * Returns a string representation of this {@code Word} in base 16. The string consists of lower case digits and is
+	 * filled with extra leading {@code 0}s to a total of {@code ceil(size / 4)} digits.
+	 * 
+	 * @return A string representation of this {@code Word} in base 16.
+	 */
+	public String toHexString() {
+		return toHexString(elements(this.m_data), 0, this.m_size);
+	}
+	
+	/**
+	 * Returns a Base64 representation of this {@code Word}. The encoded bytes are in big-endian order and their number
+	 * is {@code ceil(size / 8)}.
+	 * 
+	 * @return A Base64 representation of this {@code Word}.
+	 */
+	public String toBase64String() {
+		return toBase64String(elements(this.m_data), 0, this.m_size);
+	}
+	
+	/**
+	 * Writes a string representation of this {@code Word} in base 2 (see: {@link #toString()}) to the given array,
+	 * starting at the given offset. No intermediate string is created.
+	 * 
+	 * @param destination The array to be used.
+	 * @param offset The index of the first character to be written.
+	 * @return The number of characters written, i.e. {@code size}.
+	 */
+	public int formatTo(final char[] destination, final int offset) {
+		Validate.notNull(destination, "The array must not be null.");
+		Objects.checkFromIndexSize(offset, this.m_size, destination.length);
+		
+		try {
+			this.formatTo(CharBuffer.wrap(destination, offset, this.m_size));
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
 		}
 		
-		return StringUtils.right(result.toString(), size);
+		return this.m_size;
+	}
+	
+	/**
+	 * Writes a string representation of this {@code Word} in base 16 (see: {@link #toHexString()}) to the given
+	 * array, starting at the given offset. No intermediate string is created, the bits are read once (see:
+	 * {@link #toLongArray()}).
+	 * 
+	 * @param destination The array to be used.
+	 * @param offset The index of the first character to be written.
+	 * @return The number of characters written, i.e. {@code ceil(size / 4)}.
+	 */
+	public int formatHexTo(final char[] destination, final int offset) {
+		Validate.notNull(destination, "The array must not be null.");
+		
+		final int length = (this.m_size + (HEX_DIGIT_BITS - 1)) / HEX_DIGIT_BITS;
+		Objects.checkFromIndexSize(offset, length, destination.length);
+		
+		formatHex(elements(this.toLongArray()), 0, this.m_size, destination, offset);
+		
+		return length;
+	}
+	
+	/**
+	 * Writes a Base64 representation of this {@code Word} (see: {@link #toBase64String()}) as ASCII characters to the
+	 * given array, starting at the given offset. No intermediate string is created, the bits are read once (see:
+	 * {@link #toLongArray()}).
+	 * 
+	 * @param destination The array to be used.
+	 * @param offset The index of the first byte to be written.
+	 * @return The number of bytes written, i.e. {@code 4 * ceil(ceil(size / 8) / 3)}.
+	 */
+	public int formatBase64To(final byte[] destination, final int offset) {
+		Validate.notNull(destination, "The array must not be null.");
+		
+		final int length = getBase64Length(this.m_size);
+		Objects.checkFromIndexSize(offset, length, destination.length);
+		
+		formatBase64(elements(this.toLongArray()), 0, this.m_size, destination, offset);
+		
+		return length;
+	}
+	
+	/**
+	 * Appends a string representation of this {@code Word} in base 2 (see: {@link #toString()}) to the given
+	 * appendable. No intermediate string is created.
+	 * 
+	 * @param <T> The type of the appendable.
+	 * @param appendable The appendable to be used.
+	 * @return A reference to the given appendable.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public <T extends Appendable> T formatTo(final T appendable) throws IOException {
+		return formatTo(elements(this.m_data), 0, this.m_size, appendable);
 	}
 	
 	/**
@@ -348,6 +572,57 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 		return (char) this.m_data[0];	
 	}
 	
+	/**
+	 * Returns all bits as an array of {@code ceil(size / 64)} elements, starting with the least significant element.
+	 * 
+	 * @return All bits as an array of {@code long}s.
+	 */
+	public long[] toLongArray() {
+		return this.m_data.clone();
+	}
+	
+	/**
+	 * Returns all bits as an array of {@code ceil(size / 8)} bytes in the given byte order.
+	 * 
+	 * @param order The byte order to be used.
+	 * @return All bits as an array of {@code byte}s.
+	 */
+	public byte[] toByteArray(final ByteOrder order) {
+		Validate.notNull(order, "The byte order must not be null.");
+		
+		final boolean bigEndian = (order == ByteOrder.BIG_ENDIAN);
+		final byte[] result = new byte[(this.m_size + (Byte.SIZE - 1)) / Byte.SIZE];
+		
+		for (int i = 0, j = 0; j < result.length; i += Byte.SIZE, j++) {
+			result[bigEndian ? (result.length - 1 - j) : j] = (byte) (this.m_data[i >>> ELEMENT_ADDRESS_BITS] >>> i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Writes all bits to the given buffer. This method writes {@code ceil(size / 64)} elements (using the byte order of
+	 * the buffer), starting with the least significant element, and advances the position of the buffer accordingly.
+	 * 
+	 * @param buffer The buffer to be used.
+	 * @return A reference to the given buffer.
+	 */
+	public ByteBuffer writeTo(final ByteBuffer buffer) {
+		Validate.notNull(buffer, "The buffer must not be null.");
+		
+		final int length = this.m_data.length * Long.BYTES;
+		final int position = buffer.position();
+		
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+		
+		buffer.asLongBuffer().put(this.m_data);
+		buffer.position(position + length);
+		
+		return buffer;
+	}
+	
 	/**
 	 * Returns the number of bits of this {@code Word}.
 	 * 
@@ -382,26 +657,270 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return A reference to this {@code Word}.
 	 */
 	public Word setValue(final String value) {
+		return this.assign(parseBinary(value, this.m_size));
+	}
+	
+	/**
+	 * Sets the value. The given characters must consist of {@code '0'} and {@code '1'} characters, which may be
+	 * grouped (see: {@link #setValue(String)}). The characters are parsed directly from the given array.
+	 * 
+	 * @param chars The array of the characters to be used.
+	 * @param offset The index of the first character to be used.
+	 * @param length The number of characters to be used.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setValue(final char[] chars, final int offset, final int length) {
+		Validate.notNull(chars, "The array must not be null.");
+		
+		return this.setValue(parseBinary(CharBuffer.wrap(chars, offset, length), this.m_size));
+	}
+	
+	/**
+	 * Sets the value. The given string must consist of {@code '0'} to {@code '9'}, {@code 'a'} to {@code 'f'}, and
+	 * {@code 'A'} to {@code 'F'} characters. However, it is allowed to group the individual digits into groups using
+	 * the {@code ' '} and {@code '_'} characters. The number of digits must be {@code ceil(size / 4)} and the value must
+	 * not exceed the size of this {@code Word}.
+	 * 
+	 * @param value The value to be set.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setHexValue(final String value) {
+		return this.assign(parseHex(value, this.m_size));
+	}
+	
+	/**
+	 * Sets the value. The given characters must consist of hexadecimal digits, which may be grouped (see:
+	 * {@link #setHexValue(String)}). The characters are parsed directly from the given array.
+	 * 
+	 * @param chars The array of the characters to be used.
+	 * @param offset The index of the first character to be used.
+	 * @param length The number of characters to be used.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setHexValue(final char[] chars, final int offset, final int length) {
+		Validate.notNull(chars, "The array must not be null.");
+		
+		return this.setValue(parseHex(CharBuffer.wrap(chars, offset, length), this.m_size));
+	}
+	
+	/**
+	 * Sets the value. The given string must be a Base64 encoded sequence of {@code ceil(size / 8)} bytes in big-endian
+	 * order (see: {@link #toBase64String()}) and the value must not exceed the size of this {@code Word}. The string is
+	 * decoded directly into the (internal) data storage array.
+	 * 
+	 * @param value The value to be set.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setBase64Value(final String value) {
+		Validate.notNull(value, "The string must not be null.");
+		
+		return this.assign(parseBase64(value::charAt, value.length(), this.m_size));
+	}
+	
+	/**
+	 * Sets the value. The given (ASCII) bytes must be a Base64 representation (see: {@link #setBase64Value(String)}).
+	 * The bytes are decoded directly from the given array.
+	 * 
+	 * @param bytes The array of the bytes to be used.
+	 * @param offset The index of the first byte to be used.
+	 * @param length The number of bytes to be used.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setBase64Value(final byte[] bytes, final int offset, final int length) {
+		Validate.notNull(bytes, "The array must not be null.");
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+		
+		return this.setValue(parseBase64(index -> bytes[offset + index], length, this.m_size));
+	}
+	
+	/**
+	 * Sets the (internal) data storage array to the given (already validated) elements.
+	 * 
+	 * @param values The elements to be set.
+	 * @return A reference to this {@code Word}.
+	 */
+	private Word assign(final long[] values) {
+		System.arraycopy(values, 0, this.m_data, 0, this.m_data.length);
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the elements of a {@code Word} with the given number of bits using the given value in base 2 (see:
+	 * {@link #setValue(String)}).
+	 * 
+	 * @param value The value to be used.
+	 * @param size The number of bits.
+	 * @return The elements of the (internal) data storage array.
+	 */
+	private static long[] parseBinary(final CharSequence value, final int size) {
+		final long[] result = new long[getLength(size)];
+		
+		Validate.isTrue(parse(value, BINARY_DIGIT_BITS, result) == size, "Different word sizes not allowed.");
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the elements of a {@code Word} with the given number of bits using the given value in base 16 (see:
+	 * {@link #setHexValue(String)}).
+	 * 
+	 * @param value The value to be used.
+	 * @param size The number of bits.
+	 * @return The elements of the (internal) data storage array.
+	 */
+	private static long[] parseHex(final CharSequence value, final int size) {
+		final long[] result = new long[getLength(size)];
+		final int digits = parse(value, HEX_DIGIT_BITS, result);
+		
+		Validate.isTrue(((size + (HEX_DIGIT_BITS - 1)) / HEX_DIGIT_BITS) == digits, "Different word sizes not allowed.");
+		
+		// As the digits never exceed the elements, only the most significant element may exceed the size.
+		
+		Validate.isTrue((result[result.length - 1] & ~getLastElementMask(size)) == 0, "The value exceeds the word size.");
+		
+		return result;
+	}
+	
+	/**
+	 * Parses the given string, which must consist of digits with the given number of bits (i.e. {@code 1} for base 2
+	 * and {@code 4} for base 16) that may be grouped into groups using the {@code ' '} and {@code '_'} characters, into
+	 * the given (zero-initialized) elements. The string is validated while it is parsed, so that it is read only once.
+	 * 
+	 * @param value The value to be used.
+	 * @param digitBits The number of bits per digit.
+	 * @param data The elements to be used.
+	 * @return The number of digits of the given string.
+	 */
+	private static int parse(final CharSequence value, final int digitBits, final long[] data) {
 		Validate.notNull(value, "The string must not be null.");
 		Validate.notEmpty(value, "The string must not be empty.");
-		Validate.isTrue(StringUtils.containsOnly(value, '0', '1', ' ', '_'), "The string contains invalid characters.");
-		Validate.isTrue(StringUtils.containsAny(value,  '0', '1'), "The string must include at least one '0' or '1' character");
 		
-		String temp = value;
-		temp = StringUtils.remove(temp, ' ');
-		temp = StringUtils.remove(temp, '_');
+		// The string is processed from the end (i.e. the least significant digit) to the start (i.e. the most
+		// significant digit). Each element is assembled in a local variable and stored once it is complete. More digits
+		// than the elements can take are rejected immediately.
+		
+		final long capacity = ((long) data.length << ELEMENT_ADDRESS_BITS) / digitBits;
+		
+		long element = ZERO;
+		int bitIndex = 0;
+		int elementIndex = 0;
+		int digits = 0;
+		
+		for (int i = (value.length() - 1); i >= 0; i--) {
+			final char c = value.charAt(i);
+			if ((c != ' ') && (c != '_')) {
+				final int digit = toDigit(c);
+				Validate.isTrue((digit >= 0) && ((digit >>> digitBits) == 0), "The string contains invalid characters.");
+				Validate.isTrue(digits < capacity, "Different word sizes not allowed.");
+				
+				element |= ((long) digit) << bitIndex;
+				digits++;
+				bitIndex += digitBits;
+				if (bitIndex == ELEMENT_SIZE) {
+					data[elementIndex++] = element;
+					element = ZERO;
+					bitIndex = 0;
+				}
+			}
+		}
+		
+		if (bitIndex != 0) {
+			data[elementIndex] = element;
+		}
+		
+		Validate.isTrue(digits > 0, "The string must include at least one digit.");
+		
+		return digits;
+	}
+	
+	/**
+	 * Returns the value of the given (hexadecimal) digit or {@code -1} if the given character is not a digit.
+	 * 
+	 * @param c The character to be used.
+	 * @return The value of the given digit or {@code -1} if the given character is not a digit.
+	 */
+	private static int toDigit(final char c) {
+		if ((c >= '0') && (c <= '9')) {
+			return c - '0';
+		} else if ((c >= 'a') && (c <= 'f')) {
+			return c - 'a' + 10;
+		} else if ((c >= 'A') && (c <= 'F')) {
+			return c - 'A' + 10;
+		} else {
+			return -1;
+		}
+	}
 	
-		Validate.isTrue(this.m_size == temp.length(), "Different word sizes not allowed.");
+	/**
+	 * Returns the elements of a {@code Word} with the given number of bits using the given Base64 characters (see:
+	 * {@link #setBase64Value(String)}). As with {@link Base64#getDecoder()}, the padding is optional. The characters are
+	 * validated while they are decoded, so that they are read only once.
+	 * 
+	 * @param source The characters to be used (by index).
+	 * @param length The number of characters.
+	 * @param size The number of bits.
+	 * @return The elements of the (internal) data storage array.
+	 */
+	private static long[] parseBase64(final IntUnaryOperator source, final int length, final int size) {
 		
-		this.clear();
+		// Up to two trailing padding characters end the encoded bytes, but only if the characters form complete
+		// groups of four.
+		
+		int end = length;
+		while ((end > 0) && ((length - end) < 2) && (source.applyAsInt(end - 1) == '=')) {
+			end--;
+		}
+		
+		Validate.isTrue((end == length) || ((length & 3) == 0), "The string contains invalid characters.");
+		Validate.isTrue((end & 3) != 1, "The string contains invalid characters.");
 		
-		for (int i = 0; i < this.m_size; i++) {
-			if (temp.charAt((this.m_size - 1 - i)) == '1') {
-				this.set(i);	
+		final int bytes = (int) (((long) end * BASE64_DIGIT_BITS) / Byte.SIZE);
+		
+		Validate.isTrue(((size + (Byte.SIZE - 1)) / Byte.SIZE) == bytes, "Different word sizes not allowed.");
+		
+		// The bytes are in big-endian order, i.e. they are stored from the most significant byte downwards. The bits
+		// of the digits are collected in a local variable until a byte is complete.
+		
+		final long[] result = new long[getLength(size)];
+		
+		int bitIndex = bytes * Byte.SIZE;
+		int buffer = 0;
+		int bits = 0;
+		
+		for (int i = 0; i < end; i++) {
+			final int c = source.applyAsInt(i);
+			final int digit = ((c >= 0) && (c < BASE64_VALUES.length)) ? BASE64_VALUES[c] : -1;
+			Validate.isTrue(digit >= 0, "The string contains invalid characters.");
+			
+			buffer = (buffer << BASE64_DIGIT_BITS) | digit;
+			bits += BASE64_DIGIT_BITS;
+			if (bits >= Byte.SIZE) {
+				bits -= Byte.SIZE;
+				bitIndex -= Byte.SIZE;
+				result[bitIndex >>> ELEMENT_ADDRESS_BITS] |= ((long) ((buffer >>> bits) & 0xFF)) << bitIndex;
 			}
 		}
 		
-		return this;		
+		Validate.isTrue((result[result.length - 1] & ~getLastElementMask(size)) == 0, "The value exceeds the word size.");
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the values of the (ASCII) Base64 digits (see: {@link #BASE64_DIGITS}).
+	 * 
+	 * @return The values of the (ASCII) Base64 digits.
+	 */
+	private static byte[] getBase64Values() {
+		final byte[] result = new byte[128];
+		Arrays.fill(result, (byte) -1);
+		
+		for (int i = 0; i < BASE64_DIGITS.length; i++) {
+			result[BASE64_DIGITS[i]] = (byte) i;
+		}
+		
+		return result;
 	}
 	
 	/**
@@ -464,9 +983,81 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	private Word setValue(final int size, final long value) {
 		this.clear();
 
-		for (int i = 0; i < Math.min(this.m_size, size); i++) {
-			this.m_data[i >>> ELEMENT_ADDRESS_BITS] |= (value & (ONE << i));
-		}
+		this.m_data[0] = value & (MAX >>> -Math.min(this.m_size, size));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the value. The given array must contain {@code ceil(size / 64)} elements, starting with the least
+	 * significant element, and the value must not exceed the size of this {@code Word}.
+	 * 
+	 * @param values The values to be set.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setValue(final long[] values) {
+		Validate.notNull(values, "The array must not be null.");
+		Validate.isTrue(this.m_data.length == values.length, "Different word sizes not allowed.");
+		Validate.isTrue((values[values.length - 1] & ~this.getLastElementMask()) == 0, "The value exceeds the word size.");
+		
+		System.arraycopy(values, 0, this.m_data, 0, this.m_data.length);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the value. The given array must contain {@code ceil(size / 8)} bytes in the given byte order and the value
+	 * must not exceed the size of this {@code Word}.
+	 * 
+	 * @param bytes The bytes to be set.
+	 * @param order The byte order to be used.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word setValue(final byte[] bytes, final ByteOrder order) {
+		Validate.notNull(bytes, "The array must not be null.");
+		Validate.notNull(order, "The byte order must not be null.");
+		Validate.isTrue(((this.m_size + (Byte.SIZE - 1)) / Byte.SIZE) == bytes.length, "Different word sizes not allowed.");
+		
+		final boolean bigEndian = (order == ByteOrder.BIG_ENDIAN);
+		final int remainingBits = this.m_size - ((bytes.length - 1) * Byte.SIZE);
+		final byte last = bigEndian ? bytes[0] : bytes[bytes.length - 1];
+		
+		Validate.isTrue(((last & 0xFF) >>> remainingBits) == 0, "The value exceeds the word size.");
+		
+		this.clear();
+		
+		for (int i = 0, j = 0; j < bytes.length; i += Byte.SIZE, j++) {
+			final byte value = bigEndian ? bytes[bytes.length - 1 - j] : bytes[j];
+			this.m_data[i >>> ELEMENT_ADDRESS_BITS] |= (value & 0xFFL) << i;
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Reads the value from the given buffer. This method reads {@code ceil(size / 64)} elements (using the byte order
+	 * of the buffer), starting with the least significant element, and advances the position of the buffer accordingly.
+	 * The value must not exceed the size of this {@code Word}.
+	 * 
+	 * @param buffer The buffer to be used.
+	 * @return A reference to this {@code Word}.
+	 */
+	public Word readFrom(final ByteBuffer buffer) {
+		Validate.notNull(buffer, "The buffer must not be null.");
+		
+		final int length = this.m_data.length * Long.BYTES;
+		final int position = buffer.position();
+		
+		if (buffer.remaining() < length) {
+			throw new BufferUnderflowException();
+		}
+		
+		final long last = buffer.getLong(position + length - Long.BYTES);
+		
+		Validate.isTrue((last & ~this.getLastElementMask()) == 0, "The value exceeds the word size.");
+		
+		buffer.asLongBuffer().get(this.m_data);
+		buffer.position(position + length);
 		
 		return this;
 	}
@@ -600,13 +1191,13 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 		final long endWordMask = MAX >>> (-endIndex - 1);
 						
 		if (startWordIndex == endWordIndex) {
-			this.m_data[startWordIndex] &= (startWordMask & endWordMask);
+			this.m_data[startWordIndex] &= ~(startWordMask & endWordMask);
 		} else {
-			this.m_data[startWordIndex] &= startWordMask;
+			this.m_data[startWordIndex] &= ~startWordMask;
 			for(int i = (startWordIndex + 1); i < endWordIndex; i++) {
 				this.m_data[i] = ZERO;
 			}
-			this.m_data[endWordIndex] &= endWordMask;
+			this.m_data[endWordIndex] &= ~endWordMask;
 		}
 	
 		return this;
@@ -669,9 +1260,7 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			this.m_data[startWordIndex] ^= (startWordMask & endWordMask);
 		} else {
 			this.m_data[startWordIndex] ^= startWordMask;
-			for(int i = (startWordIndex + 1); i < endWordIndex; i++) {
-				this.m_data[i] ^= MAX;
-			}
+			LogicBackend.of(endWordIndex - startWordIndex - 1).not(this.m_data, (startWordIndex + 1), endWordIndex);
 			this.m_data[endWordIndex] ^= endWordMask;
 		}
 		
@@ -697,9 +1286,10 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return The index of the least significant bit set or {@code -1} if all bits are {@code 0}.
 	 */
 	public int findFirstOne() {
-		for (int i = 0; i < this.m_size; i++) {
-			if (((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0)) {
-				return i;
+		for (int i = 0; i < this.m_data.length; i++) {
+			final long element = this.m_data[i];
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(element);
 			}
 		}
 		
@@ -712,9 +1302,10 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return The index of the most significant bit set or {@code -1} if all bits are {@code 0}.
 	 */
 	public int findLastOne() {
-		for (int i = (this.m_size - 1); i >= 0; i--) {
-			if (((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0)) {
-				return i;
+		for (int i = (this.m_data.length - 1); i >= 0; i--) {
+			final long element = this.m_data[i];
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + (ELEMENT_SIZE - 1) - Long.numberOfLeadingZeros(element);
 			}
 		}
 		
@@ -727,12 +1318,21 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return The index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
 	 */
 	public int findFirstZero() {
-		for (int i = 0; i < this.m_size; i++) {
-			if (((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) == 0)) {
-				return i;
+		final int last = this.m_data.length - 1;
+		
+		for (int i = 0; i < last; i++) {
+			final long element = ~this.m_data[i];
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(element);
 			}
 		}
 		
+		// The unused bits of the most significant element must not be reported as zeros.
+		final long element = ~this.m_data[last] & this.getLastElementMask();
+		if (element != ZERO) {
+			return (last << ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(element);
+		}
+		
 		return -1;
 	}
 	
@@ -742,12 +1342,21 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	 * @return The index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
 	 */
 	public int findLastZero() {
-		for (int i = (this.m_size - 1); i >= 0; i--) {
-			if (((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) == 0)) {
-				return i;
+		final int last = this.m_data.length - 1;
+		
+		// The unused bits of the most significant element must not be reported as zeros.
+		final long element = ~this.m_data[last] & this.getLastElementMask();
+		if (element != ZERO) {
+			return (last << ELEMENT_ADDRESS_BITS) + (ELEMENT_SIZE - 1) - Long.numberOfLeadingZeros(element);
+		}
+
+		for (int i = (last - 1); i >= 0; i--) {
+			final long other = ~this.m_data[i];
+			if (other != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + (ELEMENT_SIZE - 1) - Long.numberOfLeadingZeros(other);
 			}
 		}
-		
+
 		return -1;
 	}
 	
@@ -779,7 +1388,8 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
      * @return The number of leading bits that are set to {@code 1}.
      */
     public int countLeadingOnes() {
-    	return (this.findLastZero() != -1) ? this.m_size - 1 - this.findLastZero() : this.m_size;
+    	final int index = this.findLastZero();
+    	return (index != -1) ? this.m_size - 1 - index : this.m_size;
     }
     
     /**
@@ -788,7 +1398,8 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
      * @return The number of leading bits that are set to {@code 0}.
      */
     public int countLeadingZeros() {
-    	return (this.findLastOne() != -1) ? this.m_size - 1 - this.findLastOne() : this.m_size;
+    	final int index = this.findLastOne();
+    	return (index != -1) ? this.m_size - 1 - index : this.m_size;
     }
     
     /**
@@ -797,7 +1408,8 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
      * @return The number of trailing bits that are set to {@code 1}.
      */
     public int countTrailingOnes() {
-    	return (this.findFirstZero() != -1) ? this.findFirstZero() : this.m_size;
+    	final int index = this.findFirstZero();
+    	return (index != -1) ? index : this.m_size;
     }
     
     /**
@@ -806,7 +1418,8 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
      * @return The number of trailing bits that are set to {@code 0}.
      */
     public int countTrailingZeros() {
-    	return (this.findFirstOne() != -1) ? this.findFirstOne() : this.m_size;
+    	final int index = this.findFirstOne();
+    	return (index != -1) ? index : this.m_size;
     }
     
 	/**
@@ -832,9 +1445,7 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			return this;
 		}
 		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] &= that.m_data[i];
-		}
+		LogicBackend.of(this.m_data.length).and(this.m_data, that.m_data);
 
 		return this;
 	}
@@ -853,7 +1464,10 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			return this.not();
 		}
 		
-		return this.and(that).not();
+		LogicBackend.of(this.m_data.length).nand(this.m_data, that.m_data);
+		this.m_data[this.m_data.length - 1] &= this.getLastElementMask();
+
+		return this;
 	}
 	
 	/**
@@ -870,9 +1484,7 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			return this.clear();
 		}
 		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] ^= that.m_data[i];
-		}
+		LogicBackend.of(this.m_data.length).xor(this.m_data, that.m_data);
 
 		return this;
 	}
@@ -891,9 +1503,7 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			return this;
 		}
 		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] |= that.m_data[i];
-		}
+		LogicBackend.of(this.m_data.length).or(this.m_data, that.m_data);
 
 		return this;
 	}
@@ -911,8 +1521,11 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 		if (this == that) {
 			return this.not();
 		}
-			
-		return this.or(that).not();
+		
+		LogicBackend.of(this.m_data.length).nor(this.m_data, that.m_data);
+		this.m_data[this.m_data.length - 1] &= this.getLastElementMask();
+
+		return this;
 	}
 	
 	/**
@@ -943,27 +1556,7 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			return this.clear();
 		}
 				
-		final long[] target = new long[this.m_data.length];
-		
-		// The following loop iterates over all bits of this Word (i.e. the source array) starting at index 0 (i.e. the
-	    // least significant bit). All zeros of the source array are skipped as the result array is already initialized
-		// to zero. The control-variable i points to the current bit of the source array whereas the control-variable j
-		// points to the current bit of the target array.
-				
-		final int sourceStart = 0;
-		final int sourceEnd = (this.m_size - offset);
-		final int targetStart = offset;
-				
-		for(int i = sourceStart, j = targetStart; i < sourceEnd ; i++, j++) {
-			// Skip zeros.
-			if ((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0) {
-				target[j >>> ELEMENT_ADDRESS_BITS] |= (ONE << j);
-			}
-		}
-		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] = target[i];
-		}
+		shiftLeft(this.m_data, 0, this.m_data.length, this.m_size, offset);
 		
 		return this;
 	}
@@ -996,31 +1589,21 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 			return this.clear();
 		}
 		
-		final long[] target = new long[this.m_data.length];
-	
-		// The following loop iterates over all bits of this Word (i.e. the source array) starting at index 0 (i.e. the
-	    // least significant bit). All zeros of the source array are skipped as the result array is already initialized
-		// to zero. The control-variable i points to the current bit of the source array whereas the control-variable j
-		// points to the current bit of the target array.
-		
-		final int sourceStart = offset;
-		final int sourceEnd = this.m_size;
-		final int targetStart = 0;
-		
-		for(int i = sourceStart, j = targetStart; i < sourceEnd; i++, j++) {
-			// Skip zeros.
-			if ((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0) {
-				target[j >>> ELEMENT_ADDRESS_BITS] |= (ONE << j);
-			}
-		}
-		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] = target[i];
-		}
-		
+		shiftRight(this.m_data, 0, this.m_data.length, this.m_size, offset);
+
 		return this;
 	}
-	
+
+	/**
+	 * Returns a mask for the most significant element of the (internal) data storage array that has all bits set to
+	 * {@code 1} which belong to this {@code Word}.
+	 *
+	 * @return A mask for the most significant element of the (internal) data storage array.
+	 */
+	private long getLastElementMask() {
+		return getLastElementMask(this.m_size);
+	}
+
 	/**
 	 * Executes a logical rotate-left operation on this {@code Word} with an offset of one.
 	 * 
@@ -1031,42 +1614,30 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	}	
 	
 	/**
-	 * Executes a logical rotate-left operation on this {@code Word} using the given offset.
+	 * Executes a logical rotate-left operation on this {@code Word} using the given offset. The rotation is done in
+	 * place, i.e. without a temporary array.
 	 * 
 	 * @param offset The offset to be used.
 	 * @return A reference to this {@code Word}.
 	 */
 	public Word rol(final int offset) {
 		Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
-				
-		// There is nothing to do when the offset is zero.
-		if (offset == 0) {
+		
+		// Multiple (unnecessary) rotations of the whole Word are prevented by using the remainder of the division with
+		// the Words size.
+		final int remainder = offset % this.m_size;
+		
+		// There is nothing to do when the (effective) offset is zero.
+		if (remainder == 0) {
 			return this;		
 		}
-
-		// The following loop iterates over all bits of this Word (i.e. the source array) starting at index 0 (i.e. the
-	    // least significant bit). All zeros of the source array are skipped as the result array is already initialized
-		// to zero. The control-variable i points to the current bit of the source array whereas the control-variable j
-		// points to the current bit of the target array.
-		//
-		// Multiple (unnecessary) rotations of the whole Word are prevented by initializing the control-variable j with
-		// the remainder of the division with the Words size.
-		
-		final long[] target = new long[this.m_data.length];
-		
-		final int sourceStart = 0;
-		final int sourceEnd = this.m_size;
-		final int targetStart = (this.m_size + offset) & this.m_sizeModMask;
-		
-		for(int i = sourceStart, j = targetStart; i <sourceEnd; i++, j = (++j & this.m_sizeModMask)) {
-			// Skip zeros.
-			if ((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0) {
-				target[j >>> ELEMENT_ADDRESS_BITS] |= (ONE << j);
-			}
-		}
 		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] = target[i];
+		// A rotation to the left is equal to a rotation to the right with the complementary offset. The direction that
+		// wraps fewer bits is used.
+		if (remainder <= (this.m_size - remainder)) {
+			rotateLeft(this.m_data, 0, this.m_data.length, this.m_size, remainder);
+		} else {
+			rotateRight(this.m_data, 0, this.m_data.length, this.m_size, (this.m_size - remainder));
 		}
 		
 		return this;
@@ -1082,7 +1653,8 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	}
 	
 	/**
-	 * Executes a logical rotate-right operation on this {@code Word} using the given offset.
+	 * Executes a logical rotate-right operation on this {@code Word} using the given offset. The rotation is done in
+	 * place, i.e. without a temporary array.
 	 * 
 	 * @param offset The offset to be used.
 	 * @return A reference to this {@code Word}.
@@ -1090,37 +1662,857 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	public Word ror(final int offset) {
 		Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
 		
-		// There is nothing to do when the offset is zero.
-		if (offset == 0) {
+		// Multiple (unnecessary) rotations of the whole Word are prevented by using the remainder of the division with
+		// the Words size.
+		final int remainder = offset % this.m_size;
+		
+		// There is nothing to do when the (effective) offset is zero.
+		if (remainder == 0) {
 			return this;		
 		}
-
-		// The following loop iterates over all bits of this Word (i.e. the source array) starting at index 0 (i.e. the
-	    // least significant bit). All zeros of the source array are skipped as the result array is already initialized
-		// to zero. The control-variable i points to the current bit of the source array whereas the control-variable j
-		// points to the current bit of the target array.
-		//
-		// Multiple (unnecessary) rotations of the whole Word are prevented by initializing the control-variable j with
-		// the remainder of the division with the Words size.
-		
-		final long[] target = new long[this.m_data.length];
-		
-		final int sourceStart = 0;
-		final int sourceEnd = this.m_size;
-		final int targetStart = (this.m_size - offset) & this.m_sizeModMask;
-		
-		for(int i = sourceStart, j = targetStart; i < sourceEnd; i++, j = (++j & this.m_sizeModMask)) {
-			// Skip zeros.
-			if ((this.m_data[i >>> ELEMENT_ADDRESS_BITS] & (ONE << i)) != 0) {
-				target[j >>> ELEMENT_ADDRESS_BITS] |= (ONE << j);
+		
+		// A rotation to the right is equal to a rotation to the left with the complementary offset. The direction that
+		// wraps fewer bits is used.
+		if (remainder <= (this.m_size - remainder)) {
+			rotateRight(this.m_data, 0, this.m_data.length, this.m_size, remainder);
+		} else {
+			rotateLeft(this.m_data, 0, this.m_data.length, this.m_size, (this.m_size - remainder));
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the number of elements of the (internal) data storage array for the given number of bits.
+	 * 
+	 * @param size The number of bits.
+	 * @return The number of elements of the (internal) data storage array.
+	 */
+	static int getLength(final int size) {
+		return ((size - 1) >>> ELEMENT_ADDRESS_BITS) + 1;
+	}
+	
+	/**
+	 * Returns a mask for the most significant element of the (internal) data storage array that has all bits set to
+	 * {@code 1} which belong to a {@code Word} with the given number of bits.
+	 * 
+	 * @param size The number of bits.
+	 * @return A mask for the most significant element of the (internal) data storage array.
+	 */
+	static long getLastElementMask(final int size) {
+		return MAX >>> -size;
+	}
+	
+	/**
+	 * Returns the mask of the bits from {@code startIndex} to {@code endIndex} (inclusive) within the given element.
+	 * 
+	 * @param element The index of the element.
+	 * @param startIndex The index of the first bit.
+	 * @param endIndex The index of the last bit.
+	 * @return The mask of the bits within the given element.
+	 */
+	static long getMask(final int element, final int startIndex, final int endIndex) {
+		final long startMask = ((startIndex >>> ELEMENT_ADDRESS_BITS) == element) ? (MAX << startIndex) : MAX;
+		final long endMask = ((endIndex >>> ELEMENT_ADDRESS_BITS) == element) ? (MAX >>> (-endIndex - 1)) : MAX;
+		
+		return startMask & endMask;
+	}
+	
+	/**
+	 * Validates the given range of bits of a {@code Word} with the given number of bits.
+	 * 
+	 * @param size The number of bits.
+	 * @param startIndex The index of the first bit.
+	 * @param endIndex The index of the last bit.
+	 */
+	static void checkRange(final int size, final int startIndex, final int endIndex) {
+		Validate.inclusiveBetween(0, (size - 1), startIndex, "Start index out of bounds.");
+		Validate.inclusiveBetween(0, (size - 1), endIndex, "End index out of bounds.");
+		Validate.isTrue(startIndex <= endIndex, "Start index must be before end index.");
+	}
+	
+	/**
+	 * Returns the elements of the given (internal) data storage array (see: {@link Elements}).
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @return The elements of the given (internal) data storage array.
+	 */
+	static Elements elements(final long[] data) {
+		return new ArrayElements(data);
+	}
+	
+	/**
+	 * Sets the unused bits of the most significant element of the given elements of the (internal) data storage array
+	 * to {@code 0}.
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 */
+	static void clearUnusedBits(final long[] data, final int offset, final int length, final int size) {
+		clearUnusedBits(elements(data), offset, length, size);
+	}
+	
+	/**
+	 * Sets the unused bits of the most significant element of the given elements to {@code 0}.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 */
+	static void clearUnusedBits(final Elements data, final int offset, final int length, final int size) {
+		final int last = offset + length - 1;
+		data.put(last, data.get(last) & getLastElementMask(size));
+	}
+	
+	/**
+	 * Returns the index of the least significant bit set of the given elements of the (internal) data storage array
+	 * (relative to the given offset) or {@code -1} if all bits are {@code 0}.
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @return The index of the least significant bit set or {@code -1}.
+	 */
+	static int findFirstOne(final long[] data, final int offset, final int length) {
+		return findFirstOne(elements(data), offset, length);
+	}
+	
+	/**
+	 * Returns the index of the least significant bit set of the given elements (relative to the given offset) or
+	 * {@code -1} if all bits are {@code 0}.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @return The index of the least significant bit set or {@code -1}.
+	 */
+	static int findFirstOne(final Elements data, final int offset, final int length) {
+		for (int i = 0; i < length; i++) {
+			final long element = data.get(offset + i);
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(element);
 			}
 		}
 		
-		for (int i = 0; i < this.m_data.length; i++) {
-			this.m_data[i] = target[i];
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the most significant bit set of the given elements of the (internal) data storage array
+	 * (relative to the given offset) or {@code -1} if all bits are {@code 0}.
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @return The index of the most significant bit set or {@code -1}.
+	 */
+	static int findLastOne(final long[] data, final int offset, final int length) {
+		return findLastOne(elements(data), offset, length);
+	}
+	
+	/**
+	 * Returns the index of the most significant bit set of the given elements (relative to the given offset) or
+	 * {@code -1} if all bits are {@code 0}.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @return The index of the most significant bit set or {@code -1}.
+	 */
+	static int findLastOne(final Elements data, final int offset, final int length) {
+		for (int i = (length - 1); i >= 0; i--) {
+			final long element = data.get(offset + i);
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + (ELEMENT_SIZE - 1) - Long.numberOfLeadingZeros(element);
+			}
 		}
 		
-		return this;
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the least significant bit not set of the given elements of the (internal) data storage array
+	 * (relative to the given offset) or {@code -1} if all bits are {@code 1}. Only the bits of the most significant
+	 * element that are set in the given mask are considered, so that unused bits are not reported as zeros.
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param lastElementMask The mask of the used bits of the most significant element.
+	 * @return The index of the least significant bit not set or {@code -1}.
+	 */
+	static int findFirstZero(final long[] data, final int offset, final int length, final long lastElementMask) {
+		return findFirstZero(elements(data), offset, length, lastElementMask);
+	}
+	
+	/**
+	 * Returns the index of the least significant bit not set of the given elements (relative to the given offset) or
+	 * {@code -1} if all bits are {@code 1} (see: {@link #findFirstZero(long[], int, int, long)}).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param lastElementMask The mask of the used bits of the most significant element.
+	 * @return The index of the least significant bit not set or {@code -1}.
+	 */
+	static int findFirstZero(final Elements data, final int offset, final int length, final long lastElementMask) {
+		for (int i = 0; i < length; i++) {
+			final long element = ~data.get(offset + i) & ((i == (length - 1)) ? lastElementMask : MAX);
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(element);
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the index of the most significant bit not set of the given elements of the (internal) data storage array
+	 * (relative to the given offset) or {@code -1} if all bits are {@code 1}. Only the bits of the most significant
+	 * element that are set in the given mask are considered, so that unused bits are not reported as zeros.
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param lastElementMask The mask of the used bits of the most significant element.
+	 * @return The index of the most significant bit not set or {@code -1}.
+	 */
+	static int findLastZero(final long[] data, final int offset, final int length, final long lastElementMask) {
+		return findLastZero(elements(data), offset, length, lastElementMask);
+	}
+	
+	/**
+	 * Returns the index of the most significant bit not set of the given elements (relative to the given offset) or
+	 * {@code -1} if all bits are {@code 1} (see: {@link #findLastZero(long[], int, int, long)}).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param lastElementMask The mask of the used bits of the most significant element.
+	 * @return The index of the most significant bit not set or {@code -1}.
+	 */
+	static int findLastZero(final Elements data, final int offset, final int length, final long lastElementMask) {
+		for (int i = (length - 1); i >= 0; i--) {
+			final long element = ~data.get(offset + i) & ((i == (length - 1)) ? lastElementMask : MAX);
+			if (element != ZERO) {
+				return (i << ELEMENT_ADDRESS_BITS) + (ELEMENT_SIZE - 1) - Long.numberOfLeadingZeros(element);
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the number of bits of the given elements of the (internal) data storage array that are set to {@code 1}.
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @return The number of bits that are set to {@code 1}.
+	 */
+	static int countOnes(final long[] data, final int offset, final int length) {
+		return countOnes(elements(data), offset, length);
+	}
+	
+	/**
+	 * Returns the number of bits of the given elements that are set to {@code 1}.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @return The number of bits that are set to {@code 1}.
+	 */
+	static int countOnes(final Elements data, final int offset, final int length) {
+		int result = 0;
+		for (int i = offset; i < (offset + length); i++) {
+			result += Long.bitCount(data.get(i));
+		}
+		return result;
+	}
+	
+	/**
+	 * Compares the given elements of two (internal) data storage arrays as unsigned values. The result is {@code -1},
+	 * {@code 0}, or {@code 1} if the first elements are less than, equal to, or greater than the second elements.
+	 * 
+	 * @param data The first (internal) data storage array.
+	 * @param offset The index of the least significant element of the first array.
+	 * @param other The second (internal) data storage array.
+	 * @param otherOffset The index of the least significant element of the second array.
+	 * @param length The number of elements.
+	 * @return The result of the comparison.
+	 */
+	static int compare(final long[] data, final int offset, final long[] other, final int otherOffset, final int length) {
+		return compare(elements(data), offset, elements(other), otherOffset, length);
+	}
+	
+	/**
+	 * Compares the given elements of two (internal) data storages as unsigned values (see:
+	 * {@link #compare(long[], int, long[], int, int)}).
+	 * 
+	 * @param data The first elements.
+	 * @param offset The index of the least significant element of the first elements.
+	 * @param other The second elements.
+	 * @param otherOffset The index of the least significant element of the second elements.
+	 * @param length The number of elements.
+	 * @return The result of the comparison.
+	 */
+	static int compare(final Elements data, final int offset, final Elements other, final int otherOffset, final int length) {
+		// The elements are compared from the most significant to the least significant element. Only the first
+		// element that differs determines the result.
+		
+		for (int i = (length - 1); i >= 0; i--) {
+			final long element = data.get(offset + i);
+			final long otherElement = other.get(otherOffset + i);
+			if (element != otherElement) {
+				return (Long.compareUnsigned(element, otherElement) < 0) ? -1 : 1;
+			}
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Shifts the given elements of the (internal) data storage array to the left using the given distance. The
+	 * distance must be between {@code 1} and {@code size - 1} (inclusive).
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void shiftLeft(final long[] data, final int offset, final int length, final int size, final int distance) {
+		shiftLeft(elements(data), offset, length, size, distance);
+	}
+	
+	/**
+	 * Shifts the given elements to the left using the given distance. The distance must be between {@code 1} and
+	 * {@code size - 1} (inclusive).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void shiftLeft(final Elements data, final int offset, final int length, final int size, final int distance) {
+		
+		// Whole elements are moved by the element offset, whereas the remaining bit offset is funneled in from the next
+		// lower source element. The elements are processed from the most significant element downwards, so that every
+		// source element is read before it is overwritten.
+		
+		final int elementOffset = distance >>> ELEMENT_ADDRESS_BITS;
+		final int bitOffset = distance & (ELEMENT_SIZE - 1);
+		
+		if (bitOffset == 0) {
+			for (int i = (length - 1); i >= elementOffset; i--) {
+				data.put(offset + i, data.get(offset + i - elementOffset));
+			}
+		} else {
+			for (int i = (length - 1); i > elementOffset; i--) {
+				data.put(offset + i, (data.get(offset + i - elementOffset) << bitOffset) //
+						| (data.get(offset + i - elementOffset - 1) >>> (ELEMENT_SIZE - bitOffset)));
+			}
+			data.put(offset + elementOffset, data.get(offset) << bitOffset);
+		}
+		
+		for (int i = 0; i < elementOffset; i++) {
+			data.put(offset + i, ZERO);
+		}
+		
+		// The bits shifted beyond the size must not remain in the most significant element.
+		clearUnusedBits(data, offset, length, size);
+	}
+	
+	/**
+	 * Shifts the given elements of the (internal) data storage array to the right using the given distance. The
+	 * distance must be between {@code 1} and {@code size - 1} (inclusive).
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void shiftRight(final long[] data, final int offset, final int length, final int size, final int distance) {
+		shiftRight(elements(data), offset, length, size, distance);
+	}
+	
+	/**
+	 * Shifts the given elements to the right using the given distance. The distance must be between {@code 1} and
+	 * {@code size - 1} (inclusive).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void shiftRight(final Elements data, final int offset, final int length, final int size, final int distance) {
+		
+		// Whole elements are moved by the element offset, whereas the remaining bit offset is funneled in from the next
+		// higher source element. The elements are processed from the least significant element upwards, so that every
+		// source element is read before it is overwritten.
+		
+		final int elementOffset = distance >>> ELEMENT_ADDRESS_BITS;
+		final int bitOffset = distance & (ELEMENT_SIZE - 1);
+		final int end = length - elementOffset - 1;
+		
+		if (bitOffset == 0) {
+			for (int i = 0; i <= end; i++) {
+				data.put(offset + i, data.get(offset + i + elementOffset));
+			}
+		} else {
+			for (int i = 0; i < end; i++) {
+				data.put(offset + i, (data.get(offset + i + elementOffset) >>> bitOffset) //
+						| (data.get(offset + i + elementOffset + 1) << (ELEMENT_SIZE - bitOffset)));
+			}
+			data.put(offset + end, data.get(offset + length - 1) >>> bitOffset);
+		}
+		
+		for (int i = (end + 1); i < length; i++) {
+			data.put(offset + i, ZERO);
+		}
+	}
+	
+	/**
+	 * Rotates the given elements of the (internal) data storage array to the left using the given distance. The
+	 * distance must be between {@code 1} and {@code size - 1} (inclusive).
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void rotateLeft(final long[] data, final int offset, final int length, final int size, final int distance) {
+		rotateLeft(elements(data), offset, length, size, distance);
+	}
+	
+	/**
+	 * Rotates the given elements to the left using the given distance. The distance must be between {@code 1} and
+	 * {@code size - 1} (inclusive).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void rotateLeft(final Elements data, final int offset, final int length, final int size, final int distance) {
+		
+		// Up to 64 most significant bits that wrap around are saved before the shift. As the shift leaves the least
+		// significant bits set to zero, the saved bits (aligned to index 0) can be merged. More bits are rotated element
+		// by element, so that no temporary array is needed.
+		
+		if (distance <= ELEMENT_SIZE) {
+			final long saved = getElement(data, offset, length, (size - distance));
+			shiftLeft(data, offset, length, size, distance);
+			data.put(offset, data.get(offset) | saved);
+		} else {
+			rotateElements(data, offset, length, size, distance);
+		}
+	}
+	
+	/**
+	 * Rotates the given elements of the (internal) data storage array to the right using the given distance. The
+	 * distance must be between {@code 1} and {@code size - 1} (inclusive).
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void rotateRight(final long[] data, final int offset, final int length, final int size, final int distance) {
+		rotateRight(elements(data), offset, length, size, distance);
+	}
+	
+	/**
+	 * Rotates the given elements to the right using the given distance. The distance must be between {@code 1} and
+	 * {@code size - 1} (inclusive).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	static void rotateRight(final Elements data, final int offset, final int length, final int size, final int distance) {
+		
+		// Up to 64 least significant bits that wrap around are saved before the shift. As the shift leaves the most
+		// significant bits set to zero, the saved bits can be merged at the (unaligned) index size - distance. More bits
+		// are rotated element by element (as the complementary rotation to the left), so that no temporary array is
+		// needed.
+		
+		if (distance <= ELEMENT_SIZE) {
+			final long saved = data.get(offset) & (MAX >>> -distance);
+			shiftRight(data, offset, length, size, distance);
+			mergeElement(data, offset, length, (size - distance), saved);
+		} else {
+			rotateElements(data, offset, length, size, (size - distance));
+		}
+	}
+	
+	/**
+	 * Rotates the given elements to the left in place using the given distance. The distance must be between {@code 1}
+	 * and {@code size - 1} (inclusive).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @param distance The distance to be used.
+	 */
+	private static void rotateElements(final Elements data, final int offset, final int length, final int size,
+			final int distance) {
+		final int elementOffset = distance >>> ELEMENT_ADDRESS_BITS;
+		final int bitOffset = distance & (ELEMENT_SIZE - 1);
+		
+		// First, all elements (including the unused bits of the most significant element) are rotated as if the size
+		// was a multiple of 64: Whole elements are moved along gcd(length, elementOffset) cycles, so that each element
+		// is moved once, and the remaining bit offset is funneled in from the next lower element.
+		
+		if (elementOffset != 0) {
+			final int cycles = gcd(length, elementOffset);
+			for (int i = 0; i < cycles; i++) {
+				final long saved = data.get(offset + i);
+				int target = i;
+				int source = i - elementOffset + length;
+				while (source != i) {
+					data.put(offset + target, data.get(offset + source));
+					target = source;
+					source -= elementOffset;
+					if (source < 0) {
+						source += length;
+					}
+				}
+				data.put(offset + target, saved);
+			}
+		}
+		
+		if (bitOffset != 0) {
+			final long saved = data.get(offset + length - 1) >>> (ELEMENT_SIZE - bitOffset);
+			for (int i = (length - 1); i > 0; i--) {
+				data.put(offset + i, (data.get(offset + i) << bitOffset) | (data.get(offset + i - 1) >>> (ELEMENT_SIZE - bitOffset)));
+			}
+			data.put(offset, (data.get(offset) << bitOffset) | saved);
+		}
+		
+		// Second, the wrapped bits are corrected if the size is not a multiple of 64. The first unused bits of the
+		// wrapped bits have been rotated into the unused bits, whereas the former unused bits (i.e. 0s) have been
+		// rotated in below the distance. Hence, the bits below the distance are shifted up by the number of unused bits
+		// and the bits from the unused bits are merged at index 0.
+		
+		final int unused = -size & (ELEMENT_SIZE - 1);
+		if (unused != 0) {
+			final long wrapped = data.get(offset + length - 1) >>> (ELEMENT_SIZE - unused);
+			clearUnusedBits(data, offset, length, size);
+			
+			final int last = (distance - 1) >>> ELEMENT_ADDRESS_BITS;
+			final long lastMask = MAX >>> -distance;
+			
+			long element = data.get(offset + last) & lastMask;
+			for (int i = last; i > 0; i--) {
+				final long lower = data.get(offset + i - 1);
+				final long shifted = (element << unused) | (lower >>> (ELEMENT_SIZE - unused));
+				data.put(offset + i, (i == last) ? ((data.get(offset + i) & ~lastMask) | (shifted & lastMask)) : shifted);
+				element = lower;
+			}
+			final long shifted = (element << unused) | wrapped;
+			data.put(offset, (last == 0) ? ((data.get(offset) & ~lastMask) | (shifted & lastMask)) : shifted);
+		}
+	}
+	
+	/**
+	 * Returns the greatest common divisor of the given (positive) values.
+	 * 
+	 * @param a The first value.
+	 * @param b The second value.
+	 * @return The greatest common divisor of the given values.
+	 */
+	private static int gcd(final int a, final int b) {
+		int x = a;
+		int y = b;
+		while (y != 0) {
+			final int z = x % y;
+			x = y;
+			y = z;
+		}
+		return x;
+	}
+	
+	/**
+	 * Returns the (up to) {@code 64} bits of the given elements starting at the given (not necessarily element
+	 * aligned) index. Bits beyond the given elements are returned as {@code 0}.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param index The index of the first bit to be returned.
+	 * @return The (up to) {@code 64} bits starting at the given index.
+	 */
+	private static long getElement(final Elements data, final int offset, final int length, final int index) {
+		final int elementIndex = index >>> ELEMENT_ADDRESS_BITS;
+		final int bitOffset = index & (ELEMENT_SIZE - 1);
+		
+		long result = data.get(offset + elementIndex) >>> bitOffset;
+		if ((bitOffset != 0) && ((elementIndex + 1) < length)) {
+			result |= data.get(offset + elementIndex + 1) << (ELEMENT_SIZE - bitOffset);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Merges (i.e. ORs) the given {@code 64} bits into the given elements starting at the given (not necessarily
+	 * element aligned) index. The given bits must not exceed the given elements.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param index The index of the first bit to be merged.
+	 * @param value The bits to be merged.
+	 */
+	private static void mergeElement(final Elements data, final int offset, final int length, final int index,
+			final long value) {
+		final int elementIndex = index >>> ELEMENT_ADDRESS_BITS;
+		final int bitOffset = index & (ELEMENT_SIZE - 1);
+		
+		data.put(offset + elementIndex, data.get(offset + elementIndex) | (value << bitOffset));
+		if ((bitOffset != 0) && ((elementIndex + 1) < length)) {
+			data.put(offset + elementIndex + 1, data.get(offset + elementIndex + 1) | (value >>> (ELEMENT_SIZE - bitOffset)));
+		}
+	}
+	
+	/**
+	 * Returns a {@code 64} bit hash code of the given elements of the (internal) data storage array (see:
+	 * {@link #hash64()}).
+	 * 
+	 * @param data The (internal) data storage array.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @return A {@code 64} bit hash code of the given elements.
+	 */
+	static long hash64(final long[] data, final int offset, final int length, final int size) {
+		return hash64(elements(data), offset, length, size);
+	}
+	
+	/**
+	 * Returns a {@code 64} bit hash code of the given elements (see: {@link #hash64()}).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param length The number of elements.
+	 * @param size The number of bits.
+	 * @return A {@code 64} bit hash code of the given elements.
+	 */
+	static long hash64(final Elements data, final int offset, final int length, final int size) {
+		long result = PRIME64_5 + size;
+		for (int i = offset; i < (offset + length); i++) {
+			result = mix(result, data.get(i));
+		}
+		return avalanche(result);
+	}
+	
+	/**
+	 * Mixes the given element into the given intermediate hash code (i.e. the round function of xxHash64).
+	 * 
+	 * @param result The intermediate hash code.
+	 * @param element The element to be mixed.
+	 * @return The new intermediate hash code.
+	 */
+	private static long mix(final long result, final long element) {
+		return Long.rotateLeft(result ^ (Long.rotateLeft(element * PRIME64_2, 31) * PRIME64_1), 27) * PRIME64_1 + PRIME64_4;
+	}
+	
+	/**
+	 * Returns the final hash code of the given intermediate hash code (i.e. the avalanche function of xxHash64).
+	 * 
+	 * @param hash The intermediate hash code.
+	 * @return The final hash code.
+	 */
+	private static long avalanche(final long hash) {
+		long result = hash;
+		result ^= result >>> 33;
+		result *= PRIME64_2;
+		result ^= result >>> 29;
+		result *= PRIME64_3;
+		result ^= result >>> 32;
+		return result;
+	}
+	
+	/**
+	 * Returns a string representation of the given elements in base 16 (see: {@link #toHexString()}).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param size The number of bits.
+	 * @return A string representation of the given elements in base 16.
+	 */
+	static String toHexString(final Elements data, final int offset, final int size) {
+		final char[] result = new char[(size + (HEX_DIGIT_BITS - 1)) / HEX_DIGIT_BITS];
+		formatHex(data, offset, size, result, 0);
+		
+		return new String(result);
+	}
+	
+	/**
+	 * Writes a string representation of the given elements in base 16 (see: {@link #toHexString()}) to the given
+	 * array, starting at the given index.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param size The number of bits.
+	 * @param destination The array to be used.
+	 * @param index The index of the first character to be written.
+	 */
+	static void formatHex(final Elements data, final int offset, final int size, final char[] destination, final int index) {
+		
+		// As the element size is a multiple of four, a digit never spans two elements.
+		
+		for (int i = 0, j = (index + ((size + (HEX_DIGIT_BITS - 1)) / HEX_DIGIT_BITS) - 1); j >= index; i += HEX_DIGIT_BITS, j--) {
+			destination[j] = HEX_DIGITS[(int) (data.get(offset + (i >>> ELEMENT_ADDRESS_BITS)) >>> i) & 0xF];
+		}
+	}
+	
+	/**
+	 * Returns a Base64 representation of the given elements (see: {@link #toBase64String()}).
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param size The number of bits.
+	 * @return A Base64 representation of the given elements.
+	 */
+	static String toBase64String(final Elements data, final int offset, final int size) {
+		final byte[] result = new byte[getBase64Length(size)];
+		formatBase64(data, offset, size, result, 0);
+		
+		// The (ASCII) characters are used as they are, i.e. the string is not decoded.
+		
+		return new String(result, StandardCharsets.ISO_8859_1);
+	}
+	
+	/**
+	 * Writes a Base64 representation of the given elements (see: {@link #toBase64String()}) as ASCII characters to the
+	 * given array, starting at the given index.
+	 * 
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param size The number of bits.
+	 * @param destination The array to be used.
+	 * @param index The index of the first byte to be written.
+	 */
+	static void formatBase64(final Elements data, final int offset, final int size, final byte[] destination, final int index) {
+		final int bytes = (size + (Byte.SIZE - 1)) / Byte.SIZE;
+		
+		// The bytes are encoded in big-endian order, i.e. from the most significant byte downwards. Each group of
+		// three bytes is encoded as four digits, and a last incomplete group is padded.
+		
+		int bitIndex = bytes * Byte.SIZE;
+		int position = index;
+		
+		for (int i = 0; i < bytes; i += 3) {
+			final int count = Math.min(3, bytes - i);
+			
+			int group = 0;
+			for (int j = 0; j < 3; j++) {
+				group <<= Byte.SIZE;
+				if (j < count) {
+					bitIndex -= Byte.SIZE;
+					group |= (int) (data.get(offset + (bitIndex >>> ELEMENT_ADDRESS_BITS)) >>> bitIndex) & 0xFF;
+				}
+			}
+			
+			destination[position++] = (byte) BASE64_DIGITS[group >>> 18];
+			destination[position++] = (byte) BASE64_DIGITS[(group >>> 12) & 0x3F];
+			destination[position++] = (count > 1) ? (byte) BASE64_DIGITS[(group >>> 6) & 0x3F] : (byte) '=';
+			destination[position++] = (count > 2) ? (byte) BASE64_DIGITS[group & 0x3F] : (byte) '=';
+		}
+	}
+	
+	/**
+	 * Returns the number of characters of a Base64 representation of a {@code Word} with the given number of bits.
+	 * 
+	 * @param size The number of bits.
+	 * @return The number of characters of a Base64 representation.
+	 */
+	static int getBase64Length(final int size) {
+		return ((((size + (Byte.SIZE - 1)) / Byte.SIZE) + 2) / 3) * 4;
+	}
+	
+	/**
+	 * Appends a string representation of the given elements in base 2 (see: {@link #formatTo(Appendable)}) to the
+	 * given appendable.
+	 * 
+	 * @param <T> The type of the appendable.
+	 * @param data The elements of the (internal) data storage.
+	 * @param offset The index of the least significant element.
+	 * @param size The number of bits.
+	 * @param appendable The appendable to be used.
+	 * @return A reference to the given appendable.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static <T extends Appendable> T formatTo(final Elements data, final int offset, final int size, final T appendable)
+			throws IOException {
+		Validate.notNull(appendable, "The appendable must not be null.");
+		
+		final char[] buffer = new char[ELEMENT_SIZE];
+		final CharBuffer wrapper = CharBuffer.wrap(buffer);
+		
+		// The elements are appended from the most significant element to the least significant element. Only the most
+		// significant element may be partially used.
+		
+		final int last = getLength(size) - 1;
+		int length = size - (last << ELEMENT_ADDRESS_BITS);
+		
+		for (int i = last; i >= 0; i--) {
+			long element = data.get(offset + i);
+			for (int j = (length - 1); j >= 0; j--) {
+				buffer[j] = (char) ('0' + (element & ONE));
+				element >>>= 1;
+			}
+			appendable.append(wrapper, 0, length);
+			length = ELEMENT_SIZE;
+		}
+		
+		return appendable;
+	}
+	
+	/**
+	 * Returns an unchecked access to the bits of this {@code Word} (see: {@link WordAccess}). The returned access skips
+	 * the argument validation of this {@code Word} and should be obtained once outside of a hot loop.
+	 * 
+	 * @return An unchecked access to the bits of this {@code Word}.
+	 */
+	public WordAccess unchecked() {
+		return new WordAccess(this);
+	}
+	
+	/**
+	 * Returns a parallel access to the bits of this {@code Word} (see: {@link ParallelWordAccess}), which uses the
+	 * common pool and the default threshold.
+	 * 
+	 * @return A parallel access to the bits of this {@code Word}.
+	 */
+	public ParallelWordAccess parallel() {
+		return this.parallel(ForkJoinPool.commonPool(), ParallelWordAccess.THRESHOLD);
+	}
+	
+	/**
+	 * Returns a parallel access to the bits of this {@code Word} (see: {@link ParallelWordAccess}), which uses the
+	 * given pool and processes at most the given number of elements per task.
+	 * 
+	 * @param pool The pool to be used.
+	 * @param threshold The maximum number of elements that are processed by a single task.
+	 * @return A parallel access to the bits of this {@code Word}.
+	 */
+	public ParallelWordAccess parallel(final ForkJoinPool pool, final int threshold) {
+		return new ParallelWordAccess(this, pool, threshold);
 	}
 	
 	/**
@@ -1205,5 +2597,62 @@ public class Word implements Serializable, Cloneable, Comparable<Word> {
 	public LongStream stream() {
 		return StreamSupport.longStream(this.spliterator(), false);
 	}
+	
+	/**
+	 * The elements of an (internal) data storage, which are read and written by index. The (static) engines of the
+	 * {@code Word} class operate on {@code Elements}, so that a single implementation serves the (internal) data
+	 * storage arrays of {@code Word}s as well as the (internal) data storages of other classes (e.g. the buffers of
+	 * {@link OffHeapWord}s).
+	 */
+	abstract static class Elements {
+		
+		/**
+		 * Returns the given element.
+		 * 
+		 * @param index The index of the element.
+		 * @return The given element.
+		 */
+		abstract long get(int index);
+		
+		/**
+		 * Sets the given element.
+		 * 
+		 * @param index The index of the element.
+		 * @param value The value to be set.
+		 */
+		abstract void put(int index, long value);
+		
+	}
+	
+	/**
+	 * The elements of an (internal) data storage array.
+	 */
+	private static final class ArrayElements extends Elements {
+		
+		/**
+		 * The (internal) data storage array.
+		 */
+		private final long[] m_data;
+		
+		/**
+		 * Constructs new {@code ArrayElements} of the given (internal) data storage array.
+		 * 
+		 * @param data The (internal) data storage array.
+		 */
+		private ArrayElements(final long[] data) {
+			this.m_data = data;
+		}
+		
+		@Override
+		long get(final int index) {
+			return this.m_data[index];
+		}
+		
+		@Override
+		void put(final int index, final long value) {
+			this.m_data[index] = value;
+		}
+		
+	}
 
 }
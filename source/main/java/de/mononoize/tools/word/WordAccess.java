@@ -0,0 +1,214 @@
+package de.mononoize.tools.word;
+
+import java.util.Objects;
+
+/**
+ * <p>An unchecked access to the bits of a {@code Word}.</p>
+ * 
+ * <p>The methods of the {@code WordAccess} class skip the (comparatively expensive) argument validation of the
+ * {@link Word} class. Indices are only checked by {@link Objects#checkIndex(int, int)}, which is an intrinsic of the
+ * JVM, and the arguments of the logical operations are only checked implicitly by dereferencing them. The
+ * {@code WordAccess} class is intended for hot loops, where the indices are already known to be valid.</p>
+ * 
+ * <p><b>Note:</b> A {@code WordAccess} operates directly on the (internal) data storage of its {@code Word}. It must
+ * not be shared with multiple threads without external synchronization (see: {@link Word#unchecked()}).</p>
+ *
+ * @author Alexander Mattes
+ */
+public final class WordAccess {
+
+	/**
+	 * The (internal) data storage array of the accessed {@code Word}.
+	 */
+	private final long[] m_data;
+	
+	/**
+	 * The accessed {@code Word}.
+	 */
+	private final Word m_word;
+	
+	/**
+	 * Whether the modifying methods are rejected.
+	 */
+	private final boolean m_readOnly;
+	
+	/**
+	 * Constructs a new {@code WordAccess} for the given {@code Word}.
+	 * 
+	 * @param word The word to be accessed.
+	 */
+	WordAccess(final Word word) {
+		this(word, false);
+	}
+	
+	/**
+	 * Constructs a new {@code WordAccess} for the given {@code Word}. A read-only {@code WordAccess} throws an
+	 * {@link UnsupportedOperationException} from all modifying methods (see: {@link ImmutableWord}).
+	 * 
+	 * @param word The word to be accessed.
+	 * @param readOnly Whether the modifying methods are rejected.
+	 */
+	WordAccess(final Word word, final boolean readOnly) {
+		this.m_word = word;
+		this.m_data = word.m_data;
+		this.m_readOnly = readOnly;
+	}
+	
+	/**
+	 * Returns the accessed {@code Word}.
+	 * 
+	 * @return The accessed {@code Word}.
+	 */
+	public Word word() {
+		return this.m_word;
+	}
+	
+	/**
+	 * Returns the bit at the given index.
+	 * 
+	 * @param index The index of the bit to be returned.
+	 * @return The bit at the given index.
+	 */
+	public long get(final int index) {
+		return this.getBoolean(index) ? Word.ONE : Word.ZERO;
+	}
+	
+	/**
+	 * Returns the bit at the given index as a {@code boolean}.
+	 * 
+	 * @param index The index of the bit to be returned.
+	 * @return The bit at the given index as a {@code boolean}.
+	 */
+	public boolean getBoolean(final int index) {
+		Objects.checkIndex(index, this.m_word.m_size);
+		
+		return ((this.m_data[index >>> Word.ELEMENT_ADDRESS_BITS] & (Word.ONE << index)) != 0);
+	}
+	
+	/**
+	 * Sets the given bit to {@code 1}.
+	 * 
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code WordAccess}.
+	 */
+	public WordAccess set(final int index) {
+		this.checkWritable();
+		
+		Objects.checkIndex(index, this.m_word.m_size);
+		
+		this.m_data[index >>> Word.ELEMENT_ADDRESS_BITS] |= (Word.ONE << index);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the given bit to {@code 0}.
+	 * 
+	 * @param index The index of the bit to be set.
+	 * @return A reference to this {@code WordAccess}.
+	 */
+	public WordAccess clear(final int index) {
+		this.checkWritable();
+		
+		Objects.checkIndex(index, this.m_word.m_size);
+		
+		this.m_data[index >>> Word.ELEMENT_ADDRESS_BITS] &= ~(Word.ONE << index);
+		
+		return this;
+	}
+	
+	/**
+	 * Flips the given bit.
+	 * 
+	 * @param index The index of the bit to be flipped.
+	 * @return A reference to this {@code WordAccess}.
+	 */
+	public WordAccess flip(final int index) {
+		this.checkWritable();
+		
+		Objects.checkIndex(index, this.m_word.m_size);
+		
+		this.m_data[index >>> Word.ELEMENT_ADDRESS_BITS] ^= (Word.ONE << index);
+		
+		return this;
+	}
+	
+	/**
+	 * Executes a logical conjunction operation on the accessed {@code Word}.
+	 * 
+	 * @param that The word to be used.
+	 * @return A reference to this {@code WordAccess}.
+	 */
+	public WordAccess and(final Word that) {
+		this.checkWritable();
+		
+		final long[] other = this.checkSize(that);
+		
+		for (int i = 0; i < this.m_data.length; i++) {
+			this.m_data[i] &= other[i];
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Executes a logical exclusive disjunction operation on the accessed {@code Word}.
+	 * 
+	 * @param that The word to be used.
+	 * @return A reference to this {@code WordAccess}.
+	 */
+	public WordAccess xor(final Word that) {
+		this.checkWritable();
+		
+		final long[] other = this.checkSize(that);
+		
+		for (int i = 0; i < this.m_data.length; i++) {
+			this.m_data[i] ^= other[i];
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Executes a logical inclusive disjunction operation on the accessed {@code Word}.
+	 * 
+	 * @param that The word to be used.
+	 * @return A reference to this {@code WordAccess}.
+	 */
+	public WordAccess or(final Word that) {
+		this.checkWritable();
+		
+		final long[] other = this.checkSize(that);
+		
+		for (int i = 0; i < this.m_data.length; i++) {
+			this.m_data[i] |= other[i];
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Throws an {@link UnsupportedOperationException} if this {@code WordAccess} is read-only.
+	 */
+	private void checkWritable() {
+		if (this.m_readOnly) {
+			throw new UnsupportedOperationException();
+		}
+	}
+	
+	/**
+	 * Returns the (internal) data storage array of the given {@code Word} if it has the same size as the accessed
+	 * {@code Word}.
+	 * 
+	 * @param that The word to be checked.
+	 * @return The (internal) data storage array of the given {@code Word}.
+	 */
+	private long[] checkSize(final Word that) {
+		if (that.m_size != this.m_word.m_size) {
+			throw new IllegalArgumentException("Different size Words not allowed.");
+		}
+		
+		return that.m_data;
+	}
+	
+}
@@ -0,0 +1,982 @@
+package de.mononoize.tools.word;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A fixed number of {@code Word}s with the same size, which are stored contiguously in a single (internal) data
+ * storage array. Compared to an array of {@code Word}s, there is no object header, array header, size field, or
+ * reference per {@code Word}, which matters for large numbers of small {@code Word}s (e.g. a {@code Word} with 128 bits
+ * uses 16 bytes instead of about 60 bytes with compressed references).</p>
+ *
+ * <p>The {@code Word}s are accessed with reusable {@link Cursor}s, which provide the operations of a {@code Word} at a
+ * given index without creating an object per {@code Word} (see: {@link #cursor(int)} and {@link Cursor#moveTo(int)}).
+ * Moreover, operations are provided that apply to all {@code Word}s at once, either with the same {@code Word} (e.g.
+ * {@link #and(Word)}) or with the {@code Word}s at the same index of another {@code WordArray} (e.g.
+ * {@link #and(WordArray)}).</p>
+ *
+ * <p>{@code WordArray}s and their {@code Cursor}s are not thread-safe.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class WordArray {
+
+	/**
+	 * The maximum number of elements of each {@code Word} for which operations with the same
+	 * {@code Word} are executed element by element of the {@code Word} across all {@code Word}s. This avoids the short
+	 * inner loop per {@code Word}, which is slow for small {@code Word}s.
+	 */
+	private static final int COLUMN_STRIDE = 4;
+
+	/**
+	 * The number of bits of each {@code Word}.
+	 */
+	private final int m_size;
+
+	/**
+	 * The number of {@code Word}s.
+	 */
+	private final int m_count;
+
+	/**
+	 * The number of elements of each {@code Word}.
+	 */
+	private final int m_stride;
+
+	/**
+	 * The (internal) data storage array.
+	 */
+	private final long[] m_data;
+
+	/**
+	 * Constructs a new {@code WordArray} with the given number of {@code Word}s with the given size. Initially, all bits
+	 * are set to {@code 0}.
+	 *
+	 * @param size The number of bits of each {@code Word}.
+	 * @param count The number of {@code Word}s.
+	 */
+	public WordArray(final int size, final int count) {
+		Validate.isTrue(size > 0, "The size must be at least 1.");
+		Validate.isTrue(count > 0, "The count must be at least 1.");
+
+		this.m_size = size;
+		this.m_count = count;
+		this.m_stride = Word.getLength(size);
+
+		Validate.isTrue(((long) count * this.m_stride) <= (Integer.MAX_VALUE - 8), "The count is too large.");
+
+		this.m_data = new long[count * this.m_stride];
+	}
+
+	/**
+	 * Returns the number of bits of each {@code Word} of this {@code WordArray}.
+	 *
+	 * @return The number of bits of each {@code Word}.
+	 */
+	public int getSize() {
+		return this.m_size;
+	}
+
+	/**
+	 * Returns the number of {@code Word}s of this {@code WordArray}.
+	 *
+	 * @return The number of {@code Word}s.
+	 */
+	public int getCount() {
+		return this.m_count;
+	}
+
+	/**
+	 * Returns a copy of the given {@code Word}.
+	 *
+	 * @param index The index of the {@code Word} to be returned.
+	 * @return A copy of the given {@code Word}.
+	 */
+	public Word get(final int index) {
+		return this.copyTo(index, new Word(this.m_size));
+	}
+
+	/**
+	 * Copies the given {@code Word} of this {@code WordArray} to the given {@code Word}.
+	 *
+	 * @param index The index of the {@code Word} to be copied.
+	 * @param destination The word to be used.
+	 * @return A reference to the given {@code Word}.
+	 */
+	public Word copyTo(final int index, final Word destination) {
+		final int offset = this.getOffset(index);
+		Validate.notNull(destination, "The word must not be null.");
+		Validate.isTrue(this.m_size == destination.m_size, "Different word sizes not allowed.");
+
+		System.arraycopy(this.m_data, offset, destination.m_data, 0, this.m_stride);
+
+		return destination;
+	}
+
+	/**
+	 * Sets the given {@code Word} of this {@code WordArray} to the bits of the given {@code Word}.
+	 *
+	 * @param index The index of the {@code Word} to be set.
+	 * @param value The word to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray set(final int index, final Word value) {
+		final int offset = this.getOffset(index);
+		this.checkOperand(value);
+
+		System.arraycopy(value.m_data, 0, this.m_data, offset, this.m_stride);
+
+		return this;
+	}
+
+	/**
+	 * Returns a new {@code Cursor} at the first {@code Word} of this {@code WordArray}.
+	 *
+	 * @return A new {@code Cursor}.
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Returns a new {@code Cursor} at the given {@code Word} of this {@code WordArray}.
+	 *
+	 * @param index The index of the {@code Word}.
+	 * @return A new {@code Cursor}.
+	 */
+	public Cursor cursor(final int index) {
+		return new Cursor().moveTo(index);
+	}
+
+	/**
+	 * Executes the given action for all {@code Word}s of this {@code WordArray} in ascending order. The action is given
+	 * the same {@code Cursor} for all {@code Word}s, which must not be used after the action has returned.
+	 *
+	 * @param action The action to be executed.
+	 */
+	public void forEach(final Consumer<? super Cursor> action) {
+		Validate.notNull(action, "The action must not be null.");
+
+		final Cursor cursor = new Cursor();
+		for (int i = 0; i < this.m_count; i++) {
+			action.accept(cursor.moveTo(i));
+		}
+	}
+
+	/**
+	 * Returns the index of the first {@code Word} of this {@code WordArray} that is equal to the given {@code Word}, or
+	 * {@code -1} if there is no such {@code Word}.
+	 *
+	 * @param value The word to be searched.
+	 * @return The index of the first equal {@code Word} or {@code -1}.
+	 */
+	public int indexOf(final Word value) {
+		this.checkOperand(value);
+
+		for (int i = 0, offset = 0; i < this.m_count; i++, offset += this.m_stride) {
+			if (Arrays.equals(this.m_data, offset, offset + this.m_stride, value.m_data, 0, this.m_stride)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the number of bits of all {@code Word}s that are set to {@code 1}.
+	 *
+	 * @return The number of bits of all {@code Word}s that are set to {@code 1}.
+	 */
+	public long countOnes() {
+		long result = 0;
+		for (final long element : this.m_data) {
+			result += Long.bitCount(element);
+		}
+		return result;
+	}
+
+	/**
+	 * Sets all {@code Word}s to the bits of the given {@code Word}.
+	 *
+	 * @param value The word to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray fill(final Word value) {
+		this.checkOperand(value);
+
+		for (int offset = 0; offset < this.m_data.length; offset += this.m_stride) {
+			System.arraycopy(value.m_data, 0, this.m_data, offset, this.m_stride);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets all bits of all {@code Word}s to {@code 0}.
+	 *
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray clear() {
+		Arrays.fill(this.m_data, Word.ZERO);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical negation operation on all {@code Word}s.
+	 *
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray not() {
+		LogicBackend.of(this.m_data.length).not(this.m_data, 0, this.m_data.length);
+
+		return this.clearUnusedBits();
+	}
+
+	/**
+	 * Executes a logical conjunction operation on all {@code Word}s with the given {@code Word}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray and(final Word that) {
+		this.checkOperand(that);
+
+		if (this.m_stride <= COLUMN_STRIDE) {
+			for (int i = 0; i < this.m_stride; i++) {
+				final long element = that.m_data[i];
+				for (int j = i; j < this.m_data.length; j += this.m_stride) {
+					this.m_data[j] &= element;
+				}
+			}
+		} else {
+			for (int offset = 0; offset < this.m_data.length; offset += this.m_stride) {
+				for (int i = 0; i < this.m_stride; i++) {
+					this.m_data[offset + i] &= that.m_data[i];
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on all {@code Word}s with the given {@code Word}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray xor(final Word that) {
+		this.checkOperand(that);
+
+		if (this.m_stride <= COLUMN_STRIDE) {
+			for (int i = 0; i < this.m_stride; i++) {
+				final long element = that.m_data[i];
+				for (int j = i; j < this.m_data.length; j += this.m_stride) {
+					this.m_data[j] ^= element;
+				}
+			}
+		} else {
+			for (int offset = 0; offset < this.m_data.length; offset += this.m_stride) {
+				for (int i = 0; i < this.m_stride; i++) {
+					this.m_data[offset + i] ^= that.m_data[i];
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on all {@code Word}s with the given {@code Word}.
+	 *
+	 * @param that The word to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray or(final Word that) {
+		this.checkOperand(that);
+
+		if (this.m_stride <= COLUMN_STRIDE) {
+			for (int i = 0; i < this.m_stride; i++) {
+				final long element = that.m_data[i];
+				for (int j = i; j < this.m_data.length; j += this.m_stride) {
+					this.m_data[j] |= element;
+				}
+			}
+		} else {
+			for (int offset = 0; offset < this.m_data.length; offset += this.m_stride) {
+				for (int i = 0; i < this.m_stride; i++) {
+					this.m_data[offset + i] |= that.m_data[i];
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical conjunction operation on all {@code Word}s with the {@code Word}s at the same index of the given
+	 * {@code WordArray}.
+	 *
+	 * @param that The array to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray and(final WordArray that) {
+		this.checkOperand(that);
+
+		LogicBackend.of(this.m_data.length).and(this.m_data, that.m_data);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical conjunction operation on all {@code Word}s with the {@code Word}s at the same index of the given
+	 * {@code WordArray} and negates the results.
+	 *
+	 * @param that The array to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray nand(final WordArray that) {
+		this.checkOperand(that);
+
+		LogicBackend.of(this.m_data.length).nand(this.m_data, that.m_data);
+
+		return this.clearUnusedBits();
+	}
+
+	/**
+	 * Executes a logical exclusive disjunction operation on all {@code Word}s with the {@code Word}s at the same index of
+	 * the given {@code WordArray}.
+	 *
+	 * @param that The array to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray xor(final WordArray that) {
+		this.checkOperand(that);
+
+		LogicBackend.of(this.m_data.length).xor(this.m_data, that.m_data);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on all {@code Word}s with the {@code Word}s at the same index of
+	 * the given {@code WordArray}.
+	 *
+	 * @param that The array to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray or(final WordArray that) {
+		this.checkOperand(that);
+
+		LogicBackend.of(this.m_data.length).or(this.m_data, that.m_data);
+
+		return this;
+	}
+
+	/**
+	 * Executes a logical inclusive disjunction operation on all {@code Word}s with the {@code Word}s at the same index of
+	 * the given {@code WordArray} and negates the results.
+	 *
+	 * @param that The array to be used.
+	 * @return A reference to this {@code WordArray}.
+	 */
+	public WordArray nor(final WordArray that) {
+		this.checkOperand(that);
+
+		LogicBackend.of(this.m_data.length).nor(this.m_data, that.m_data);
+
+		return this.clearUnusedBits();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder result = new StringBuilder("[");
+
+		final Cursor cursor = new Cursor();
+		for (int i = 0; i < this.m_count; i++) {
+			result.append((i == 0) ? "" : ", ").append(cursor.moveTo(i));
+		}
+
+		return result.append(']').toString();
+	}
+
+	/**
+	 * Returns the offset of the given {@code Word} in the (internal) data storage array.
+	 *
+	 * @param index The index of the {@code Word}.
+	 * @return The offset of the given {@code Word}.
+	 */
+	private int getOffset(final int index) {
+		Validate.inclusiveBetween(0, (this.m_count - 1), index, "Index out of bounds.");
+
+		return index * this.m_stride;
+	}
+
+	/**
+	 * Validates the given {@code Word} operand.
+	 *
+	 * @param that The word to be validated.
+	 */
+	private void checkOperand(final Word that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+	}
+
+	/**
+	 * Validates the given {@code WordArray} operand.
+	 *
+	 * @param that The array to be validated.
+	 */
+	private void checkOperand(final WordArray that) {
+		Validate.notNull(that, "Null not allowed.");
+		Validate.isTrue(this.m_size == that.m_size, "Different size Words not allowed.");
+		Validate.isTrue(this.m_count == that.m_count, "Different count WordArrays not allowed.");
+	}
+
+	/**
+	 * Sets the unused bits of the most significant element of all {@code Word}s to {@code 0}.
+	 *
+	 * @return A reference to this {@code WordArray}.
+	 */
+	private WordArray clearUnusedBits() {
+		final long mask = Word.getLastElementMask(this.m_size);
+		if (mask != Word.MAX) {
+			for (int i = (this.m_stride - 1); i < this.m_data.length; i += this.m_stride) {
+				this.m_data[i] &= mask;
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * <p>A flyweight that provides the operations of a {@code Word} for a {@code Word} of the {@code WordArray}. The
+	 * {@code Word} is selected with {@link #moveTo(int)}, so that a single {@code Cursor} can be used to access all
+	 * {@code Word}s of the {@code WordArray}.</p>
+	 *
+	 * <p>The operations have the same semantics as the corresponding operations of {@link Word}.</p>
+	 */
+	public final class Cursor {
+
+		/**
+		 * The index of the current {@code Word}.
+		 */
+		private int m_index;
+
+		/**
+		 * The offset of the current {@code Word} in the (internal) data storage array.
+		 */
+		private int m_offset;
+
+		/**
+		 * Constructs a new {@code Cursor} at the first {@code Word}.
+		 */
+		private Cursor() {
+		}
+
+		/**
+		 * Moves this {@code Cursor} to the given {@code Word}.
+		 *
+		 * @param index The index of the {@code Word}.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor moveTo(final int index) {
+			this.m_offset = WordArray.this.getOffset(index);
+			this.m_index = index;
+
+			return this;
+		}
+
+		/**
+		 * Returns the index of the current {@code Word}.
+		 *
+		 * @return The index of the current {@code Word}.
+		 */
+		public int getIndex() {
+			return this.m_index;
+		}
+
+		/**
+		 * Returns the number of bits of the current {@code Word}.
+		 *
+		 * @return The number of bits of the current {@code Word}.
+		 */
+		public int getSize() {
+			return WordArray.this.m_size;
+		}
+
+		/**
+		 * Returns the value of the given bit.
+		 *
+		 * @param index The index of the bit to be returned.
+		 * @return The value of the given bit.
+		 */
+		public boolean getBoolean(final int index) {
+			return ((WordArray.this.m_data[this.getElement(index)] >>> index) & Word.ONE) != Word.ZERO;
+		}
+
+		/**
+		 * Sets the given bit to {@code 1}.
+		 *
+		 * @param index The index of the bit to be set.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor set(final int index) {
+			WordArray.this.m_data[this.getElement(index)] |= (Word.ONE << index);
+
+			return this;
+		}
+
+		/**
+		 * Sets the given range of bits to {@code 1}.
+		 *
+		 * @param startIndex The index of the first bit to be set.
+		 * @param endIndex The index of the last bit to be set.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor set(final int startIndex, final int endIndex) {
+			Word.checkRange(WordArray.this.m_size, startIndex, endIndex);
+
+			for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+				WordArray.this.m_data[this.m_offset + i] |= Word.getMask(i, startIndex, endIndex);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Sets all bits to {@code 1}.
+		 *
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor set() {
+			return this.set(0, (WordArray.this.m_size - 1));
+		}
+
+		/**
+		 * Sets the given bit to {@code 0}.
+		 *
+		 * @param index The index of the bit to be set.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor clear(final int index) {
+			WordArray.this.m_data[this.getElement(index)] &= ~(Word.ONE << index);
+
+			return this;
+		}
+
+		/**
+		 * Sets the given range of bits to {@code 0}.
+		 *
+		 * @param startIndex The index of the first bit to be set.
+		 * @param endIndex The index of the last bit to be set.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor clear(final int startIndex, final int endIndex) {
+			Word.checkRange(WordArray.this.m_size, startIndex, endIndex);
+
+			for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+				WordArray.this.m_data[this.m_offset + i] &= ~Word.getMask(i, startIndex, endIndex);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Sets all bits to {@code 0}.
+		 *
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor clear() {
+			Arrays.fill(WordArray.this.m_data, this.m_offset, this.m_offset + WordArray.this.m_stride, Word.ZERO);
+
+			return this;
+		}
+
+		/**
+		 * Flips the given bit.
+		 *
+		 * @param index The index of the bit to be flipped.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor flip(final int index) {
+			WordArray.this.m_data[this.getElement(index)] ^= (Word.ONE << index);
+
+			return this;
+		}
+
+		/**
+		 * Flips the given range of bits.
+		 *
+		 * @param startIndex The index of the first bit to be flipped.
+		 * @param endIndex The index of the last bit to be flipped.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor flip(final int startIndex, final int endIndex) {
+			Word.checkRange(WordArray.this.m_size, startIndex, endIndex);
+
+			for (int i = (startIndex >>> Word.ELEMENT_ADDRESS_BITS); i <= (endIndex >>> Word.ELEMENT_ADDRESS_BITS); i++) {
+				WordArray.this.m_data[this.m_offset + i] ^= Word.getMask(i, startIndex, endIndex);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Flips all bits.
+		 *
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor flip() {
+			return this.flip(0, (WordArray.this.m_size - 1));
+		}
+
+		/**
+		 * Executes a logical negation operation on the current {@code Word}.
+		 *
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor not() {
+			return this.flip();
+		}
+
+		/**
+		 * Executes a logical conjunction operation on the current {@code Word}.
+		 *
+		 * @param that The word to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor and(final Word that) {
+			WordArray.this.checkOperand(that);
+
+			final long[] data = WordArray.this.m_data;
+			for (int i = 0; i < WordArray.this.m_stride; i++) {
+				data[this.m_offset + i] &= that.m_data[i];
+			}
+
+			return this;
+		}
+
+		/**
+		 * Executes a logical conjunction operation on the current {@code Word} and negates the result.
+		 *
+		 * @param that The word to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor nand(final Word that) {
+			WordArray.this.checkOperand(that);
+
+			final long[] data = WordArray.this.m_data;
+			for (int i = 0; i < WordArray.this.m_stride; i++) {
+				data[this.m_offset + i] = ~(data[this.m_offset + i] & that.m_data[i]);
+			}
+
+			return this.clearUnusedBits();
+		}
+
+		/**
+		 * Executes a logical exclusive disjunction operation on the current {@code Word}.
+		 *
+		 * @param that The word to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor xor(final Word that) {
+			WordArray.this.checkOperand(that);
+
+			final long[] data = WordArray.this.m_data;
+			for (int i = 0; i < WordArray.this.m_stride; i++) {
+				data[this.m_offset + i] ^= that.m_data[i];
+			}
+
+			return this;
+		}
+
+		/**
+		 * Executes a logical inclusive disjunction operation on the current {@code Word}.
+		 *
+		 * @param that The word to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor or(final Word that) {
+			WordArray.this.checkOperand(that);
+
+			final long[] data = WordArray.this.m_data;
+			for (int i = 0; i < WordArray.this.m_stride; i++) {
+				data[this.m_offset + i] |= that.m_data[i];
+			}
+
+			return this;
+		}
+
+		/**
+		 * Executes a logical inclusive disjunction operation on the current {@code Word} and negates the result.
+		 *
+		 * @param that The word to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor nor(final Word that) {
+			WordArray.this.checkOperand(that);
+
+			final long[] data = WordArray.this.m_data;
+			for (int i = 0; i < WordArray.this.m_stride; i++) {
+				data[this.m_offset + i] = ~(data[this.m_offset + i] | that.m_data[i]);
+			}
+
+			return this.clearUnusedBits();
+		}
+
+		/**
+		 * Executes a logical shift-left operation on the current {@code Word} using the given offset.
+		 *
+		 * @param offset The offset to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor shl(final int offset) {
+			Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+			if (offset >= WordArray.this.m_size) {
+				return this.clear();
+			}
+			if (offset != 0) {
+				Word.shiftLeft(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, WordArray.this.m_size, offset);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Executes a logical shift-right operation on the current {@code Word} using the given offset.
+		 *
+		 * @param offset The offset to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor shr(final int offset) {
+			Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+			if (offset >= WordArray.this.m_size) {
+				return this.clear();
+			}
+			if (offset != 0) {
+				Word.shiftRight(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, WordArray.this.m_size, offset);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Executes a logical rotate-left operation on the current {@code Word} using the given offset.
+		 *
+		 * @param offset The offset to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor rol(final int offset) {
+			Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+			return this.rotate(offset % WordArray.this.m_size);
+		}
+
+		/**
+		 * Executes a logical rotate-right operation on the current {@code Word} using the given offset.
+		 *
+		 * @param offset The offset to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor ror(final int offset) {
+			Validate.isTrue(offset >= 0, "A negative offset is not allowed.");
+
+			final int remainder = offset % WordArray.this.m_size;
+
+			return this.rotate((remainder == 0) ? 0 : (WordArray.this.m_size - remainder));
+		}
+
+		/**
+		 * Returns the index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+		 *
+		 * @return The index of the least significant bit set or {@code -1} if all bits are {@code 0}.
+		 */
+		public int findFirstOne() {
+			return Word.findFirstOne(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride);
+		}
+
+		/**
+		 * Returns the index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+		 *
+		 * @return The index of the most significant bit set or {@code -1} if all bits are {@code 0}.
+		 */
+		public int findLastOne() {
+			return Word.findLastOne(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride);
+		}
+
+		/**
+		 * Returns the index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+		 *
+		 * @return The index of the least significant bit not set or {@code -1} if all bits are {@code 1}.
+		 */
+		public int findFirstZero() {
+			final long mask = Word.getLastElementMask(WordArray.this.m_size);
+
+			return Word.findFirstZero(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, mask);
+		}
+
+		/**
+		 * Returns the index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+		 *
+		 * @return The index of the most significant bit not set or {@code -1} if all bits are {@code 1}.
+		 */
+		public int findLastZero() {
+			final long mask = Word.getLastElementMask(WordArray.this.m_size);
+
+			return Word.findLastZero(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, mask);
+		}
+
+		/**
+		 * Returns the number of bits that are set to {@code 1}.
+		 *
+		 * @return The number of bits that are set to {@code 1}.
+		 */
+		public int countOnes() {
+			return Word.countOnes(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride);
+		}
+
+		/**
+		 * Returns the number of bits that are set to {@code 0}.
+		 *
+		 * @return The number of bits that are set to {@code 0}.
+		 */
+		public int countZeros() {
+			return (WordArray.this.m_size - this.countOnes());
+		}
+
+		/**
+		 * Compares the current {@code Word} with the given {@code Word} as unsigned values. The result is {@code -1},
+		 * {@code 0}, or {@code 1} if the current {@code Word} is less than, equal to, or greater than the given
+		 * {@code Word}.
+		 *
+		 * @param that The word to be compared.
+		 * @return The result of the comparison.
+		 */
+		public int compareTo(final Word that) {
+			WordArray.this.checkOperand(that);
+
+			return Word.compare(WordArray.this.m_data, this.m_offset, that.m_data, 0, WordArray.this.m_stride);
+		}
+
+		/**
+		 * Sets the bits of the current {@code Word} to the bits of the given {@code Word}.
+		 *
+		 * @param value The word to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor setValue(final Word value) {
+			WordArray.this.set(this.m_index, value);
+
+			return this;
+		}
+
+		/**
+		 * Sets the value of the current {@code Word}.
+		 *
+		 * @param value The value to be set.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		public Cursor setValue(final long value) {
+			this.clear();
+
+			WordArray.this.m_data[this.m_offset] = value & (Word.MAX >>> -Math.min(WordArray.this.m_size, Long.SIZE));
+
+			return this;
+		}
+
+		/**
+		 * Returns the lowest {@code 32} bits of the current {@code Word} as an {@code integer}.
+		 *
+		 * @return The lowest {@code 32} bits as an {@code integer}.
+		 */
+		public int toInteger() {
+			return (int) WordArray.this.m_data[this.m_offset];
+		}
+
+		/**
+		 * Returns the lowest {@code 64} bits of the current {@code Word} as a {@code long}.
+		 *
+		 * @return The lowest {@code 64} bits as a {@code long}.
+		 */
+		public long toLong() {
+			return WordArray.this.m_data[this.m_offset];
+		}
+
+		/**
+		 * Copies the bits of the current {@code Word} to the given {@code Word}.
+		 *
+		 * @param destination The word to be used.
+		 * @return A reference to the given {@code Word}.
+		 */
+		public Word copyTo(final Word destination) {
+			return WordArray.this.copyTo(this.m_index, destination);
+		}
+
+		/**
+		 * Returns a new {@code Word} with the bits of the current {@code Word}.
+		 *
+		 * @return A new {@code Word} with the bits of the current {@code Word}.
+		 */
+		public Word toWord() {
+			return WordArray.this.get(this.m_index);
+		}
+
+		@Override
+		public String toString() {
+			return this.toWord().toString();
+		}
+
+		/**
+		 * Rotates the current {@code Word} to the left using the given offset, which must be less than the size. The
+		 * direction that wraps fewer bits is used.
+		 *
+		 * @param offset The offset to be used.
+		 * @return A reference to this {@code Cursor}.
+		 */
+		private Cursor rotate(final int offset) {
+			final int size = WordArray.this.m_size;
+			if (offset == 0) {
+				return this;
+			}
+
+			if (offset <= (size - offset)) {
+				Word.rotateLeft(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, size, offset);
+			} else {
+				Word.rotateRight(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, size, (size - offset));
+			}
+
+			return this;
+		}
+
+		/**
+		 * Returns the index of the element of the (internal) data storage array that contains the given bit.
+		 *
+		 * @param index The index of the bit.
+		 * @return The index of the element that contains the given bit.
+		 */
+		private int getElement(final int index) {
+			Validate.inclusiveBetween(0, (WordArray.this.m_size - 1), index, "Index out of bounds.");
+
+			return this.m_offset + (index >>> Word.ELEMENT_ADDRESS_BITS);
+		}
+
+		/**
+		 * Sets the unused bits of the most significant element of the current {@code Word} to {@code 0}.
+		 *
+		 * @return A reference to this {@code Cursor}.
+		 */
+		private Cursor clearUnusedBits() {
+			Word.clearUnusedBits(WordArray.this.m_data, this.m_offset, WordArray.this.m_stride, WordArray.this.m_size);
+
+			return this;
+		}
+
+	}
+
+}
@@ -0,0 +1,590 @@
+package de.mononoize.tools.word;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>The lock strategy of a {@link SynchronizedWord}. A lock strategy executes the read and write operations of a
+ * {@code SynchronizedWord} mutually exclusive, where read operations may be executed concurrently with each other.
+ * Operations of a {@code SynchronizedWord} invoke other operations of the same {@code SynchronizedWord}, so the
+ * implementations have to be reentrant, including the acquisition of a read lock by a thread that holds the write
+ * lock.</p>
+ *
+ * <p>The following implementations are available:</p>
+ * <ul>
+ * <li>{@link #monitor()}: The intrinsic lock (i.e. {@code synchronized}) of a mutex object. This is the default.</li>
+ * <li>{@link #reentrant()}: A {@link ReentrantLock}, which (unlike the intrinsic lock) does not pin the carrier
+ * thread of a virtual thread while it is blocked.</li>
+ * <li>{@link #readWrite()}: A {@link ReentrantReadWriteLock}, which executes read operations concurrently.</li>
+ * <li>{@link #spinning(int)}: A {@link ReentrantLock} that spins for the given number of attempts before the thread
+ * is parked, which avoids parking for short critical sections under moderate contention.</li>
+ * <li>{@link #combining()}: A flat-combining lock, where threads post their operations and a single thread (the
+ * combiner) executes all pending operations in one pass, which avoids the hand-off of the lock between the threads
+ * under heavy contention.</li>
+ * </ul>
+ *
+ * <p>All locks are ordered globally. Operations that need several locks (e.g. {@link SynchronizedWord#and(Word)} with
+ * another {@code SynchronizedWord} or a {@link WordTransaction}) acquire them in this order, so that they cannot
+ * dead-lock each other.</p>
+ *
+ * @author Alexander Mattes
+ */
+public abstract class WordLock implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = -2317520941875309645L;
+
+	/**
+	 * The default number of attempts before a spinning lock parks the thread.
+	 */
+	public static final int DEFAULT_SPINS = 64;
+
+	/**
+	 * The sequence that defines the global order of all locks.
+	 */
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	/**
+	 * An operation that is executed under a lock.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 */
+	@FunctionalInterface
+	public interface Operation<T, E extends Exception> {
+
+		/**
+		 * Executes the operation.
+		 *
+		 * @return The result of the operation.
+		 * @throws E If the operation fails.
+		 */
+		T execute() throws E;
+
+	}
+
+	/**
+	 * The position of this lock in the global order.
+	 */
+	transient long m_order = SEQUENCE.getAndIncrement();
+
+	/**
+	 * Constructs a new {@code WordLock}.
+	 */
+	protected WordLock() {
+		super();
+	}
+
+	/**
+	 * Restores the position in the global order, which is not preserved by the serialization.
+	 *
+	 * @param input The stream to be read.
+	 * @throws IOException If the stream cannot be read.
+	 * @throws ClassNotFoundException If a class of a serialized object cannot be found.
+	 */
+	@Serial
+	private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+		input.defaultReadObject();
+
+		this.m_order = SEQUENCE.getAndIncrement();
+	}
+
+	/**
+	 * Returns a new lock strategy based on the intrinsic lock of a mutex object.
+	 *
+	 * @return A new lock strategy.
+	 */
+	public static WordLock monitor() {
+		return new MonitorWordLock();
+	}
+
+	/**
+	 * Returns a new lock strategy based on a {@link ReentrantLock}.
+	 *
+	 * @return A new lock strategy.
+	 */
+	public static WordLock reentrant() {
+		return new ReentrantWordLock(0);
+	}
+
+	/**
+	 * Returns a new lock strategy based on a {@link ReentrantReadWriteLock}.
+	 *
+	 * @return A new lock strategy.
+	 */
+	public static WordLock readWrite() {
+		return new ReadWriteWordLock();
+	}
+
+	/**
+	 * Returns a new lock strategy based on a {@link ReentrantLock} that spins for {@value #DEFAULT_SPINS} attempts
+	 * before the thread is parked.
+	 *
+	 * @return A new lock strategy.
+	 */
+	public static WordLock spinning() {
+		return spinning(DEFAULT_SPINS);
+	}
+
+	/**
+	 * Returns a new lock strategy based on a {@link ReentrantLock} that spins for the given number of attempts before
+	 * the thread is parked.
+	 *
+	 * @param spins The number of attempts before the thread is parked.
+	 * @return A new lock strategy.
+	 */
+	public static WordLock spinning(final int spins) {
+		Validate.isTrue(spins >= 0, "The number of spins must not be negative.");
+
+		return new ReentrantWordLock(spins);
+	}
+
+	/**
+	 * Returns a new flat-combining lock strategy. Each thread posts its operations into its own publication slot. The
+	 * thread that acquires the combiner role executes the pending operations of all threads and hands back their
+	 * results, while the other threads spin for {@value #DEFAULT_SPINS} attempts before they wait for the combiner
+	 * role themselves. Hence, operations may be executed by another thread than the calling thread, except for
+	 * operations that need several locks (e.g. a {@link WordTransaction}), which acquire the combiner role and are
+	 * executed by the calling thread.
+	 *
+	 * @return A new lock strategy.
+	 */
+	public static WordLock combining() {
+		return new CombiningWordLock(DEFAULT_SPINS);
+	}
+
+	/**
+	 * Executes the given read operation under this lock.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	public abstract <T, E extends Exception> T read(Operation<T, E> operation) throws E;
+
+	/**
+	 * Executes the given write operation under this lock.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	public abstract <T, E extends Exception> T write(Operation<T, E> operation) throws E;
+
+	/**
+	 * Executes the given read operation under this lock by the calling thread. This is used while the calling thread
+	 * holds (or is about to acquire) other locks, as another thread that executes the operation would not hold these
+	 * locks. By default, the operation is executed by {@link #read(Operation)}.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	<T, E extends Exception> T readDirect(final Operation<T, E> operation) throws E {
+		return this.read(operation);
+	}
+
+	/**
+	 * Executes the given write operation under this lock by the calling thread. This is used while the calling thread
+	 * holds (or is about to acquire) other locks, as another thread that executes the operation would not hold these
+	 * locks. By default, the operation is executed by {@link #write(Operation)}.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	<T, E extends Exception> T writeDirect(final Operation<T, E> operation) throws E {
+		return this.write(operation);
+	}
+
+	/**
+	 * Executes the given operation under the write lock of the given target lock and the read lock of the given source
+	 * lock. The locks are acquired in the global order and the operation is executed by the calling thread (see:
+	 * {@link #writeDirect(Operation)}). If both locks are the same or the source lock is {@code null}, only the write
+	 * lock of the target lock is acquired.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param target The lock to be acquired for writing.
+	 * @param source The lock to be acquired for reading (may be {@code null}).
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	static <T, E extends Exception> T writeOrdered(final WordLock target, final WordLock source,
+			final Operation<T, E> operation) throws E {
+		if ((source == null) || (source == target)) {
+			return target.write(operation);
+		}
+
+		if (target.m_order < source.m_order) {
+			return target.writeDirect(() -> source.readDirect(operation));
+		}
+
+		return source.readDirect(() -> target.writeDirect(operation));
+	}
+
+	/**
+	 * Executes the given operation under the read locks of both given locks. The locks are acquired in the global
+	 * order and the operation is executed by the calling thread (see: {@link #readDirect(Operation)}). If both locks
+	 * are the same or the second lock is {@code null}, only the first lock is acquired.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param first The first lock to be acquired for reading.
+	 * @param second The second lock to be acquired for reading (may be {@code null}).
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	static <T, E extends Exception> T readOrdered(final WordLock first, final WordLock second,
+			final Operation<T, E> operation) throws E {
+		if ((second == null) || (second == first)) {
+			return first.read(operation);
+		}
+
+		if (first.m_order < second.m_order) {
+			return first.readDirect(() -> second.readDirect(operation));
+		}
+
+		return second.readDirect(() -> first.readDirect(operation));
+	}
+
+	/**
+	 * The lock strategy based on the intrinsic lock of a mutex object.
+	 */
+	private static final class MonitorWordLock extends WordLock {
+
+		@Serial
+		private static final long serialVersionUID = 4467035071453207816L;
+
+		/**
+		 * The mutex object (an empty array, as it has to be serializable).
+		 */
+		private final Object m_mutex = new Object[0];
+
+		@Override
+		public <T, E extends Exception> T read(final Operation<T, E> operation) throws E {
+			synchronized (this.m_mutex) {
+				return operation.execute();
+			}
+		}
+
+		@Override
+		public <T, E extends Exception> T write(final Operation<T, E> operation) throws E {
+			synchronized (this.m_mutex) {
+				return operation.execute();
+			}
+		}
+
+	}
+
+	/**
+	 * The lock strategy based on a {@link ReentrantLock}, which optionally spins before the thread is parked.
+	 */
+	private static final class ReentrantWordLock extends WordLock {
+
+		@Serial
+		private static final long serialVersionUID = -6003962166216719207L;
+
+		/**
+		 * The lock.
+		 */
+		private final ReentrantLock m_lock = new ReentrantLock();
+
+		/**
+		 * The number of attempts before the thread is parked.
+		 */
+		private final int m_spins;
+
+		/**
+		 * Constructs a new {@code ReentrantWordLock}.
+		 *
+		 * @param spins The number of attempts before the thread is parked.
+		 */
+		private ReentrantWordLock(final int spins) {
+			this.m_spins = spins;
+		}
+
+		@Override
+		public <T, E extends Exception> T read(final Operation<T, E> operation) throws E {
+			return this.write(operation);
+		}
+
+		@Override
+		public <T, E extends Exception> T write(final Operation<T, E> operation) throws E {
+			this.lock();
+			try {
+				return operation.execute();
+			} finally {
+				this.m_lock.unlock();
+			}
+		}
+
+		/**
+		 * Acquires the lock. The lock is polled for the configured number of attempts before the thread is parked.
+		 */
+		private void lock() {
+			if (this.m_lock.tryLock()) {
+				return;
+			}
+
+			// The lock state is read before each attempt, so that spinning threads do not contend on the lock.
+			for (int i = 0; i < this.m_spins; i++) {
+				Thread.onSpinWait();
+				if (!this.m_lock.isLocked() && this.m_lock.tryLock()) {
+					return;
+				}
+			}
+
+			this.m_lock.lock();
+		}
+
+	}
+
+	/**
+	 * The lock strategy based on a {@link ReentrantReadWriteLock}.
+	 */
+	private static final class ReadWriteWordLock extends WordLock {
+
+		@Serial
+		private static final long serialVersionUID = 2000717806716484353L;
+
+		/**
+		 * The lock.
+		 */
+		private final ReentrantReadWriteLock m_lock = new ReentrantReadWriteLock();
+
+		@Override
+		public <T, E extends Exception> T read(final Operation<T, E> operation) throws E {
+			this.m_lock.readLock().lock();
+			try {
+				return operation.execute();
+			} finally {
+				this.m_lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public <T, E extends Exception> T write(final Operation<T, E> operation) throws E {
+			this.m_lock.writeLock().lock();
+			try {
+				return operation.execute();
+			} finally {
+				this.m_lock.writeLock().unlock();
+			}
+		}
+
+	}
+
+
+	/**
+	 * The flat-combining lock strategy. The combiner role is represented by a {@link ReentrantLock}, so that operations
+	 * invoked by the combiner (i.e. nested operations) are executed directly.
+	 */
+	private static final class CombiningWordLock extends WordLock {
+
+		@Serial
+		private static final long serialVersionUID = 8204561032713349271L;
+
+		/**
+		 * The publication slot of a thread.
+		 */
+		private static final class Slot {
+
+			/**
+			 * The thread that owns this slot.
+			 */
+			private final Thread m_thread = Thread.currentThread();
+
+			/**
+			 * The pending operation or {@code null} if there is no pending operation.
+			 */
+			private volatile Operation<?, ?> m_operation;
+
+			/**
+			 * The result of the last operation.
+			 */
+			private Object m_result;
+
+			/**
+			 * The exception thrown by the last operation or {@code null} if the operation has succeeded.
+			 */
+			private Throwable m_exception;
+
+			/**
+			 * The next slot of the publication list.
+			 */
+			private Slot m_next;
+
+		}
+
+		/**
+		 * The lock that represents the combiner role.
+		 */
+		private final ReentrantLock m_lock = new ReentrantLock();
+
+		/**
+		 * The number of attempts before a thread waits for the combiner role.
+		 */
+		private final int m_spins;
+
+		/**
+		 * The publication slot of the calling thread.
+		 */
+		private transient ThreadLocal<Slot> m_slot;
+
+		/**
+		 * The head of the publication list. New slots are added at the head, while only the combiner removes slots.
+		 */
+		private transient AtomicReference<Slot> m_head;
+
+		/**
+		 * Constructs a new {@code CombiningWordLock}.
+		 *
+		 * @param spins The number of attempts before a thread waits for the combiner role.
+		 */
+		private CombiningWordLock(final int spins) {
+			this.m_spins = spins;
+			this.initialize();
+		}
+
+		/**
+		 * Restores the publication list, which is not serialized.
+		 *
+		 * @param input The stream to be read.
+		 * @throws IOException If the stream cannot be read.
+		 * @throws ClassNotFoundException If a class of a serialized object cannot be found.
+		 */
+		@Serial
+		private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+			input.defaultReadObject();
+
+			this.initialize();
+		}
+
+		/**
+		 * Initializes the publication list.
+		 */
+		private void initialize() {
+			this.m_head = new AtomicReference<>();
+			this.m_slot = ThreadLocal.withInitial(() -> {
+				final Slot slot = new Slot();
+				do {
+					slot.m_next = this.m_head.get();
+				} while (!this.m_head.compareAndSet(slot.m_next, slot));
+				return slot;
+			});
+		}
+
+		@Override
+		public <T, E extends Exception> T read(final Operation<T, E> operation) throws E {
+			return this.write(operation);
+		}
+
+		@Override
+		<T, E extends Exception> T readDirect(final Operation<T, E> operation) throws E {
+			return this.writeDirect(operation);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * <p>The combiner role is acquired by the calling thread, which executes the given operation only. The pending
+		 * operations of the other threads are executed by the next combiner.</p>
+		 */
+		@Override
+		<T, E extends Exception> T writeDirect(final Operation<T, E> operation) throws E {
+			this.m_lock.lock();
+			try {
+				return operation.execute();
+			} finally {
+				this.m_lock.unlock();
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T, E extends Exception> T write(final Operation<T, E> operation) throws E {
+			if (this.m_lock.isHeldByCurrentThread()) {
+				return operation.execute();
+			}
+
+			final Slot slot = this.m_slot.get();
+			slot.m_operation = operation;
+
+			// The operation may be executed by the current combiner while this thread is spinning.
+			for (int i = 0; (i < this.m_spins) && (slot.m_operation != null); i++) {
+				if (!this.m_lock.isLocked() && this.m_lock.tryLock()) {
+					this.combine();
+				} else {
+					Thread.onSpinWait();
+				}
+			}
+
+			if (slot.m_operation != null) {
+				this.m_lock.lock();
+				this.combine();
+			}
+
+			if (slot.m_exception instanceof RuntimeException e) {
+				throw e;
+			}
+			if (slot.m_exception instanceof Error e) {
+				throw e;
+			}
+			if (slot.m_exception != null) {
+				throw (E) slot.m_exception;
+			}
+
+			return (T) slot.m_result;
+		}
+
+		/**
+		 * Executes the pending operations of all slots in one pass and releases the combiner role afterwards. The
+		 * slots of terminated threads are removed from the publication list (except for the head).
+		 */
+		private void combine() {
+			try {
+				Slot previous = null;
+				for (Slot slot = this.m_head.get(); slot != null; slot = slot.m_next) {
+					final Operation<?, ?> operation = slot.m_operation;
+					if (operation != null) {
+						try {
+							slot.m_result = operation.execute();
+							slot.m_exception = null;
+						} catch (final Throwable e) {
+							slot.m_result = null;
+							slot.m_exception = e;
+						}
+						slot.m_operation = null;
+					} else if ((previous != null) && !slot.m_thread.isAlive()) {
+						previous.m_next = slot.m_next;
+						continue;
+					}
+					previous = slot;
+				}
+			} finally {
+				this.m_lock.unlock();
+			}
+		}
+
+	}
+
+}
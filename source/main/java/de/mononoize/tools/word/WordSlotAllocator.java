@@ -0,0 +1,271 @@
+package de.mononoize.tools.word;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>A lock-free allocator of slots (e.g. IDs), which are represented by the bits of an {@link AtomicWord}. A bit set
+ * to {@code 1} represents an acquired slot.</p>
+ *
+ * <p>Slots are claimed with a compare-and-set operation on the element of the (internal) data storage array that
+ * contains them, so that concurrent allocations never return the same slot. Each thread starts searching at its own
+ * hint, which is initialized from the thread ID and follows the element of the last allocation of the thread. Hence,
+ * threads usually claim slots in different elements and do not rescan the acquired slots from the beginning.</p>
+ *
+ * <p>Contiguous slots (see: {@link #acquire(int)}) are claimed element by element and released again if a conflicting
+ * allocation has been detected. Therefore, a concurrent allocation may observe slots that are claimed only
+ * temporarily. An allocation fails (i.e. returns {@code -1}) if no (sufficiently large range of) free slots has been
+ * observed.</p>
+ *
+ * @author Alexander Mattes
+ */
+public class WordSlotAllocator {
+
+	/**
+	 * The variable handle used to access the elements of the (internal) data storage array.
+	 */
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+	/**
+	 * The multiplier used to spread the thread IDs (the golden ratio).
+	 */
+	private static final int SPREAD = 0x9E3779B9;
+
+	/**
+	 * The slots.
+	 */
+	private final AtomicWord m_word;
+
+	/**
+	 * The (internal) data storage array of the slots.
+	 */
+	private final long[] m_data;
+
+	/**
+	 * The element index where each thread starts searching.
+	 */
+	private final ThreadLocal<int[]> m_hints;
+
+	/**
+	 * Constructs a new {@code WordSlotAllocator} with the given number of slots. Initially, all slots are free.
+	 *
+	 * @param size The number of slots to be used.
+	 */
+	public WordSlotAllocator(final int size) {
+		this.m_word = new AtomicWord(size);
+		this.m_data = this.m_word.m_data;
+		this.m_hints = ThreadLocal.withInitial(() -> new int[] {
+				(int) (((Thread.currentThread().getId() * SPREAD) & Integer.MAX_VALUE) % this.m_data.length)
+		});
+	}
+
+	/**
+	 * Returns the number of slots.
+	 *
+	 * @return The number of slots.
+	 */
+	public int getSize() {
+		return this.m_word.m_size;
+	}
+
+	/**
+	 * Returns the slots as an {@code AtomicWord}. A bit set to {@code 1} represents an acquired slot.
+	 *
+	 * @return The slots.
+	 */
+	public AtomicWord getWord() {
+		return this.m_word;
+	}
+
+	/**
+	 * Acquires a free slot.
+	 *
+	 * @return The index of the acquired slot or {@code -1} if no free slot has been found.
+	 */
+	public int acquire() {
+		final int[] hint = this.m_hints.get();
+		final int length = this.m_data.length;
+		final int last = length - 1;
+
+		for (int i = hint[0], j = 0; j < length; i = (i == last) ? 0 : (i + 1), j++) {
+			final long mask = (i == last) ? (Word.MAX >>> -this.m_word.m_size) : Word.MAX;
+			long element = (long) ELEMENTS.getVolatile(this.m_data, i);
+
+			long free;
+			while ((free = ~element & mask) != Word.ZERO) {
+				final long bit = Long.lowestOneBit(free);
+				final long witness = (long) ELEMENTS.compareAndExchange(this.m_data, i, element, element | bit);
+				if (witness == element) {
+					hint[0] = i;
+					return (i << Word.ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(bit);
+				}
+				element = witness;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Acquires the given number of contiguous free slots.
+	 *
+	 * @param count The number of slots to be acquired.
+	 * @return The index of the first acquired slot or {@code -1} if no sufficiently large range of free slots has
+	 *         been found.
+	 */
+	public int acquire(final int count) {
+		Validate.inclusiveBetween(1, this.m_word.m_size, count, "Count out of bounds.");
+
+		final int[] hint = this.m_hints.get();
+		final int origin = hint[0] << Word.ELEMENT_ADDRESS_BITS;
+
+		// The slots are searched from the hint to the end first, and from the beginning to the hint afterwards.
+		for (int from = origin, limit = this.m_word.m_size, pass = 0; pass < 2; from = 0, limit = origin, pass++) {
+			int start;
+			while (((start = this.findFree(from, count)) != -1) && (start < limit)) {
+				if (this.claim(start, count)) {
+					hint[0] = start >>> Word.ELEMENT_ADDRESS_BITS;
+					return start;
+				}
+				from = start + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Releases the given slot.
+	 *
+	 * @param index The index of the slot to be released.
+	 * @throws IllegalStateException If the slot is not acquired.
+	 */
+	public void release(final int index) {
+		Validate.inclusiveBetween(0, (this.m_word.m_size - 1), index, "Index out of bounds.");
+
+		final long bit = Word.ONE << index;
+		final long previous = (long) ELEMENTS.getAndBitwiseAnd(this.m_data, index >>> Word.ELEMENT_ADDRESS_BITS, ~bit);
+
+		Validate.validState((previous & bit) != Word.ZERO, "The slot is not acquired.");
+	}
+
+	/**
+	 * Releases the given number of contiguous slots.
+	 *
+	 * @param index The index of the first slot to be released.
+	 * @param count The number of slots to be released.
+	 * @throws IllegalStateException If any of the slots is not acquired.
+	 */
+	public void release(final int index, final int count) {
+		Validate.inclusiveBetween(0, (this.m_word.m_size - 1), index, "Index out of bounds.");
+		Validate.inclusiveBetween(1, (this.m_word.m_size - index), count, "Count out of bounds.");
+
+		final int endIndex = index + count - 1;
+		final int startElement = index >>> Word.ELEMENT_ADDRESS_BITS;
+		final int endElement = endIndex >>> Word.ELEMENT_ADDRESS_BITS;
+
+		boolean acquired = true;
+		for (int i = startElement; i <= endElement; i++) {
+			final long mask = Word.getMask(i, index, endIndex);
+			final long previous = (long) ELEMENTS.getAndBitwiseAnd(this.m_data, i, ~mask);
+			acquired &= ((previous & mask) == mask);
+		}
+
+		Validate.validState(acquired, "The slots are not acquired.");
+	}
+
+	/**
+	 * Returns the index of the first range of the given number of free slots that starts at or after the given index.
+	 *
+	 * @param from The index where the search starts.
+	 * @param count The number of slots.
+	 * @return The index of the first slot of the range or {@code -1} if there is no such range.
+	 */
+	private int findFree(final int from, final int count) {
+		final int size = this.m_word.m_size;
+
+		int index = from;
+		while ((index = this.next(index, size, true)) != -1) {
+			if ((index + count) > size) {
+				return -1;
+			}
+
+			final int acquired = this.next(index, (index + count), false);
+			if (acquired == -1) {
+				return index;
+			}
+
+			index = acquired + 1;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the first free (or acquired) slot from {@code from} (inclusive) to {@code to} (exclusive).
+	 *
+	 * @param from The index where the search starts.
+	 * @param to The index where the search ends.
+	 * @param free Whether a free slot is searched.
+	 * @return The index of the first matching slot or {@code -1} if there is no such slot.
+	 */
+	private int next(final int from, final int to, final boolean free) {
+		if (from >= to) {
+			return -1;
+		}
+
+		final int last = (to - 1) >>> Word.ELEMENT_ADDRESS_BITS;
+		final long invert = free ? Word.MAX : Word.ZERO;
+
+		int i = from >>> Word.ELEMENT_ADDRESS_BITS;
+		long element = ((long) ELEMENTS.getVolatile(this.m_data, i) ^ invert) & (Word.MAX << from);
+
+		while (element == Word.ZERO) {
+			if (++i > last) {
+				return -1;
+			}
+			element = (long) ELEMENTS.getVolatile(this.m_data, i) ^ invert;
+		}
+
+		final int result = (i << Word.ELEMENT_ADDRESS_BITS) + Long.numberOfTrailingZeros(element);
+
+		return (result < to) ? result : -1;
+	}
+
+	/**
+	 * Claims the given number of contiguous slots. The slots are claimed element by element. If a slot has already
+	 * been acquired, the slots claimed so far are released again.
+	 *
+	 * @param index The index of the first slot.
+	 * @param count The number of slots.
+	 * @return {@code true} if all slots have been claimed, otherwise {@code false}.
+	 */
+	private boolean claim(final int index, final int count) {
+		final int endIndex = index + count - 1;
+		final int startElement = index >>> Word.ELEMENT_ADDRESS_BITS;
+		final int endElement = endIndex >>> Word.ELEMENT_ADDRESS_BITS;
+
+		for (int i = startElement; i <= endElement; i++) {
+			final long mask = Word.getMask(i, index, endIndex);
+
+			long element = (long) ELEMENTS.getVolatile(this.m_data, i);
+			long witness;
+			while (((element & mask) == Word.ZERO)
+					&& ((witness = (long) ELEMENTS.compareAndExchange(this.m_data, i, element, element | mask)) != element)) {
+				element = witness;
+			}
+
+			if ((element & mask) != Word.ZERO) {
+				for (int j = startElement; j < i; j++) {
+					ELEMENTS.getAndBitwiseAnd(this.m_data, j, ~Word.getMask(j, index, endIndex));
+				}
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+}
@@ -0,0 +1,126 @@
+package de.mononoize.tools.word;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>An atomic operation on several {@link SynchronizedWord}s. The words that are read or modified by the operation
+ * are declared in advance. When the transaction is executed, the lock of each word is acquired once (in the global
+ * order of the locks, see: {@link WordLock}), the operation is executed, and the locks are released:</p>
+ *
+ * <pre>
+ * new WordTransaction().write(word1, word2).read(word3).execute(() -&gt; {
+ *     word1.and(word3);
+ *     return word2.or(word1);
+ * });
+ * </pre>
+ *
+ * <p>The operations within the transaction re-enter the locks that are already held. The operation must not access
+ * other {@code SynchronizedWord}s than the declared ones, as their locks would be acquired out of order. Words that
+ * are declared for reading only must not be modified, as a read lock cannot be upgraded to a write lock (see:
+ * {@link WordLock#readWrite()}). If a lock is shared by several words and one of them is declared for writing, the
+ * lock is acquired for writing.</p>
+ *
+ * <p>A {@code WordTransaction} may be executed several times, but it must not be modified concurrently.</p>
+ *
+ * @author Alexander Mattes
+ */
+public final class WordTransaction {
+
+	/**
+	 * The locks to be acquired and whether they have to be acquired for writing.
+	 */
+	private final Map<WordLock, Boolean> m_locks = new IdentityHashMap<>();
+
+	/**
+	 * The locks to be acquired in the global order or {@code null} if the locks have been changed.
+	 */
+	private WordLock[] m_ordered;
+
+	/**
+	 * Declares the given words for reading.
+	 *
+	 * @param words The words to be read by the transaction.
+	 * @return A reference to this {@code WordTransaction}.
+	 */
+	public WordTransaction read(final SynchronizedWord... words) {
+		return this.declare(false, words);
+	}
+
+	/**
+	 * Declares the given words for writing.
+	 *
+	 * @param words The words to be modified by the transaction.
+	 * @return A reference to this {@code WordTransaction}.
+	 */
+	public WordTransaction write(final SynchronizedWord... words) {
+		return this.declare(true, words);
+	}
+
+	/**
+	 * Executes the given operation with the locks of all declared words held.
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	public <T, E extends Exception> T execute(final WordLock.Operation<T, E> operation) throws E {
+		Validate.notNull(operation, "The operation must not be null.");
+
+		if (this.m_ordered == null) {
+			this.m_ordered = this.m_locks.keySet().toArray(new WordLock[0]);
+			Arrays.sort(this.m_ordered, Comparator.comparingLong(lock -> lock.m_order));
+		}
+
+		return this.execute(this.m_ordered, 0, operation);
+	}
+
+	/**
+	 * Executes the given operation with the given locks (starting at the given index) held. The operation is executed
+	 * by the calling thread, which holds all locks (see: {@link WordLock#writeDirect(WordLock.Operation)}).
+	 *
+	 * @param <T> The type of the result.
+	 * @param <E> The type of the exception that may be thrown.
+	 * @param locks The locks in the global order.
+	 * @param index The index of the next lock to be acquired.
+	 * @param operation The operation to be executed.
+	 * @return The result of the operation.
+	 * @throws E If the operation fails.
+	 */
+	private <T, E extends Exception> T execute(final WordLock[] locks, final int index,
+			final WordLock.Operation<T, E> operation) throws E {
+		if (index == locks.length) {
+			return operation.execute();
+		}
+
+		final WordLock lock = locks[index];
+		final WordLock.Operation<T, E> next = () -> this.execute(locks, (index + 1), operation);
+
+		return this.m_locks.get(lock) ? lock.writeDirect(next) : lock.readDirect(next);
+	}
+
+	/**
+	 * Declares the given words.
+	 *
+	 * @param write Whether the words are modified by the transaction.
+	 * @param words The words to be declared.
+	 * @return A reference to this {@code WordTransaction}.
+	 */
+	private WordTransaction declare(final boolean write, final SynchronizedWord... words) {
+		Validate.noNullElements(words, "The words must not be null.");
+
+		for (final SynchronizedWord word : words) {
+			this.m_locks.merge(word.m_lock, write, Boolean::logicalOr);
+		}
+		this.m_ordered = null;
+
+		return this;
+	}
+
+}
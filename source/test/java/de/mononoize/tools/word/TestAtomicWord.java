@@ -0,0 +1,209 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestAtomicWord extends AbstractTestWord {
+
+	/**
+	 * The number of threads that are used for the concurrency tests.
+	 */
+	private static final int THREADS = 4;
+
+	/**
+	 * The (arbitrary) {@code Word} sizes to be used, including sizes that are not a multiple of {@code 64}.
+	 */
+	private static final int[] ATOMIC_SIZES = {1, 24, 64, 100, 190, 256};
+
+	/**
+	 * Runs the given task concurrently in {@link #THREADS} threads. Each thread is passed its number.
+	 *
+	 * @param task The task to be run.
+	 */
+	private static void runConcurrently(final IntConsumer task) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<>();
+
+		for (int i = 0; i < THREADS; i++) {
+			final int number = i;
+			final Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				task.accept(number);
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		start.countDown();
+
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new AtomicWord(1).set(1));
+			assertThrows(IllegalArgumentException.class, () -> new AtomicWord(1).clear(0, 1));
+			assertThrows(IllegalArgumentException.class, () -> new AtomicWord(2).flip(1, 0));
+			assertThrows(NullPointerException.class, () -> new AtomicWord(1).and(null));
+			assertThrows(IllegalArgumentException.class, () -> new AtomicWord(1).nor(new Word(2)));
+			assertThrows(UnsupportedOperationException.class, () -> new AtomicWord(1).unchecked());
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : ATOMIC_SIZES) {
+				for (int i = 0; i < (ITERATIONS / 10); i++) {
+					final Word expected = Word.of(getStringRandom(size));
+					final AtomicWord actual = new AtomicWord(size);
+					actual.setValue(expected);
+
+					final Word other = Word.of(getStringRandom(size));
+					final int start = RANDOM.nextInt(size);
+					final int end = start + RANDOM.nextInt(size - start);
+
+					switch (RANDOM.nextInt(14)) {
+						case 0 -> { expected.set(start); actual.set(start); }
+						case 1 -> { expected.clear(start); actual.clear(start); }
+						case 2 -> { expected.flip(start); actual.flip(start); }
+						case 3 -> { expected.set(start, end); actual.set(start, end); }
+						case 4 -> { expected.clear(start, end); actual.clear(start, end); }
+						case 5 -> { expected.flip(start, end); actual.flip(start, end); }
+						case 6 -> { expected.and(other); actual.and(other); }
+						case 7 -> { expected.nand(other); actual.nand(other); }
+						case 8 -> { expected.xor(other); actual.xor(other); }
+						case 9 -> { expected.or(other); actual.or(other); }
+						case 10 -> { expected.nor(other); actual.nor(other); }
+						case 11 -> { expected.not(); actual.not(); }
+						case 12 -> { expected.shl(start); actual.shl(start); }
+						default -> { expected.ror(end); actual.ror(end); }
+					}
+
+					assertEquals(expected, actual.snapshot());
+					assertEquals(expected.toString(), actual.toString());
+					assertEquals(expected.countOnes(), actual.countOnes());
+					assertEquals(expected.findFirstOne(), actual.findFirstOne());
+					assertEquals(expected.findLastZero(), actual.findLastZero());
+					assertEquals(expected.toLong(), actual.toLong());
+					assertEquals(expected.getBoolean(start), actual.getBoolean(start));
+				}
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testEqualsClone() {
+			final AtomicWord word = new AtomicWord(100);
+			word.setValue(Word.of(getStringRandom(100)));
+
+			final Object clone = word.clone();
+
+			assertNotSame(word, clone);
+			assertTrue(clone instanceof AtomicWord);
+			assertEquals(word, clone);
+			assertEquals(word.hashCode(), clone.hashCode());
+			assertEquals(0, word.compareTo((AtomicWord) clone));
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testSetClear() throws InterruptedException {
+			for (final int size : ATOMIC_SIZES) {
+				final AtomicWord word = new AtomicWord(size);
+
+				// Each thread owns the bits with index % THREADS == number, so no update must get lost.
+				runConcurrently(number -> {
+					for (int i = 0; i < 1000; i++) {
+						for (int j = number; j < size; j += THREADS) {
+							word.set(j);
+						}
+						for (int j = number; j < size; j += THREADS) {
+							word.clear(j);
+						}
+						for (int j = number; j < size; j += THREADS) {
+							word.set(j);
+						}
+					}
+				});
+
+				assertEquals(size, word.countOnes());
+			}
+		}
+
+		@Test
+		@Order(2)
+		public void testFlip() throws InterruptedException {
+			for (final int size : ATOMIC_SIZES) {
+				final AtomicWord word = new AtomicWord(size);
+
+				// Every bit is flipped an even number of times in total.
+				runConcurrently(number -> {
+					for (int i = 0; i < 1000; i++) {
+						word.flip(0, size - 1);
+						word.flip(i % size);
+						word.flip(i % size);
+					}
+				});
+
+				assertEquals(0, word.countOnes());
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testLogic() throws InterruptedException {
+			for (final int size : ATOMIC_SIZES) {
+				final AtomicWord word = new AtomicWord(size);
+				final Word[] masks = new Word[THREADS];
+
+				for (int i = 0; i < THREADS; i++) {
+					masks[i] = new Word(size);
+					for (int j = i; j < size; j += THREADS) {
+						masks[i].set(j);
+					}
+				}
+
+				runConcurrently(number -> {
+					for (int i = 0; i < 1000; i++) {
+						word.or(masks[number]);
+						word.xor(masks[number]);
+						word.or(masks[number]);
+					}
+				});
+
+				assertEquals(new Word(size).set(), word.snapshot());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,130 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestDoubleBufferedWord extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferedWord(0));
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferedWord(64).getBoolean(64));
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferedWord(64).set(64));
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferedWord(64).flip(1, 0));
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferedWord(64).compareTo(new Word(65)));
+			assertThrows(IllegalArgumentException.class, () -> new DoubleBufferedWord(64).copyTo(new Word(65)));
+			assertThrows(NullPointerException.class, () -> new DoubleBufferedWord(64).update(null));
+
+			// A modification that fails is not published.
+			final DoubleBufferedWord word = new DoubleBufferedWord(64);
+			assertThrows(IllegalArgumentException.class, () -> word.clear(0, 64));
+			assertEquals(0, word.getSequence());
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : SIZES) {
+				final Word expected = new Word(size);
+				final DoubleBufferedWord actual = new DoubleBufferedWord(size);
+
+				for (int i = 0; i < (ITERATIONS / 100); i++) {
+					final Word other = Word.of(getStringRandom(size));
+					final int start = RANDOM.nextInt(size);
+					final int end = start + RANDOM.nextInt(size - start);
+
+					switch (RANDOM.nextInt(8)) {
+						case 0 -> { expected.set(start); actual.set(start); }
+						case 1 -> { expected.clear(start); actual.clear(start); }
+						case 2 -> { expected.flip(start); actual.flip(start); }
+						case 3 -> { expected.set(start, end); actual.set(start, end); }
+						case 4 -> { expected.clear(start, end); actual.clear(start, end); }
+						case 5 -> { expected.flip(start, end); actual.flip(start, end); }
+						case 6 -> { expected.setValue(other); actual.setValue(other); }
+						default -> { expected.xor(other).rol(end); actual.update(w -> w.xor(other).rol(end)); }
+					}
+
+					assertEquals(expected, actual.snapshot());
+					assertEquals(expected.toString(), actual.toString());
+					assertEquals(expected.getBoolean(end), actual.getBoolean(end));
+					assertEquals(expected.getBoolean(), actual.getBoolean());
+					assertEquals(expected.countOnes(), actual.countOnes());
+					assertEquals(expected.countZeros(), actual.countZeros());
+					assertEquals(expected.countLeadingOnes(), actual.countLeadingOnes());
+					assertEquals(expected.countLeadingZeros(), actual.countLeadingZeros());
+					assertEquals(expected.countTrailingOnes(), actual.countTrailingOnes());
+					assertEquals(expected.countTrailingZeros(), actual.countTrailingZeros());
+					assertEquals(expected.findFirstOne(), actual.findFirstOne());
+					assertEquals(expected.findLastOne(), actual.findLastOne());
+					assertEquals(expected.findFirstZero(), actual.findFirstZero());
+					assertEquals(expected.findLastZero(), actual.findLastZero());
+					assertEquals(expected.toLong(), actual.toLong());
+					assertEquals(expected.hash64(), actual.hash64());
+					assertEquals(expected.compareTo(other), actual.compareTo(other));
+				}
+
+				assertEquals(ITERATIONS / 100, actual.getSequence());
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testRead() throws InterruptedException {
+			final int size = 1000;
+			final DoubleBufferedWord word = new DoubleBufferedWord(size);
+			final AtomicInteger failures = new AtomicInteger();
+			final Thread[] threads = new Thread[4];
+
+			// The writer moves a block of 100 bits, so each reader must observe exactly 100 contiguous ones.
+			word.set(0, 99);
+			threads[0] = new Thread(() -> {
+				for (int i = 0; i < 100000; i++) {
+					word.update(w -> w.rol(1));
+				}
+			});
+			for (int i = 1; i < threads.length; i++) {
+				threads[i] = new Thread(() -> {
+					final Word destination = new Word(size);
+					for (int j = 0; j < 100000; j++) {
+						final int first = word.findFirstOne();
+						if ((word.countOnes() != 100) || (first < 0)) {
+							failures.incrementAndGet();
+						}
+						if (word.copyTo(destination).countOnes() != 100) {
+							failures.incrementAndGet();
+						}
+					}
+				});
+			}
+
+			for (final Thread thread : threads) {
+				thread.start();
+			}
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(0, failures.get());
+			assertEquals(100000 + 1, word.getSequence());
+		}
+
+	}
+
+}
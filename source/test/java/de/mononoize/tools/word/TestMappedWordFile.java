@@ -0,0 +1,122 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestMappedWordFile extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@TempDir
+		Path m_directory;
+
+		@Test
+		@Order(1)
+		public void testValidation() throws IOException {
+			final Path path = this.m_directory.resolve("words");
+
+			assertThrows(IllegalArgumentException.class, () -> MappedWordFile.create(path, 0, 1));
+			assertThrows(IllegalArgumentException.class, () -> MappedWordFile.create(path, 1, 0));
+			assertThrows(NullPointerException.class, () -> MappedWordFile.open(null));
+
+			try (final MappedWordFile file = MappedWordFile.create(path, 100, 2)) {
+				assertThrows(IllegalArgumentException.class, () -> file.getWord(2));
+				assertThrows(IllegalArgumentException.class, () -> file.getWord(-1));
+			}
+
+			// Files that are not word files or that are truncated are rejected.
+			final Path invalid = this.m_directory.resolve("invalid");
+			Files.write(invalid, new byte[MappedWordFile.HEADER_BYTES]);
+			assertThrows(IOException.class, () -> MappedWordFile.open(invalid));
+
+			Files.write(invalid, new byte[1]);
+			assertThrows(IOException.class, () -> MappedWordFile.open(invalid));
+
+			Files.write(invalid, Files.readAllBytes(path), StandardOpenOption.TRUNCATE_EXISTING);
+			try (final FileChannel channel = FileChannel.open(invalid, StandardOpenOption.WRITE)) {
+				channel.truncate(MappedWordFile.HEADER_BYTES + 8);
+			}
+			assertThrows(IOException.class, () -> MappedWordFile.open(invalid));
+		}
+
+		@Test
+		@Order(2)
+		public void testPersistence() throws IOException {
+			final Path path = this.m_directory.resolve("words");
+			final int size = 1000;
+			final Word[] expected = new Word[5];
+
+			// The small regions force the words to be spread over several mapped regions.
+			try (final MappedWordFile file = MappedWordFile.create(path, size, expected.length, 256)) {
+				assertEquals(size, file.getSize());
+				assertEquals(expected.length, file.getCount());
+				assertEquals(MappedWordFile.HEADER_BYTES + (expected.length * 128), Files.size(path));
+
+				for (int i = 0; i < expected.length; i++) {
+					expected[i] = Word.of(getStringRandom(size));
+					assertEquals(new Word(size), file.getWord(i).toWord());
+					file.getWord(i).setValue(expected[i]);
+					assertNotSame(file.getWord(i), file.getWord(i));
+					assertEquals(file.getWord(i), file.getWord(i));
+				}
+				file.force();
+			}
+
+			try (final MappedWordFile file = MappedWordFile.open(path, false, 300)) {
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals(expected[i], file.getWord(i).toWord());
+				}
+				file.getWord(3).flip();
+				expected[3].flip();
+			}
+
+			try (final MappedWordFile file = MappedWordFile.openReadOnly(path)) {
+				assertTrue(file.isReadOnly());
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals(expected[i], file.getWord(i).toWord());
+				}
+				assertThrows(ReadOnlyBufferException.class, () -> file.getWord(0).set(0));
+				file.force();
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testClose() throws IOException {
+			final MappedWordFile file = MappedWordFile.create(this.m_directory.resolve("words"), 64, 1);
+			final OffHeapWord word = file.getWord(0).set(1);
+
+			// Closing a view neither affects other views nor the file.
+			final OffHeapWord other = file.getWord(0);
+			other.close();
+			assertTrue(other.isReleased());
+			assertTrue(word.getBoolean(1));
+
+			file.close();
+			file.close();
+
+			assertTrue(word.isReleased());
+			assertThrows(IllegalStateException.class, () -> word.getBoolean(1));
+			assertThrows(IllegalStateException.class, () -> file.getWord(0));
+			assertThrows(IllegalStateException.class, () -> file.force());
+		}
+
+	}
+
+}
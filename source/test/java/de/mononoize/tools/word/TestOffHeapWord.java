@@ -0,0 +1,198 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestOffHeapWord extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			try (final OffHeapWord word = new OffHeapWord(64)) {
+				assertThrows(IllegalArgumentException.class, () -> new OffHeapWord(0));
+				assertThrows(IllegalArgumentException.class, () -> word.set(64));
+				assertThrows(IllegalArgumentException.class, () -> word.clear(-1, 0));
+				assertThrows(IllegalArgumentException.class, () -> word.flip(1, 0));
+				assertThrows(IllegalArgumentException.class, () -> word.and(new Word(65)));
+				assertThrows(IllegalArgumentException.class, () -> word.or(new OffHeapWord(65)));
+				assertThrows(IllegalArgumentException.class, () -> word.setValue(new Word(65)));
+				assertThrows(IllegalArgumentException.class, () -> word.copyTo(new Word(65)));
+				assertThrows(IllegalArgumentException.class, () -> OffHeapWord.wrap(ByteBuffer.allocate(8), 65));
+				assertThrows(NullPointerException.class, () -> word.xor((Word) null));
+				assertThrows(NullPointerException.class, () -> word.xor((OffHeapWord) null));
+				assertThrows(NullPointerException.class, () -> OffHeapWord.wrap(null, 64));
+				assertThrows(IllegalArgumentException.class, () -> word.rol(-1));
+				assertThrows(IllegalArgumentException.class, () -> word.setHexValue("1"));
+				assertThrows(IllegalArgumentException.class, () -> word.setValue(new long[2]));
+				assertThrows(IllegalArgumentException.class, () -> word.setValue(new byte[9], ByteOrder.BIG_ENDIAN));
+				assertThrows(IllegalArgumentException.class, () -> OffHeapWord.wrap(ByteBuffer.allocate(8), 63).setValue(new long[] {-1L}));
+				assertThrows(IllegalArgumentException.class, () -> OffHeapWord.wrap(ByteBuffer.allocate(8), 63).readFrom(ByteBuffer.allocate(8).putLong(0, -1L)));
+				assertThrows(BufferUnderflowException.class, () -> word.readFrom(ByteBuffer.allocate(7)));
+				assertThrows(BufferOverflowException.class, () -> word.writeTo(ByteBuffer.allocate(7)));
+			}
+		}
+
+		@Test
+		@Order(2)
+		public void testClose() {
+			final OffHeapWord word = new OffHeapWord(100).set(5);
+			final OffHeapWord other = new OffHeapWord(100);
+			assertFalse(word.isReleased());
+
+			word.close();
+			word.close();
+
+			assertTrue(word.isReleased());
+			assertEquals("released", word.toString());
+			assertThrows(IllegalStateException.class, () -> word.getBoolean(5));
+			assertThrows(IllegalStateException.class, () -> word.set(5));
+			assertThrows(IllegalStateException.class, () -> word.countOnes());
+			assertThrows(IllegalStateException.class, () -> word.toWord());
+			assertThrows(IllegalStateException.class, () -> other.and(word));
+
+			other.close();
+		}
+
+		@Test
+		@Order(3)
+		public void testWrap() {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+			buffer.position(8);
+
+			// The word uses the remaining bytes of the buffer in little-endian order and does not copy them.
+			try (final OffHeapWord word = OffHeapWord.wrap(buffer, 72)) {
+				word.set(0).set(64);
+				assertEquals(1L, buffer.get(8));
+				assertEquals(1L, buffer.get(16));
+
+				buffer.put(9, (byte) 1);
+				assertTrue(word.getBoolean(8));
+			}
+
+			// Closing a wrapping word does not release the buffer.
+			assertEquals(1L, buffer.get(8));
+		}
+
+		@Test
+		@Order(4)
+		public void testResultRandom() {
+			for (final int size : new int[] {1, 63, 64, 65, 1000}) {
+				final Word expected = new Word(size);
+
+				try (final OffHeapWord actual = new OffHeapWord(size); final OffHeapWord operand = new OffHeapWord(size)) {
+					for (int i = 0; i < (ITERATIONS / 10); i++) {
+						final Word other = Word.of(getStringRandom(size));
+						operand.setValue(other);
+						final int start = RANDOM.nextInt(size);
+						final int end = start + RANDOM.nextInt(size - start);
+
+						switch (RANDOM.nextInt(20)) {
+							case 0 -> { expected.set(start); actual.set(start); }
+							case 1 -> { expected.clear(start); actual.clear(start); }
+							case 2 -> { expected.flip(start); actual.flip(start); }
+							case 3 -> { expected.set(start, end); actual.set(start, end); }
+							case 4 -> { expected.clear(start, end); actual.clear(start, end); }
+							case 5 -> { expected.flip(start, end); actual.flip(start, end); }
+							case 6 -> { expected.not(); actual.not(); }
+							case 7 -> { expected.and(other); actual.and(other); }
+							case 8 -> { expected.nand(other); actual.nand(other); }
+							case 9 -> { expected.xor(other); actual.xor(other); }
+							case 10 -> { expected.or(other); actual.or(other); }
+							case 11 -> { expected.nor(other); actual.nor(other); }
+							case 12 -> { expected.and(other); actual.and(operand); }
+							case 13 -> { expected.nand(other); actual.nand(operand); }
+							case 14 -> { expected.nor(other); actual.nor(operand); }
+							case 15 -> { expected.shl(); actual.shl(); }
+							case 16 -> { expected.shr(); actual.shr(); }
+							case 17 -> { expected.rol(); actual.rol(); }
+							case 18 -> { expected.ror(); actual.ror(); }
+							default -> { expected.setValue(other); actual.setValue(other); }
+						}
+
+						assertEquals(expected, actual.toWord());
+						assertEquals(expected.getBoolean(start), actual.getBoolean(start));
+						assertEquals(expected.get(start), actual.get(start));
+						assertEquals(expected.get(), actual.get());
+						assertEquals(expected.countOnes(), actual.countOnes());
+						assertEquals(expected.countZeros(), actual.countZeros());
+						assertEquals(expected.findFirstOne(), actual.findFirstOne());
+						assertEquals(expected.findLastOne(), actual.findLastOne());
+						assertEquals(expected.findFirstZero(), actual.findFirstZero());
+						assertEquals(expected.findLastZero(), actual.findLastZero());
+						assertEquals(expected.countLeadingOnes(), actual.countLeadingOnes());
+						assertEquals(expected.countLeadingZeros(), actual.countLeadingZeros());
+						assertEquals(expected.countTrailingOnes(), actual.countTrailingOnes());
+						assertEquals(expected.countTrailingZeros(), actual.countTrailingZeros());
+						assertEquals(expected.compareTo(other), actual.compareTo(other));
+						assertEquals(expected.compareTo(other), actual.compareTo(operand));
+						assertEquals(expected.compareTo(other), OffHeapWord.comparator().compare(actual, operand));
+						assertEquals(expected.toString(), actual.toString());
+					}
+				}
+			}
+		}
+
+
+		@Test
+		@Order(5)
+		public void testConversionRandom() throws IOException {
+			for (final int size : new int[] {1, 63, 64, 65, 1000}) {
+				try (final OffHeapWord actual = new OffHeapWord(size)) {
+					for (int i = 0; i < (ITERATIONS / 100); i++) {
+						final Word expected = Word.of(getStringRandom(size));
+
+						assertEquals(expected, actual.setValue(expected.toString()).toWord());
+						assertEquals(expected, actual.clear().setHexValue(expected.toHexString()).toWord());
+						assertEquals(expected, actual.clear().setBase64Value(expected.toBase64String()).toWord());
+						assertEquals(expected.toString(), actual.formatTo(new StringBuilder()).toString());
+						assertArrayEquals(expected.toByteArray(ByteOrder.LITTLE_ENDIAN), actual.toByteArray(ByteOrder.LITTLE_ENDIAN));
+						assertArrayEquals(expected.stream().toArray(), actual.stream().toArray());
+						assertArrayEquals(expected.toLongArray(), actual.toLongArray());
+						assertEquals(expected.toByte(), actual.toByte());
+						assertEquals(expected.toShort(), actual.toShort());
+						assertEquals(expected.toChar(), actual.toChar());
+						assertEquals(expected, actual.clear().setValue(expected.toLongArray()).toWord());
+						assertEquals(expected, actual.clear().setValue(expected.toByteArray(ByteOrder.BIG_ENDIAN), ByteOrder.BIG_ENDIAN).toWord());
+						assertEquals(expected, actual.clear().setValue(expected.toByteArray(ByteOrder.LITTLE_ENDIAN), ByteOrder.LITTLE_ENDIAN).toWord());
+						assertEquals(new Word(size).setValue(expected.toByte()), actual.setValue(expected.toByte()).toWord());
+						assertEquals(new Word(size).setValue(expected.toShort()), actual.setValue(expected.toShort()).toWord());
+						assertEquals(new Word(size).setValue(expected.toChar()), actual.setValue(expected.toChar()).toWord());
+						actual.setValue(expected);
+
+						final ByteOrder order = RANDOM.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+						final ByteBuffer buffer = ByteBuffer.allocate(8 + (2 * Word.getLength(size) * Long.BYTES)).order(order);
+						buffer.position(8);
+						expected.writeTo(buffer);
+						actual.clear().writeTo(buffer);
+						assertEquals(buffer.limit(), buffer.position());
+
+						buffer.position(8);
+						assertEquals(expected, actual.readFrom(buffer).toWord());
+						assertEquals(new Word(size), new Word(size).readFrom(buffer));
+						assertEquals(buffer.limit(), buffer.position());
+					}
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestParallelWordAccess extends AbstractTestWord {
+
+	/**
+	 * The pool to be used, so that the tasks are executed in parallel regardless of the number of processors.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * The (arbitrary) thresholds to be used, which split even small words into several tasks.
+	 */
+	private static final int[] THRESHOLDS = {1, 3, ParallelWordAccess.DEFAULT_THRESHOLD};
+
+	@AfterAll
+	public static void shutdown() {
+		POOL.shutdown();
+	}
+
+	@Nested
+	@Order(1)
+	class TestBitwise extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(8).parallel(null, 1));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).parallel(POOL, 0));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).parallel().set(0, 8));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).parallel().clear(-1, 0));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).parallel().flip(1, 0));
+			assertThrows(UnsupportedOperationException.class, () -> new SynchronizedWord(1).parallel());
+			assertThrows(UnsupportedOperationException.class, () -> new AtomicWord(1).parallel());
+
+			// An immutable word only rejects the modifying methods of its access.
+			final ParallelWordAccess access = new VersionedWord(8).set(3).snapshot().toImmutableWord().parallel(POOL, 1);
+			assertEquals(1, access.countOnes());
+			assertEquals(3, access.findFirstOne());
+			assertThrows(UnsupportedOperationException.class, () -> access.set(0, 1));
+			assertThrows(UnsupportedOperationException.class, () -> access.not());
+			assertThrows(UnsupportedOperationException.class, () -> access.nor(new Word(8)));
+			assertEquals(Word.of("00001000"), Word.of(access.word()));
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int threshold : THRESHOLDS) {
+				for (final int size : SIZES) {
+					for (int i = 0; i < (ITERATIONS / 10); i++) {
+						final Word expected = Word.of(getStringRandom(size));
+						final Word actual = Word.of(expected);
+						final ParallelWordAccess access = actual.parallel(POOL, threshold);
+						final int start = RANDOM.nextInt(size);
+						final int end = start + RANDOM.nextInt(size - start);
+
+						assertSame(actual, access.word());
+
+						switch (RANDOM.nextInt(4)) {
+							case 0 -> { expected.set(start, end); access.set(start, end); }
+							case 1 -> { expected.clear(start, end); access.clear(start, end); }
+							case 2 -> { expected.flip(start, end); access.flip(start, end); }
+							default -> { expected.not(); access.not(); }
+						}
+
+						assertEquals(expected, actual);
+						assertEquals(expected.countOnes(), access.countOnes());
+						assertEquals(expected.countZeros(), access.countZeros());
+						assertEquals(expected.findFirstOne(), access.findFirstOne());
+						assertEquals(expected.findLastOne(), access.findLastOne());
+						assertEquals(expected.findFirstZero(), access.findFirstZero());
+						assertEquals(expected.findLastZero(), access.findLastZero());
+					}
+				}
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testFind() {
+			for (final int threshold : THRESHOLDS) {
+				for (final int size : SIZES) {
+					final Word word = new Word(size);
+					final ParallelWordAccess access = word.parallel(POOL, threshold);
+
+					assertEquals(-1, access.findFirstOne());
+					assertEquals(-1, access.findLastOne());
+					assertEquals(size - 1, access.findLastZero());
+
+					word.set();
+					assertEquals(-1, access.findFirstZero());
+					assertEquals(-1, access.findLastZero());
+					assertEquals(size, access.countOnes());
+				}
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestLogic extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(8).parallel().and(null));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).parallel().or(new Word(9)));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).parallel().compareTo(new Word(9)));
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int threshold : THRESHOLDS) {
+				for (final int size : SIZES) {
+					for (int i = 0; i < (ITERATIONS / 10); i++) {
+						final Word expected = Word.of(getStringRandom(size));
+						final Word actual = Word.of(expected);
+						final Word other = Word.of(getStringRandom(size));
+						final ParallelWordAccess access = actual.parallel(POOL, threshold);
+
+						assertEquals(expected.compareTo(other), access.compareTo(other));
+						assertEquals(0, access.compareTo(expected));
+
+						switch (RANDOM.nextInt(6)) {
+							case 0 -> { expected.and(other); access.and(other); }
+							case 1 -> { expected.nand(other); access.nand(other); }
+							case 2 -> { expected.xor(other); access.xor(other); }
+							case 3 -> { expected.or(other); access.or(other); }
+							case 4 -> { expected.nor(other); access.nor(other); }
+							default -> { expected.xor(expected); access.xor(actual); }
+						}
+
+						assertEquals(expected, actual);
+						assertEquals(expected.countOnes(), access.countOnes());
+					}
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestShardedWord extends AbstractTestWord {
+
+	/**
+	 * The number of threads that are used for the concurrency tests.
+	 */
+	private static final int THREADS = 4;
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new ShardedWord(0, ShardedWord.Operator.OR));
+			assertThrows(NullPointerException.class, () -> new ShardedWord(1, null));
+			assertThrows(IllegalArgumentException.class, () -> new ShardedWord(1, ShardedWord.Operator.OR, 0));
+			assertThrows(IllegalArgumentException.class, () -> new ShardedWord(1, ShardedWord.Operator.OR).set(1));
+			assertThrows(IllegalArgumentException.class, () -> new ShardedWord(1, ShardedWord.Operator.XOR).xor(new Word(2)));
+			assertThrows(IllegalStateException.class, () -> new ShardedWord(1, ShardedWord.Operator.OR).flip(0));
+			assertThrows(IllegalStateException.class, () -> new ShardedWord(1, ShardedWord.Operator.XOR).or(new Word(1)));
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < (ITERATIONS / 100); i++) {
+					final Word expectedOr = new Word(size);
+					final Word expectedXor = new Word(size);
+					final ShardedWord actualOr = new ShardedWord(size, ShardedWord.Operator.OR, 4);
+					final ShardedWord actualXor = new ShardedWord(size, ShardedWord.Operator.XOR, 4);
+
+					for (int j = 0; j < 10; j++) {
+						final Word value = Word.of(getStringRandom(size));
+						final int index = RANDOM.nextInt(size);
+
+						expectedOr.or(value).set(index);
+						actualOr.or(value).set(index);
+						expectedXor.xor(value).flip(index);
+						actualXor.xor(value).flip(index);
+					}
+
+					assertEquals(expectedOr, actualOr.snapshot());
+					assertEquals(expectedXor, actualXor.snapshot());
+					assertEquals(expectedXor.toString(), actualXor.toString());
+					assertEquals(new Word(size), actualOr.reset().snapshot());
+				}
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testShardCount() {
+			// Without contention, a single shard is used.
+			final ShardedWord word = new ShardedWord(100, ShardedWord.Operator.OR, 5);
+			for (int i = 0; i < 100; i++) {
+				word.set(i);
+			}
+
+			assertEquals(1, word.getShardCount());
+			assertEquals(new Word(100).set(), word.snapshot());
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testAccumulate() throws InterruptedException {
+			final int size = 1000;
+			final ShardedWord or = new ShardedWord(size, ShardedWord.Operator.OR, 2);
+			final ShardedWord xor = new ShardedWord(size, ShardedWord.Operator.XOR, 2);
+			final Thread[] threads = new Thread[THREADS];
+
+			// All bits are set, and each bit is flipped by all threads, i.e. an even number of times.
+			for (int i = 0; i < threads.length; i++) {
+				final int number = i;
+				threads[i] = new Thread(() -> {
+					for (int j = number; j < size; j += THREADS) {
+						or.set(j);
+					}
+					for (int j = 0; j < size; j++) {
+						xor.flip(j);
+					}
+				});
+				threads[i].start();
+			}
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(new Word(size).set(), or.snapshot());
+			assertEquals(new Word(size), xor.snapshot());
+		}
+
+		@Test
+		@Order(2)
+		public void testGrowth() throws InterruptedException {
+			final int size = 64;
+			final ShardedWord xor = new ShardedWord(size, ShardedWord.Operator.XOR, 8);
+			final Thread[] threads = new Thread[THREADS];
+
+			// All threads flip the same element, so that the shards may grow while the threads are running.
+			for (int i = 0; i < threads.length; i++) {
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < (ITERATIONS * 2); j++) {
+						xor.flip(j % size);
+					}
+				});
+				threads[i].start();
+			}
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertTrue((xor.getShardCount() >= 1) && (xor.getShardCount() <= 8));
+			assertEquals(new Word(size), xor.snapshot());
+		}
+
+	}
+
+}
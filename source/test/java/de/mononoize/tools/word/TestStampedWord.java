@@ -0,0 +1,115 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestStampedWord extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new StampedWord(1).set(1));
+			assertThrows(NullPointerException.class, () -> new StampedWord(1).and(null));
+			assertThrows(UnsupportedOperationException.class, () -> new StampedWord(1).unchecked());
+
+			// The lock must have been released after a failed operation.
+			final StampedWord word = new StampedWord(8);
+			assertThrows(IllegalArgumentException.class, () -> word.flip(8));
+			assertEquals(Word.of((byte) 1), Word.of(word.setValue((byte) 1)));
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+				for (final int size : SIZES) {
+					for (int i = 0; i < (ITERATIONS / 10); i++) {
+						final String value = getStringRandom(size);
+						final Word expected = Word.of(value);
+						final StampedWord actual = new StampedWord(size);
+						final Word other = Word.of(getStringRandom(size));
+						final int index = RANDOM.nextInt(size);
+
+						// Operations that internally invoke other operations must not dead-lock.
+						switch (RANDOM.nextInt(6)) {
+							case 0 -> { expected.setValue((byte) i); actual.setValue((byte) i); }
+							case 1 -> { expected.setValue(value); actual.setValue(value).xor(actual); expected.xor(expected); }
+							case 2 -> { expected.setValue(value).shl(size); actual.setValue(value).shl(size); }
+							case 3 -> { expected.setValue(value).nand(expected); actual.setValue(value).nand(actual); }
+							case 4 -> { expected.setBase64Value(other.toBase64String()); actual.setBase64Value(other.toBase64String()); }
+							default -> { expected.setValue(value).rol(index).flip(index); actual.setValue(value).rol(index).flip(index); }
+						}
+
+						assertEquals(expected.toString(), actual.toString());
+						assertEquals(expected.countOnes(), actual.countOnes());
+						assertEquals(expected.hash64(), actual.hash64());
+						assertEquals(0, expected.compareTo(actual));
+					}
+				}
+			});
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testConsistentReads() throws InterruptedException {
+			final int size = 256;
+			final Word[] values = new Word[16];
+
+			// All values have the same number of bits set, so a consistent read always returns that number.
+			for (int i = 0; i < values.length; i++) {
+				values[i] = Word.of(StringUtils.repeat('1', size / 2) + StringUtils.repeat('0', size / 2)).rol(i * 13);
+			}
+
+			final StampedWord word = new StampedWord(size);
+			word.setValue(values[0]);
+
+			final AtomicBoolean running = new AtomicBoolean(true);
+			final AtomicInteger failures = new AtomicInteger();
+			final Thread[] readers = new Thread[3];
+
+			for (int i = 0; i < readers.length; i++) {
+				readers[i] = new Thread(() -> {
+					while (running.get()) {
+						if ((word.countOnes() != (size / 2)) || (StringUtils.countMatches(word.toString(), '1') != (size / 2))) {
+							failures.incrementAndGet();
+						}
+					}
+				});
+				readers[i].start();
+			}
+
+			for (int i = 0; i < 100000; i++) {
+				word.setValue(values[i % values.length]);
+			}
+
+			running.set(false);
+			for (final Thread reader : readers) {
+				reader.join();
+			}
+
+			assertEquals(0, failures.get());
+		}
+
+	}
+
+}
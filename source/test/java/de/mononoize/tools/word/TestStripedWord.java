@@ -0,0 +1,169 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestStripedWord extends AbstractTestWord {
+
+	/**
+	 * The number of threads that are used for the concurrency tests.
+	 */
+	private static final int THREADS = 4;
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new StripedWord(64, 0));
+			assertThrows(IllegalArgumentException.class, () -> new StripedWord(64, 3));
+			assertThrows(IllegalArgumentException.class, () -> new StripedWord(64).set(64));
+			assertThrows(IllegalArgumentException.class, () -> new StripedWord(64).clear(-1, 0));
+			assertThrows(IllegalArgumentException.class, () -> new StripedWord(64).flip(1, 0));
+			assertThrows(UnsupportedOperationException.class, () -> new StripedWord(1).unchecked());
+
+			assertEquals(1, new StripedWord(512).getStripeCount());
+			assertEquals(2, new StripedWord(513).getStripeCount());
+			assertEquals(9, new StripedWord(513, 1).getStripeCount());
+			assertEquals(1024, new StripedWord(64 * 8 * 1024).getStripeCount());
+			assertEquals(513, new StripedWord((64 * 8 * 1024) + 1).getStripeCount());
+			assertEquals(1024, new StripedWord(1 << 24).getStripeCount());
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int stripeElements : new int[] {1, 2, 8}) {
+				for (final int size : new int[] {1, 100, 1000}) {
+					for (int i = 0; i < (ITERATIONS / 10); i++) {
+						final String value = getStringRandom(size);
+						final Word expected = Word.of(value);
+						final StripedWord actual = new StripedWord(size, stripeElements);
+						actual.setValue(value);
+
+						final Word other = Word.of(getStringRandom(size));
+						final int start = RANDOM.nextInt(size);
+						final int end = start + RANDOM.nextInt(size - start);
+
+						switch (RANDOM.nextInt(8)) {
+							case 0 -> { expected.set(start); actual.set(start); }
+							case 1 -> { expected.clear(start); actual.clear(start); }
+							case 2 -> { expected.flip(start); actual.flip(start); }
+							case 3 -> { expected.set(start, end); actual.set(start, end); }
+							case 4 -> { expected.clear(start, end); actual.clear(start, end); }
+							case 5 -> { expected.flip(start, end); actual.flip(start, end); }
+							case 6 -> { expected.nor(other); actual.nor(other); }
+							default -> { expected.rol(end); actual.rol(end); }
+						}
+
+						assertEquals(expected.toString(), actual.toString());
+						assertEquals(expected.countOnes(), actual.countOnes());
+						assertEquals(expected.getBoolean(end), actual.getBoolean(end));
+						assertEquals(expected.toLong(), actual.toLong());
+					}
+				}
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testReentrantSerialization() throws Exception {
+			final StripedWord word = new StripedWord(1000, 1);
+			word.setValue(getStringRandom(1000));
+			final Word expected = Word.of(word);
+
+			// An operation with itself as the operand locks its stripes twice.
+			assertEquals(expected.xor(expected), Word.of(word.xor(word)));
+
+			word.setValue(getStringRandom(1000));
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+				output.writeObject(word);
+			}
+
+			try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				final StripedWord copy = (StripedWord) input.readObject();
+				assertEquals(Word.of(word), Word.of(copy));
+				assertEquals(Word.of(word).flip(5, 500), Word.of(copy.flip(5, 500)));
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testSetClear() throws InterruptedException {
+			final int size = 100000;
+			final StripedWord word = new StripedWord(size, 1);
+			final Thread[] threads = new Thread[THREADS];
+
+			// Each thread owns the bits with index % THREADS == number, so no update must get lost.
+			for (int i = 0; i < threads.length; i++) {
+				final int number = i;
+				threads[i] = new Thread(() -> {
+					for (int j = number; j < size; j += THREADS) {
+						word.set(j);
+						word.flip(j);
+						word.flip(j);
+					}
+				});
+				threads[i].start();
+			}
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(size, word.countOnes());
+		}
+
+		@Test
+		@Order(2)
+		public void testDeadLock() {
+			final StripedWord word1 = new StripedWord(10000, 1);
+			final StripedWord word2 = new StripedWord(10000, 2);
+			final Thread[] threads = new Thread[THREADS];
+
+			// The words are locked in the opposite order by the threads, unless the global order is used.
+			assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+				for (int i = 0; i < threads.length; i++) {
+					final int number = i;
+					threads[i] = new Thread(() -> {
+						for (int j = 0; j < 1000; j++) {
+							switch (number) {
+								case 0 -> word1.or(word2);
+								case 1 -> word2.xor(word1);
+								case 2 -> word1.flip(j, 9999 - j);
+								default -> word2.set((j * 7919) % 10000);
+							}
+						}
+					});
+					threads[i].start();
+				}
+
+				for (final Thread thread : threads) {
+					thread.join();
+				}
+			});
+		}
+
+	}
+
+}
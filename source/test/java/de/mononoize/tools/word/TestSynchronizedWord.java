@@ -0,0 +1,158 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestSynchronizedWord extends AbstractTestWord {
+
+	/**
+	 * The number of threads that are used for the concurrency tests.
+	 */
+	private static final int THREADS = 4;
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new SynchronizedWord(8).getAndOr(null, new Word(8)));
+			assertThrows(NullPointerException.class, () -> new SynchronizedWord(8).getAndAnd(new Word(8), null));
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).getAndXor(new Word(9), new Word(8)));
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).getAndXor(new Word(8), new Word(9)));
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).getAndOr(new Word(8), new AtomicWord(8)));
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).getAndSetRange(0, 8, new Word(8)));
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).getAndSetRange(1, 0, new Word(8)));
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).compareAndSet(new Word(8), new Word(9)));
+
+			// A failed validation must not modify the destination.
+			final Word destination = Word.of("11111111");
+			assertThrows(IllegalArgumentException.class, () -> new SynchronizedWord(8).getAndSetRange(0, 8, destination));
+			assertEquals(Word.of("11111111"), destination);
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < (ITERATIONS / 10); i++) {
+					final String value = getStringRandom(size);
+					final Word expected = Word.of(value);
+					final SynchronizedWord actual = new SynchronizedWord(size);
+					actual.setValue(value);
+
+					final Word other = Word.of(getStringRandom(size));
+					final Word destination = new Word(size);
+					final int start = RANDOM.nextInt(size);
+					final int end = start + RANDOM.nextInt(size - start);
+
+					switch (RANDOM.nextInt(4)) {
+						case 0 -> { expected.and(other); assertSame(destination, actual.getAndAnd(other, destination)); }
+						case 1 -> { expected.xor(other); assertSame(destination, actual.getAndXor(other, destination)); }
+						case 2 -> { expected.or(other); assertSame(destination, actual.getAndOr(other, destination)); }
+						default -> { expected.set(start, end); assertSame(destination, actual.getAndSetRange(start, end, destination)); }
+					}
+
+					assertEquals(Word.of(value), destination);
+					assertEquals(expected.toString(), actual.toString());
+				}
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testCompareAndSet() {
+			final SynchronizedWord word = new SynchronizedWord(100);
+			final SynchronizedWord update = new SynchronizedWord(100);
+			update.set(0, 49);
+
+			assertFalse(word.compareAndSet(Word.of(update), new Word(100)));
+			assertTrue(word.compareAndSet(new Word(100), update));
+			assertEquals(update, word);
+			assertTrue(word.compareAndSet(word, new Word(100).set(99)));
+			assertEquals(new Word(100).set(99).toString(), word.toString());
+
+			// The value must not change if the comparison fails.
+			assertFalse(word.compareAndSet(update, update));
+			assertEquals(new Word(100).set(99).toString(), word.toString());
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testGetAndOr() throws InterruptedException {
+			final int size = 100;
+			final SynchronizedWord word = new SynchronizedWord(size);
+			final AtomicInteger failures = new AtomicInteger();
+			final Thread[] threads = new Thread[THREADS];
+
+			// Each bit is set exactly once, so each previous value must not contain the bit that is set.
+			for (int i = 0; i < threads.length; i++) {
+				final int number = i;
+				threads[i] = new Thread(() -> {
+					final Word operand = new Word(size);
+					final Word destination = new Word(size);
+					for (int j = number; j < size; j += THREADS) {
+						operand.clear().set(j);
+						if (word.getAndOr(operand, destination).getBoolean(j)) {
+							failures.incrementAndGet();
+						}
+					}
+				});
+				threads[i].start();
+			}
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(0, failures.get());
+			assertEquals(size, word.countOnes());
+		}
+
+		@Test
+		@Order(2)
+		public void testCompareAndSet() throws InterruptedException {
+			final SynchronizedWord word = new SynchronizedWord(64);
+			final Thread[] threads = new Thread[THREADS];
+
+			// The word is used as a counter, which is incremented with a compare-and-set loop.
+			for (int i = 0; i < threads.length; i++) {
+				threads[i] = new Thread(() -> {
+					final Word expected = new Word(64);
+					final Word update = new Word(64);
+					for (int j = 0; j < 10000; j++) {
+						do {
+							expected.setValue(word.toLong());
+							update.setValue(expected.toLong() + 1);
+						} while (!word.compareAndSet(expected, update));
+					}
+				});
+				threads[i].start();
+			}
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(THREADS * 10000, word.toLong());
+		}
+
+	}
+
+}
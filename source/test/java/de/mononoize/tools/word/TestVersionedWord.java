@@ -0,0 +1,158 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestVersionedWord extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(0));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64, 3));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64).set(64));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64).clear(-1, 0));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64).flip(1, 0));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64).setValue(new Word(65)));
+			assertThrows(NullPointerException.class, () -> new VersionedWord(64).update(null));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64).update(editor -> editor.set(64)));
+			assertThrows(IllegalArgumentException.class, () -> new VersionedWord(64).snapshot().compareTo(new Word(65)));
+			assertThrows(UnsupportedOperationException.class, () -> new VersionedWord(64).snapshot().toImmutableWord().set(0));
+
+			// An editor must not be used after the modification has returned.
+			final VersionedWord word = new VersionedWord(64);
+			final AtomicReference<VersionedWord.Editor> editor = new AtomicReference<>();
+			word.update(editor::set);
+			assertThrows(IllegalStateException.class, () -> editor.get().set(0));
+			assertEquals(0, word.getVersion());
+
+			assertEquals(1, new VersionedWord(4096).getChunkCount());
+			assertEquals(2, new VersionedWord(4097).getChunkCount());
+			assertEquals(65, new VersionedWord(4097, 1).getChunkCount());
+		}
+
+		@Test
+		@Order(2)
+		public void testVersion() {
+			final VersionedWord word = new VersionedWord(10000, 1);
+			final VersionedWord.Snapshot snapshot = word.snapshot();
+
+			assertEquals(0, word.getVersion());
+			assertSame(snapshot, word.snapshot());
+			assertSame(snapshot.toImmutableWord(), word.snapshot().toImmutableWord());
+
+			// A modification publishes a new version, which shares all chunks but the modified one.
+			word.set(100);
+			assertEquals(1, word.getVersion());
+			assertEquals(1, word.snapshot().getVersion());
+			assertEquals(new Word(10000), snapshot.toWord());
+			assertEquals(new Word(10000).set(100), word.snapshot().toWord());
+			assertEquals(new Word(10000).set(100), Word.of(word.snapshot().toImmutableWord()));
+
+			// A modification that does not change any chunk does not publish a new version.
+			word.update(w -> w.flip(5).flip(5));
+			word.set(100);
+			assertEquals(1, word.getVersion());
+		}
+
+		@Test
+		@Order(3)
+		public void testResultRandom() {
+			for (final int chunkElements : new int[] {1, 2, 64}) {
+				for (final int size : new int[] {1, 100, 1000}) {
+					final Word expected = new Word(size);
+					final VersionedWord actual = new VersionedWord(size, chunkElements);
+
+					for (int i = 0; i < (ITERATIONS / 10); i++) {
+						final Word other = Word.of(getStringRandom(size));
+						final int start = RANDOM.nextInt(size);
+						final int end = start + RANDOM.nextInt(size - start);
+
+						switch (RANDOM.nextInt(9)) {
+							case 0 -> { expected.set(start); actual.set(start); }
+							case 1 -> { expected.clear(start); actual.clear(start); }
+							case 2 -> { expected.flip(start); actual.flip(start); }
+							case 3 -> { expected.set(start, end); actual.set(start, end); }
+							case 4 -> { expected.clear(start, end); actual.clear(start, end); }
+							case 5 -> { expected.flip(start, end); actual.flip(start, end); }
+							case 6 -> { expected.setValue(other); actual.setValue(other); }
+							case 7 -> { expected.setValue(other).flip(start); actual.update(w -> w.setValue(other).flip(start)); }
+							default -> { expected.flip(start).set(end).clear(start); actual.update(w -> w.flip(start).set(end).clear(start)); }
+						}
+
+						final VersionedWord.Snapshot snapshot = actual.snapshot();
+						assertEquals(expected, snapshot.toWord());
+						assertEquals(expected.toString(), actual.toString());
+						assertEquals(expected.getBoolean(end), actual.getBoolean(end));
+						assertEquals(expected.countOnes(), snapshot.countOnes());
+						assertEquals(expected.countZeros(), snapshot.countZeros());
+						assertEquals(expected.findFirstOne(), snapshot.findFirstOne());
+						assertEquals(expected.findLastOne(), snapshot.findLastOne());
+						assertEquals(expected.findFirstZero(), snapshot.findFirstZero());
+						assertEquals(expected.findLastZero(), snapshot.findLastZero());
+						assertEquals(expected.compareTo(other), snapshot.compareTo(other));
+					}
+				}
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testSnapshot() throws InterruptedException {
+			final int size = 1000;
+			final VersionedWord word = new VersionedWord(size, 1);
+			final AtomicInteger failures = new AtomicInteger();
+			final Thread[] threads = new Thread[4];
+
+			// The writer flips pairs of bits in a single version, so each snapshot has an even number of ones.
+			threads[0] = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					final int index = (i * 7919) % size;
+					word.update(w -> w.flip(index).flip(size - 1 - ((index + 1) % size)));
+				}
+			});
+			for (int i = 1; i < threads.length; i++) {
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < 10000; j++) {
+						final long version = word.getVersion();
+						final VersionedWord.Snapshot snapshot = word.snapshot();
+						if (((snapshot.countOnes() % 2) != 0) || (snapshot.getVersion() < version)) {
+							failures.incrementAndGet();
+						}
+					}
+				});
+			}
+
+			for (final Thread thread : threads) {
+				thread.start();
+			}
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(0, failures.get());
+			assertTrue(word.getVersion() <= 10000);
+		}
+
+	}
+
+}
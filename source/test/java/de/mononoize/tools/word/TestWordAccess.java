@@ -0,0 +1,92 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordAccess extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestBitwise extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(1).unchecked().get(-1));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(1).unchecked().getBoolean(1));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).unchecked().set(8));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).unchecked().clear(63));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).unchecked().flip(64));
+			assertThrows(UnsupportedOperationException.class, () -> new SynchronizedWord(1).unchecked());
+			
+			// An immutable word only rejects the modifying methods of its access.
+			final WordAccess access = new VersionedWord(8).set(3).snapshot().toImmutableWord().unchecked();
+			assertEquals(true, access.getBoolean(3));
+			assertThrows(UnsupportedOperationException.class, () -> access.set(0));
+			assertThrows(UnsupportedOperationException.class, () -> access.flip(0));
+			assertThrows(UnsupportedOperationException.class, () -> access.or(new Word(8)));
+			assertEquals(Word.of("00001000"), Word.of(access.word()));
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final Word expected = Word.of(getStringRandom(size));
+					final Word actual = Word.of(expected);
+					final WordAccess access = actual.unchecked();
+					final int index = RANDOM.nextInt(size);
+					
+					assertSame(actual, access.word());
+					assertEquals(expected.get(index), access.get(index));
+					assertEquals(expected.getBoolean(index), access.getBoolean(index));
+					
+					switch (RANDOM.nextInt(3)) {
+						case 0 -> { expected.set(index); access.set(index); }
+						case 1 -> { expected.clear(index); access.clear(index); }
+						default -> { expected.flip(index); access.flip(index); }
+					}
+					
+					assertEquals(expected, actual);
+				}
+			}
+		}
+		
+	}
+	
+	@Nested
+	@Order(2)
+	class TestLogic extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(1).unchecked().and(null));
+			assertThrows(IllegalArgumentException.class, () -> new Word(1).unchecked().or(new Word(2)));
+			assertThrows(IllegalArgumentException.class, () -> new Word(2).unchecked().xor(new Word(1)));
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final Word word1 = Word.of(getStringRandom(size));
+					final Word word2 = Word.of(getStringRandom(size));
+					
+					assertEquals(Word.of(word1).and(word2), Word.of(word1).unchecked().and(word2).word());
+					assertEquals(Word.of(word1).xor(word2), Word.of(word1).unchecked().xor(word2).word());
+					assertEquals(Word.of(word1).or(word2), Word.of(word1).unchecked().or(word2).word());
+				}
+			}
+		}
+		
+	}
+	
+}
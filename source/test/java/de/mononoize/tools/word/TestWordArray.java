@@ -0,0 +1,190 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordArray extends AbstractTestWord {
+
+	/**
+	 * The (arbitrary) sizes to be used, including sizes that are not a multiple of {@code 64}.
+	 */
+	private static final int[] ARRAY_SIZES = {1, 48, 64, 128, 200};
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			final WordArray array = new WordArray(48, 4);
+
+			assertThrows(IllegalArgumentException.class, () -> new WordArray(0, 1));
+			assertThrows(IllegalArgumentException.class, () -> new WordArray(1, 0));
+			assertThrows(IllegalArgumentException.class, () -> new WordArray(65, Integer.MAX_VALUE));
+			assertThrows(IllegalArgumentException.class, () -> array.get(4));
+			assertThrows(IllegalArgumentException.class, () -> array.set(0, new Word(47)));
+			assertThrows(IllegalArgumentException.class, () -> array.cursor(-1));
+			assertThrows(IllegalArgumentException.class, () -> array.cursor().set(48));
+			assertThrows(IllegalArgumentException.class, () -> array.cursor().flip(2, 1));
+			assertThrows(IllegalArgumentException.class, () -> array.cursor().rol(-1));
+			assertThrows(IllegalArgumentException.class, () -> array.and(new WordArray(48, 5)));
+			assertThrows(IllegalArgumentException.class, () -> array.or(new WordArray(47, 4)));
+			assertThrows(NullPointerException.class, () -> array.xor((Word) null));
+			assertThrows(NullPointerException.class, () -> array.cursor().and(null));
+		}
+
+		@Test
+		@Order(2)
+		public void testCursorRandom() {
+			for (final int size : ARRAY_SIZES) {
+				final Word[] expected = new Word[5];
+				final WordArray actual = new WordArray(size, expected.length);
+				final WordArray.Cursor cursor = actual.cursor();
+				for (int i = 0; i < expected.length; i++) {
+					expected[i] = new Word(size);
+				}
+
+				for (int i = 0; i < (ITERATIONS / 10); i++) {
+					final int index = RANDOM.nextInt(expected.length);
+					final Word other = Word.of(getStringRandom(size));
+					final int start = RANDOM.nextInt(size);
+					final int end = start + RANDOM.nextInt(size - start);
+
+					assertSame(cursor, cursor.moveTo(index));
+					assertEquals(index, cursor.getIndex());
+
+					final int offset = RANDOM.nextInt(2 * size);
+
+					switch (RANDOM.nextInt(19)) {
+						case 0 -> { expected[index].set(start); cursor.set(start); }
+						case 1 -> { expected[index].clear(start); cursor.clear(start); }
+						case 2 -> { expected[index].flip(start); cursor.flip(start); }
+						case 3 -> { expected[index].set(start, end); cursor.set(start, end); }
+						case 4 -> { expected[index].clear(start, end); cursor.clear(start, end); }
+						case 5 -> { expected[index].flip(start, end); cursor.flip(start, end); }
+						case 6 -> { expected[index].not(); cursor.not(); }
+						case 7 -> { expected[index].and(other); cursor.and(other); }
+						case 8 -> { expected[index].nand(other); cursor.nand(other); }
+						case 9 -> { expected[index].xor(other); cursor.xor(other); }
+						case 10 -> { expected[index].or(other); cursor.or(other); }
+						case 11 -> { expected[index].nor(other); cursor.nor(other); }
+						case 12 -> { expected[index].clear(); cursor.clear(); }
+						case 13 -> { expected[index].shl(offset); cursor.shl(offset); }
+						case 14 -> { expected[index].shr(offset); cursor.shr(offset); }
+						case 15 -> { expected[index].rol(offset); cursor.rol(offset); }
+						case 16 -> { expected[index].ror(offset); cursor.ror(offset); }
+						case 17 -> { expected[index].setValue(other.toLong()); cursor.setValue(other.toLong()); }
+						default -> { expected[index].setValue(other); cursor.setValue(other); }
+					}
+
+					assertEquals(expected[index].getBoolean(start), cursor.getBoolean(start));
+					assertEquals(expected[index].countOnes(), cursor.countOnes());
+					assertEquals(expected[index].countZeros(), cursor.countZeros());
+					assertEquals(expected[index].findFirstOne(), cursor.findFirstOne());
+					assertEquals(expected[index].findLastOne(), cursor.findLastOne());
+					assertEquals(expected[index].findFirstZero(), cursor.findFirstZero());
+					assertEquals(expected[index].findLastZero(), cursor.findLastZero());
+					assertEquals(expected[index].compareTo(other), cursor.compareTo(other));
+					assertEquals(expected[index].toString(), cursor.toString());
+					assertEquals(expected[index].toLong(), cursor.toLong());
+					assertEquals(expected[index].toInteger(), cursor.toInteger());
+
+					// The other words must not be affected.
+					for (int j = 0; j < expected.length; j++) {
+						assertEquals(expected[j], actual.get(j));
+					}
+				}
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testBulkRandom() {
+			for (final int size : ARRAY_SIZES) {
+				final int count = 1 + RANDOM.nextInt(100);
+				final Word[] expected = new Word[count];
+				final WordArray actual = new WordArray(size, count);
+				final WordArray operand = new WordArray(size, count);
+				for (int i = 0; i < count; i++) {
+					expected[i] = Word.of(getStringRandom(size));
+					actual.set(i, expected[i]);
+				}
+
+				for (int i = 0; i < 200; i++) {
+					final Word other = Word.of(getStringRandom(size));
+					final Word[] others = new Word[count];
+					for (int j = 0; j < count; j++) {
+						others[j] = Word.of(getStringRandom(size));
+						operand.cursor(j).setValue(others[j]);
+					}
+
+					final int operation = RANDOM.nextInt(9);
+					for (int j = 0; j < count; j++) {
+						switch (operation) {
+							case 0 -> expected[j].and(other);
+							case 1 -> expected[j].xor(other);
+							case 2 -> expected[j].or(other);
+							case 3 -> expected[j].and(others[j]);
+							case 4 -> expected[j].nand(others[j]);
+							case 5 -> expected[j].xor(others[j]);
+							case 6 -> expected[j].or(others[j]);
+							case 7 -> expected[j].nor(others[j]);
+							default -> expected[j].not();
+						}
+					}
+					switch (operation) {
+						case 0 -> actual.and(other);
+						case 1 -> actual.xor(other);
+						case 2 -> actual.or(other);
+						case 3 -> actual.and(operand);
+						case 4 -> actual.nand(operand);
+						case 5 -> actual.xor(operand);
+						case 6 -> actual.or(operand);
+						case 7 -> actual.nor(operand);
+						default -> actual.not();
+					}
+
+					long ones = 0;
+					for (int j = 0; j < count; j++) {
+						assertEquals(expected[j], actual.get(j));
+						ones += expected[j].countOnes();
+					}
+					assertEquals(ones, actual.countOnes());
+				}
+			}
+		}
+
+		@Test
+		@Order(4)
+		public void testBulk() {
+			final Word value = Word.of(getStringRandom(100));
+			final WordArray array = new WordArray(100, 3).fill(value);
+
+			assertEquals(0, array.indexOf(value));
+			array.cursor(0).flip(5);
+			array.cursor(1).flip(5);
+			assertEquals(2, array.indexOf(value));
+			assertEquals(-1, array.indexOf(Word.of(value).flip(6)));
+
+			final List<Integer> indices = new ArrayList<>();
+			array.forEach(cursor -> indices.add(cursor.getIndex()));
+			assertEquals(List.of(0, 1, 2), indices);
+
+			assertEquals("[" + array.get(0) + ", " + array.get(1) + ", " + array.get(2) + "]", array.toString());
+
+			array.clear();
+			assertEquals(0, array.countOnes());
+		}
+
+	}
+
+}
@@ -1,9 +1,15 @@
 package de.mononoize.tools.word;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Order;
@@ -76,6 +82,10 @@ public class TestWordConstruction extends AbstractTestWord {
 		@Order(1)
 		public void testValidation() {
 			assertThrows(NullPointerException.class, () -> new Word(1).compareTo(null));
+			assertThrows(NullPointerException.class, () -> Word.compare(null, new Word(1)));
+			assertThrows(NullPointerException.class, () -> Word.compare(new Word(1), null));
+			assertThrows(IllegalArgumentException.class, () -> new Word(1).compareTo(new Word(2)));
+			assertThrows(IllegalArgumentException.class, () -> Word.compare(new Word(2), new Word(1)));
 		}
 		
 		@Test
@@ -146,6 +156,24 @@ public class TestWordConstruction extends AbstractTestWord {
 				}
 			}
 		}
+
+		@Test
+		@Order(6)
+		public void testComparator() {
+			for (final int size : SIZES) {
+				final Word[] words = new Word[ITERATIONS / 100];
+				for (int i = 0; i < words.length; i++) {
+					words[i] = Word.of(getStringRandom(size));
+				}
+				
+				Arrays.sort(words, Word.comparator());
+				
+				for (int i = 1; i < words.length; i++) {
+					assertTrue(new BigInteger(words[i - 1].toString(), 2).compareTo(new BigInteger(words[i].toString(), 2)) <= 0);
+					assertEquals(words[i - 1].compareTo(words[i]), Word.compare(words[i - 1], words[i]));
+				}
+			}
+		}
 				
 		private String getStringSmaller(final String value) {
 			final StringBuilder result = new StringBuilder(value);
@@ -179,4 +207,53 @@ public class TestWordConstruction extends AbstractTestWord {
 		
 	}
 	
+	@Nested
+	@Order(4)
+	class TestEqualsHashCode extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testContract() {
+			final Word word = new Word(1);
+			
+			assertFalse(word.equals(null));
+			assertFalse(word.equals(new Word(2)));
+			assertFalse(word.equals(new SynchronizedWord(1)));
+			assertTrue(word.equals(word));
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final String value = getStringRandom(size);
+					
+					final Word word1 = Word.of(value);
+					final Word word2 = Word.of(value);
+					
+					assertTrue(word1.equals(word2));
+					assertEquals(word1.hashCode(), word2.hashCode());
+					assertEquals(word1.hash64(), word2.hash64());
+				}
+			}
+		}
+		
+		@Test
+		@Order(3)
+		public void testResultSpread() {
+			for (final int size : SIZES) {
+				final Set<Integer> buckets = new HashSet<>();
+				
+				// Words that differ in a single bit only must not collide in the lower bits of the hash code.
+				for (int i = 0; i < size; i++) {
+					buckets.add(new Word(size).set(i).hashCode() & 0xFFFF);
+				}
+				
+				assertTrue(buckets.size() > (size - 4));
+			}
+		}
+		
+	}
+	
 }
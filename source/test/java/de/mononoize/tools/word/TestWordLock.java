@@ -0,0 +1,157 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordLock extends AbstractTestWord {
+
+	/**
+	 * The lock strategies to be tested.
+	 */
+	private static final List<Supplier<WordLock>> LOCKS = List.of(
+			WordLock::monitor, WordLock::reentrant, WordLock::readWrite, WordLock::spinning, WordLock::combining);
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new SynchronizedWord(1, null));
+			assertThrows(IllegalArgumentException.class, () -> WordLock.spinning(-1));
+		}
+
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final Supplier<WordLock> lock : LOCKS) {
+
+				// Operations that internally invoke other operations must not dead-lock.
+				assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+					for (final int size : SIZES) {
+						for (int i = 0; i < (ITERATIONS / 10); i++) {
+							final String value = getStringRandom(size);
+							final Word expected = Word.of(value);
+							final SynchronizedWord actual = new SynchronizedWord(size, lock.get());
+							actual.setValue(value);
+
+							final int index = RANDOM.nextInt(size);
+
+							switch (RANDOM.nextInt(5)) {
+								case 0 -> { expected.setValue((short) i); actual.setValue((short) i); }
+								case 1 -> { expected.xor(expected); actual.xor(actual); }
+								case 2 -> { expected.shr(size); actual.shr(size); }
+								case 3 -> { expected.not().ror(index); actual.not().ror(index); }
+								default -> { expected.set().clear(index); actual.set().clear(index); }
+							}
+
+							assertEquals(expected.toString(), actual.toString());
+							assertEquals(expected.countLeadingZeros(), actual.countLeadingZeros());
+							assertEquals(expected.get(index), actual.get(index));
+						}
+					}
+				});
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testSerialization() throws Exception {
+			for (final Supplier<WordLock> lock : LOCKS) {
+				final SynchronizedWord word = new SynchronizedWord(100, lock.get());
+				word.setValue(getStringRandom(100));
+
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+					output.writeObject(word);
+				}
+
+				try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+					final SynchronizedWord copy = (SynchronizedWord) input.readObject();
+					assertEquals(word, copy);
+					assertEquals(word, copy.flip(0).flip(0));
+				}
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testFlip() throws InterruptedException {
+			for (final Supplier<WordLock> lock : LOCKS) {
+				final SynchronizedWord word = new SynchronizedWord(100, lock.get());
+				final Thread[] threads = new Thread[4];
+
+				// Every bit is flipped an even number of times in total, which only holds if no update gets lost.
+				for (int i = 0; i < threads.length; i++) {
+					threads[i] = new Thread(() -> {
+						for (int j = 0; j < 10000; j++) {
+							word.flip(j % 100);
+							word.flip(0, 99);
+							word.countOnes();
+						}
+					});
+					threads[i].start();
+				}
+
+				for (final Thread thread : threads) {
+					thread.join();
+				}
+
+				assertEquals(0, word.countOnes());
+			}
+		}
+
+		@Test
+		@Order(2)
+		public void testException() throws InterruptedException {
+			for (final Supplier<WordLock> lock : LOCKS) {
+				final SynchronizedWord word = new SynchronizedWord(100, lock.get());
+				final AtomicInteger failures = new AtomicInteger();
+				final Thread[] threads = new Thread[4];
+
+				// The exceptions must be thrown to the calling thread, even if the operation is executed by another one.
+				for (int i = 0; i < threads.length; i++) {
+					threads[i] = new Thread(() -> {
+						for (int j = 0; j < 10000; j++) {
+							try {
+								word.flip(j % 101);
+							} catch (final IllegalArgumentException e) {
+								failures.incrementAndGet();
+							}
+						}
+					});
+					threads[i].start();
+				}
+
+				for (final Thread thread : threads) {
+					thread.join();
+				}
+
+				assertEquals(threads.length * (10000 / 101), failures.get());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordLogicBackend extends AbstractTestWord {
+
+	@Nested
+	@Order(1)
+	class TestVector extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testAvailability() {
+			// The tests are run with the incubator module, so that the vector implementation must be available.
+			assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+			assertTrue(LogicBackend.VECTOR != LogicBackend.SCALAR);
+			assertTrue(LogicBackend.of(LogicBackend.DEFAULT_THRESHOLD) == LogicBackend.VECTOR);
+			assertTrue(LogicBackend.of(LogicBackend.DEFAULT_THRESHOLD - 1) == LogicBackend.SCALAR);
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (int length = 0; length < 100; length++) {
+				for (int i = 0; i < (ITERATIONS / 100); i++) {
+					final long[] target = RANDOM.longs(length).toArray();
+					final long[] source = RANDOM.longs(length).toArray();
+					final int fromIndex = (length == 0) ? 0 : RANDOM.nextInt(length);
+					final int toIndex = (length == 0) ? 0 : RANDOM.nextInt(fromIndex, length + 1);
+					
+					assertBackend(target, source, LogicBackend::and);
+					assertBackend(target, source, LogicBackend::nand);
+					assertBackend(target, source, LogicBackend::xor);
+					assertBackend(target, source, LogicBackend::or);
+					assertBackend(target, source, LogicBackend::nor);
+					assertBackend(target, source, (backend, t, s) -> backend.not(t, fromIndex, toIndex));
+				}
+			}
+		}
+		
+		private static void assertBackend(final long[] target, final long[] source, final Operation operation) {
+			final long[] expected = target.clone();
+			final long[] actual = target.clone();
+			
+			operation.execute(LogicBackend.SCALAR, expected, source);
+			operation.execute(LogicBackend.VECTOR, actual, source);
+			
+			assertArrayEquals(expected, actual);
+		}
+		
+	}
+	
+	@Nested
+	@Order(2)
+	class TestWideWord extends AbstractTestWord {
+		
+		private static final int[] WIDE_SIZES = {4095, 4096, 10000};
+		
+		@Test
+		@Order(1)
+		public void testResultRandom() {
+			for (final int size : WIDE_SIZES) {
+				final BigInteger mask = BigInteger.ONE.shiftLeft(size).subtract(BigInteger.ONE);
+				
+				for (int i = 0; i < (ITERATIONS / 1000); i++) {
+					final String value1 = getStringRandom(size);
+					final String value2 = getStringRandom(size);
+					final BigInteger operand1 = new BigInteger(value1, 2);
+					final BigInteger operand2 = new BigInteger(value2, 2);
+					
+					assertEquals(operand1.and(operand2), toBigInteger(Word.of(value1).and(Word.of(value2))));
+					assertEquals(operand1.and(operand2).xor(mask), toBigInteger(Word.of(value1).nand(Word.of(value2))));
+					assertEquals(operand1.xor(operand2), toBigInteger(Word.of(value1).xor(Word.of(value2))));
+					assertEquals(operand1.or(operand2), toBigInteger(Word.of(value1).or(Word.of(value2))));
+					assertEquals(operand1.or(operand2).xor(mask), toBigInteger(Word.of(value1).nor(Word.of(value2))));
+					assertEquals(operand1.xor(mask), toBigInteger(Word.of(value1).not()));
+					assertEquals(size - Word.of(value1).countOnes(), Word.of(value1).not().countOnes());
+				}
+			}
+		}
+		
+		private static BigInteger toBigInteger(final Word word) {
+			return new BigInteger(word.toString(), 2);
+		}
+		
+	}
+	
+	@FunctionalInterface
+	private interface Operation {
+		
+		void execute(LogicBackend backend, long[] target, long[] source);
+		
+	}
+	
+}
@@ -162,7 +162,16 @@ public class TestWordOperationsBitwise extends AbstractTestWord {
 		@Test
 		@Order(2)
 		public void testResult() {
-			// TODO Implementation
+			for (final int size : SIZES) {
+				for (int start = 0; start < size; start++) {
+					for (int end = start; end < size; end++) {
+						final String value = StringUtils.repeat('1', size - end - 1) 
+								+ StringUtils.repeat('0', end - start + 1) 
+								+ StringUtils.repeat('1', start);
+						assertWord(size, value, new Word(size).set().clear(start, end));
+					}
+				}
+			}
 		}
 		
 	}
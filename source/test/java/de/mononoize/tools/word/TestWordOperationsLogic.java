@@ -503,7 +503,49 @@ public class TestWordOperationsLogic extends AbstractTestWord {
 				}
 			}
 		}
-	
+
+	}
+
+	@Nested
+	@Order(15)
+	class TestROLArbitrarySize extends AbstractTestWord {
+
+		private static final int[] ARBITRARY_SIZES = {1, 3, 24, 48, 100, 190, 1000};
+
+		@Test
+		@Order(1)
+		public void testResult() {
+			for (final int size : ARBITRARY_SIZES) {
+				for (int i = 0; i < (ITERATIONS / 100); i++) {
+					final String value = getStringRandom(size);
+					final int offset = RANDOM.nextInt(3 * size);
+
+					assertWord(size, rol(value, (offset % size)), Word.of(value).rol(offset));
+				}
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(16)
+	class TestRORArbitrarySize extends AbstractTestWord {
+
+		private static final int[] ARBITRARY_SIZES = {1, 3, 24, 48, 100, 190, 1000};
+
+		@Test
+		@Order(1)
+		public void testResult() {
+			for (final int size : ARBITRARY_SIZES) {
+				for (int i = 0; i < (ITERATIONS / 100); i++) {
+					final String value = getStringRandom(size);
+					final int offset = RANDOM.nextInt(3 * size);
+
+					assertWord(size, ror(value, (offset % size)), Word.of(value).ror(offset));
+				}
+			}
+		}
+
 	}
 
 	private static String shl(final String value, final int count) {
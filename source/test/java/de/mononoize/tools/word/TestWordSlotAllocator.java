@@ -0,0 +1,132 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordSlotAllocator extends AbstractTestWord {
+
+	/**
+	 * The (arbitrary) sizes to be used, including sizes that are not a multiple of {@code 64}.
+	 */
+	private static final int[] ALLOCATOR_SIZES = {1, 63, 64, 65, 200};
+
+	@Nested
+	@Order(1)
+	class TestSequential extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(IllegalArgumentException.class, () -> new WordSlotAllocator(8).acquire(0));
+			assertThrows(IllegalArgumentException.class, () -> new WordSlotAllocator(8).acquire(9));
+			assertThrows(IllegalArgumentException.class, () -> new WordSlotAllocator(8).release(8));
+			assertThrows(IllegalArgumentException.class, () -> new WordSlotAllocator(8).release(4, 5));
+			assertThrows(IllegalStateException.class, () -> new WordSlotAllocator(8).release(0));
+			assertThrows(IllegalStateException.class, () -> new WordSlotAllocator(8).release(0, 2));
+		}
+
+		@Test
+		@Order(2)
+		public void testAcquire() {
+			for (final int size : ALLOCATOR_SIZES) {
+				final WordSlotAllocator allocator = new WordSlotAllocator(size);
+
+				for (int i = 0; i < size; i++) {
+					final int index = allocator.acquire();
+					assertTrue((index >= 0) && (index < size));
+					assertEquals(i + 1, allocator.getWord().countOnes());
+				}
+				assertEquals(-1, allocator.acquire());
+
+				final int index = RANDOM.nextInt(size);
+				allocator.release(index);
+				assertEquals(index, allocator.acquire());
+				assertEquals(-1, allocator.acquire());
+			}
+		}
+
+		@Test
+		@Order(3)
+		public void testAcquireRangeRandom() {
+			for (final int size : ALLOCATOR_SIZES) {
+				for (int i = 0; i < (ITERATIONS / 100); i++) {
+					final WordSlotAllocator allocator = new WordSlotAllocator(size);
+					final Word value = Word.of(getStringRandom(size));
+					allocator.getWord().setValue(value);
+
+					final int count = 1 + RANDOM.nextInt(Math.min(size, 8));
+					final int start = allocator.acquire(count);
+
+					// The result must be a free range, and there must be no free range if the result is -1.
+					if (start == -1) {
+						for (int j = 0; j <= (size - count); j++) {
+							assertTrue(Word.of(value).shr(j).countTrailingZeros() < count);
+						}
+					} else {
+						assertTrue(Word.of(value).shr(start).countTrailingZeros() >= count);
+						assertEquals(Word.of(value).set(start, start + count - 1), allocator.getWord().snapshot());
+						allocator.release(start, count);
+						assertEquals(value, allocator.getWord().snapshot());
+					}
+				}
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestConcurrent extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testAcquireRelease() throws InterruptedException {
+			final int size = 256;
+			final WordSlotAllocator allocator = new WordSlotAllocator(size);
+			final AtomicIntegerArray owners = new AtomicIntegerArray(size);
+			final AtomicInteger failures = new AtomicInteger();
+			final Thread[] threads = new Thread[4];
+
+			// Each slot must be owned by at most one thread at a time.
+			for (int i = 0; i < threads.length; i++) {
+				final int number = i + 1;
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < 100000; j++) {
+						final int count = 1 + (j % 3);
+						final int index = (count == 1) ? allocator.acquire() : allocator.acquire(count);
+						if (index == -1) {
+							continue;
+						}
+						for (int k = index; k < (index + count); k++) {
+							if (!owners.compareAndSet(k, 0, number)) {
+								failures.incrementAndGet();
+							}
+						}
+						for (int k = index; k < (index + count); k++) {
+							owners.set(k, 0);
+						}
+						allocator.release(index, count);
+					}
+				});
+				threads[i].start();
+			}
+
+			for (final Thread thread : threads) {
+				thread.join();
+			}
+
+			assertEquals(0, failures.get());
+			assertEquals(0, allocator.getWord().countOnes());
+		}
+
+	}
+
+}
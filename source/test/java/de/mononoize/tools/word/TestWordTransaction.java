@@ -0,0 +1,202 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordTransaction extends AbstractTestWord {
+
+	/**
+	 * The lock strategies to be tested.
+	 */
+	private static final List<Supplier<WordLock>> LOCKS = List.of(
+			WordLock::monitor, WordLock::reentrant, WordLock::readWrite, WordLock::spinning, WordLock::combining);
+
+	/**
+	 * The number of iterations that are used by each thread.
+	 */
+	private static final int THREAD_ITERATIONS = 20000;
+
+	/**
+	 * Runs the given tasks concurrently (each in its own thread) and waits for their completion.
+	 *
+	 * @param tasks The tasks to be run.
+	 */
+	private static void runConcurrently(final Runnable... tasks) throws InterruptedException {
+		final Thread[] threads = new Thread[tasks.length];
+
+		for (int i = 0; i < tasks.length; i++) {
+			threads[i] = new Thread(tasks[i]);
+			threads[i].start();
+		}
+
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	@Nested
+	@Order(1)
+	class TestBinaryOperations extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testDeadLock() {
+			for (final Supplier<WordLock> lock : LOCKS) {
+				final SynchronizedWord word1 = new SynchronizedWord(128, lock.get());
+				final SynchronizedWord word2 = new SynchronizedWord(128, lock.get());
+
+				// The operands are locked in the opposite order by both threads, unless the global order is used.
+				assertTimeoutPreemptively(Duration.ofSeconds(60), () -> runConcurrently(
+						() -> { for (int i = 0; i < THREAD_ITERATIONS; i++) { word1.xor(word2); } },
+						() -> { for (int i = 0; i < THREAD_ITERATIONS; i++) { word2.or(word1); } },
+						() -> { for (int i = 0; i < THREAD_ITERATIONS; i++) { word1.equals(word2); } }));
+			}
+		}
+
+		@Test
+		@Order(2)
+		public void testConsistency() throws InterruptedException {
+			for (final Supplier<WordLock> lock : LOCKS) {
+				final SynchronizedWord source = new SynchronizedWord(1024, lock.get());
+				final SynchronizedWord target = new SynchronizedWord(1024, lock.get());
+				final AtomicInteger failures = new AtomicInteger();
+
+				// The source is always either completely set or completely cleared, so a copy must be as well.
+				runConcurrently(
+						() -> { for (int i = 0; i < THREAD_ITERATIONS; i++) { source.flip(); } },
+						() -> {
+							for (int i = 0; i < THREAD_ITERATIONS; i++) {
+								final int count = target.setValue(source).countOnes();
+								if ((count != 0) && (count != 1024)) {
+									failures.incrementAndGet();
+								}
+							}
+						});
+
+				assertEquals(0, failures.get());
+			}
+		}
+
+	}
+
+	@Nested
+	@Order(2)
+	class TestTransaction extends AbstractTestWord {
+
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new WordTransaction().write((SynchronizedWord[]) null));
+			assertThrows(IllegalArgumentException.class, () -> new WordTransaction().read(new SynchronizedWord(1), null));
+			assertThrows(NullPointerException.class, () -> new WordTransaction().execute(null));
+		}
+
+		@Test
+		@Order(2)
+		public void testResult() throws IOException {
+			final SynchronizedWord word1 = new SynchronizedWord(8);
+			final SynchronizedWord word2 = new SynchronizedWord(8);
+			word1.setValue((byte) 0b1100_1010);
+			word2.setValue((byte) 0b1010_0110);
+
+			final WordTransaction transaction = new WordTransaction().write(word1).read(word2);
+
+			assertEquals(Word.of((byte) 0b1000_0010), Word.of(transaction.execute(() -> word1.and(word2))));
+			assertEquals("10000010", transaction.execute(() -> word1.formatTo(new StringBuilder())).toString());
+			assertThrows(IllegalStateException.class, () -> transaction.execute(() -> {
+				throw new IllegalStateException();
+			}));
+			assertEquals(Word.of((byte) 0b0100_0001), Word.of(word1.ror(1)));
+		}
+
+		@Test
+		@Order(3)
+		public void testConsistency() throws InterruptedException {
+			for (final Supplier<WordLock> lock : LOCKS) {
+				final SynchronizedWord word1 = new SynchronizedWord(256, lock.get());
+				final SynchronizedWord word2 = new SynchronizedWord(256, lock.get());
+				word1.set();
+
+				final WordTransaction transfer1 = new WordTransaction().write(word1, word2);
+				final WordTransaction transfer2 = new WordTransaction().write(word2, word1);
+				final WordTransaction check = new WordTransaction().read(word2, word1);
+				final AtomicInteger failures = new AtomicInteger();
+
+				// Bits are moved between both words, so the total number of bits set is constant.
+				assertTimeoutPreemptively(Duration.ofSeconds(60), () -> runConcurrently(
+						() -> {
+							for (int i = 0; i < THREAD_ITERATIONS; i++) {
+								transfer1.execute(() -> {
+									final int index = word1.findFirstOne();
+									if (index != -1) {
+										word1.clear(index);
+										word2.set(word2.findFirstZero());
+									}
+									return word1;
+								});
+							}
+						},
+						() -> {
+							for (int i = 0; i < THREAD_ITERATIONS; i++) {
+								transfer2.execute(() -> {
+									final int index = word2.findLastOne();
+									if (index != -1) {
+										word2.clear(index);
+										word1.set(word1.findLastZero());
+									}
+									return word2;
+								});
+							}
+						},
+						() -> {
+							for (int i = 0; i < THREAD_ITERATIONS; i++) {
+								if (check.execute(() -> word1.countOnes() + word2.countOnes()) != 256) {
+									failures.incrementAndGet();
+								}
+							}
+						}));
+
+				assertEquals(0, failures.get());
+			}
+		}
+
+		@Test
+		@Order(4)
+		public void testCombining() throws InterruptedException {
+			// The monitor lock precedes the combining lock in the global order, so the transaction holds the monitor
+			// lock while it acquires the combining lock. If the operation was executed by another combiner thread, it
+			// would wait for the monitor lock held by the transaction.
+			final SynchronizedWord monitor = new SynchronizedWord(64, WordLock.monitor());
+			final SynchronizedWord combining = new SynchronizedWord(64, WordLock.combining());
+			final WordTransaction transaction = new WordTransaction().write(monitor, combining);
+
+			assertTimeoutPreemptively(Duration.ofSeconds(60), () -> runConcurrently(
+					() -> {
+						for (int i = 0; i < THREAD_ITERATIONS; i++) {
+							transaction.execute(() -> {
+								monitor.flip(0);
+								return combining.flip(1);
+							});
+						}
+					},
+					() -> { for (int i = 0; i < THREAD_ITERATIONS; i++) { combining.flip(2); } },
+					() -> { for (int i = 0; i < THREAD_ITERATIONS; i++) { combining.flip(2); } }));
+
+			assertEquals(new Word(64), Word.of(monitor));
+			assertEquals(new Word(64), Word.of(combining));
+		}
+
+	}
+
+}
@@ -0,0 +1,133 @@
+package de.mononoize.tools.word;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+public class TestWordTypeArray extends AbstractTestWord {
+	
+	private static final int[] ARRAY_SIZES = {1, 8, 24, 64, 100, 256};
+	
+	@Nested
+	@Order(1)
+	class TestLongArray extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(1).setValue((long[]) null));
+			assertThrows(IllegalArgumentException.class, () -> new Word(64).setValue(new long[2]));
+			assertThrows(IllegalArgumentException.class, () -> new Word(65).setValue(new long[1]));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setValue(new long[] {0x100L}));
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : ARRAY_SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final Word word = Word.of(getStringRandom(size));
+					final long[] values = word.toLongArray();
+					
+					assertEquals(((size - 1) / Long.SIZE) + 1, values.length);
+					assertEquals(word, new Word(size).setValue(values));
+				}
+			}
+		}
+		
+	}
+	
+	@Nested
+	@Order(2)
+	class TestByteArray extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(1).setValue((byte[]) null, ByteOrder.BIG_ENDIAN));
+			assertThrows(NullPointerException.class, () -> new Word(1).setValue(new byte[1], null));
+			assertThrows(NullPointerException.class, () -> new Word(1).toByteArray(null));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setValue(new byte[2], ByteOrder.BIG_ENDIAN));
+			assertThrows(IllegalArgumentException.class, () -> new Word(4).setValue(new byte[] {0x10}, ByteOrder.BIG_ENDIAN));
+			assertThrows(IllegalArgumentException.class, () -> new Word(12).setValue(new byte[] {0, 0x10}, ByteOrder.LITTLE_ENDIAN));
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final int size : ARRAY_SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final String value = getStringRandom(size);
+					final Word word = Word.of(value);
+					
+					final byte[] bigEndian = word.toByteArray(ByteOrder.BIG_ENDIAN);
+					final byte[] littleEndian = word.toByteArray(ByteOrder.LITTLE_ENDIAN);
+					
+					assertEquals(new BigInteger(value, 2), new BigInteger(1, bigEndian));
+					ArrayUtils.reverse(littleEndian);
+					assertArrayEquals(bigEndian, littleEndian);
+					ArrayUtils.reverse(littleEndian);
+					
+					assertEquals(word, new Word(size).setValue(bigEndian, ByteOrder.BIG_ENDIAN));
+					assertEquals(word, new Word(size).setValue(littleEndian, ByteOrder.LITTLE_ENDIAN));
+				}
+			}
+		}
+		
+	}
+	
+	@Nested
+	@Order(3)
+	class TestByteBuffer extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(1).writeTo(null));
+			assertThrows(NullPointerException.class, () -> new Word(1).readFrom(null));
+			assertThrows(BufferOverflowException.class, () -> new Word(65).writeTo(ByteBuffer.allocate(15)));
+			assertThrows(BufferUnderflowException.class, () -> new Word(65).readFrom(ByteBuffer.allocate(15)));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).readFrom(ByteBuffer.allocate(8).putLong(0, 0x100L)));
+		}
+		
+		@Test
+		@Order(2)
+		public void testResultRandom() {
+			for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+				for (final int size : ARRAY_SIZES) {
+					final ByteBuffer buffer = ByteBuffer.allocateDirect(((size - 1) / Long.SIZE + 1) * Long.BYTES * 3 + 1).order(order);
+					
+					for (int i = 0; i < ITERATIONS; i++) {
+						final Word word1 = Word.of(getStringRandom(size));
+						final Word word2 = Word.of(getStringRandom(size));
+						final Word word3 = Word.of(getStringRandom(size));
+						
+						buffer.clear().position(1);
+						word1.writeTo(buffer);
+						word2.writeTo(buffer);
+						word3.writeTo(buffer);
+						assertEquals(0, buffer.remaining());
+						
+						buffer.position(1);
+						assertEquals(word1, new Word(size).readFrom(buffer));
+						assertEquals(word2, new Word(size).readFrom(buffer));
+						assertEquals(word3, new Word(size).readFrom(buffer));
+					}
+				}
+			}
+		}
+		
+	}
+	
+}
@@ -1,11 +1,19 @@
 package de.mononoize.tools.word;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Triple;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Order;
@@ -163,4 +171,130 @@ public class TestWordTypeString extends AbstractTestWord {
 		
 	}
 	
+	@Nested
+	@Order(3)
+	class TestHex extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> Word.ofHex(null));
+			assertThrows(IllegalArgumentException.class, () -> Word.ofHex(""));
+			assertThrows(IllegalArgumentException.class, () -> Word.ofHex(" _"));
+			assertThrows(IllegalArgumentException.class, () -> Word.ofHex("0g"));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setHexValue("0"));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setHexValue("000"));
+			assertThrows(IllegalArgumentException.class, () -> new Word(6).setHexValue("40"));
+			assertThrows(NullPointerException.class, () -> new Word(8).setHexValue(null, 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).setHexValue(new char[2], 1, 2));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).formatHexTo(new char[2], 1));
+		}
+		
+		@Test
+		@Order(2)
+		public void testStatic() {
+			assertEquals("00ff", new Word(16).setValue((short) 0xFF).toHexString());
+			assertEquals("3f", new Word(6).set().toHexString());
+			assertEquals(Word.of("1010 1111"), Word.ofHex("aF"));
+			assertEquals(Word.of("10 1010 1111"), new Word(10).setHexValue("2_aF"));
+		}
+		
+		@Test
+		@Order(3)
+		public void testDynamicRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final String randomValue = getStringRandom(size);
+					final Word word = Word.of(randomValue);
+					final String hex = word.toHexString();
+					
+					assertEquals(StringUtils.leftPad(new BigInteger(randomValue, 2).toString(16), (size / 4), '0'), hex);
+					assertEquals(word, Word.ofHex(hex));
+					assertEquals(word, new Word(size).setHexValue(hex.toUpperCase()));
+					
+					final char[] chars = new char[hex.length() + 2];
+					assertEquals(hex.length(), word.formatHexTo(chars, 1));
+					assertEquals(hex, new String(chars, 1, hex.length()));
+					assertEquals(word, new Word(size).setHexValue(chars, 1, hex.length()));
+				}
+			}
+		}
+		
+	}
+	
+	@Nested
+	@Order(4)
+	class TestBase64 extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(8).setBase64Value(null));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setBase64Value("!"));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setBase64Value("AAA="));
+			assertThrows(IllegalArgumentException.class, () -> new Word(4).setBase64Value("EA=="));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setBase64Value("AA="));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setBase64Value("A==="));
+			assertThrows(IllegalArgumentException.class, () -> new Word(8).setBase64Value("\u0100A=="));
+			assertThrows(NullPointerException.class, () -> new Word(8).setBase64Value(null, 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).setBase64Value(new byte[4], 1, 4));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(8).formatBase64To(new byte[4], 1));
+		}
+		
+		@Test
+		@Order(2)
+		public void testDynamicRandom() {
+			for (final int size : SIZES) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final Word word = Word.of(getStringRandom(size));
+					final String base64 = word.toBase64String();
+					final byte[] bytes = word.toByteArray(ByteOrder.BIG_ENDIAN);
+					
+					assertEquals(Base64.getEncoder().encodeToString(bytes), base64);
+					assertEquals(word, Word.ofBase64(size, base64));
+					assertEquals(word, Word.ofBase64(size, Base64.getEncoder().withoutPadding().encodeToString(bytes)));
+					
+					final byte[] ascii = new byte[base64.length() + 2];
+					assertEquals(base64.length(), word.formatBase64To(ascii, 1));
+					assertArrayEquals(base64.getBytes(StandardCharsets.US_ASCII), Arrays.copyOfRange(ascii, 1, base64.length() + 1));
+					assertEquals(word, new Word(size).setBase64Value(ascii, 1, base64.length()));
+				}
+			}
+		}
+		
+	}
+	
+	@Nested
+	@Order(5)
+	class TestFormatTo extends AbstractTestWord {
+		
+		@Test
+		@Order(1)
+		public void testValidation() {
+			assertThrows(NullPointerException.class, () -> new Word(1).formatTo((Appendable) null));
+			assertThrows(NullPointerException.class, () -> new Word(1).formatTo(null, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(2).formatTo(new char[2], 1));
+			assertThrows(NullPointerException.class, () -> new Word(1).setValue(null, 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> new Word(1).setValue(new char[1], 1, 1));
+		}
+		
+		@Test
+		@Order(2)
+		public void testDynamicRandom() throws IOException {
+			for (final int size : new int[] {1, 24, 100, 256}) {
+				for (int i = 0; i < ITERATIONS; i++) {
+					final String randomValue = getStringRandom(size);
+					
+					assertEquals(randomValue, Word.of(randomValue).formatTo(new StringBuilder()).toString());
+					
+					final char[] chars = new char[size + 2];
+					assertEquals(size, Word.of(randomValue).formatTo(chars, 1));
+					assertEquals(randomValue, new String(chars, 1, size));
+					assertEquals(Word.of(randomValue), new Word(size).setValue(chars, 1, size));
+				}
+			}
+		}
+		
+	}
+	
 }
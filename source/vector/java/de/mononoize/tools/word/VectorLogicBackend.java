@@ -0,0 +1,99 @@
+package de.mononoize.tools.word;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>The vector implementation of the bulk logical operations based on the {@code jdk.incubator.vector} module.</p>
+ * 
+ * <p>This class is compiled separately and only loaded by {@link LogicBackend} if the module is available.</p>
+ * 
+ * @author Alexander Mattes
+ */
+final class VectorLogicBackend extends LogicBackend {
+
+	/**
+	 * The preferred vector species of the platform.
+	 */
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+	
+	@Override
+	void and(final long[] target, final long[] source) {
+		final int bound = SPECIES.loopBound(target.length);
+		
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, target, i).and(LongVector.fromArray(SPECIES, source, i)).intoArray(target, i);
+		}
+		for (; i < target.length; i++) {
+			target[i] &= source[i];
+		}
+	}
+
+	@Override
+	void nand(final long[] target, final long[] source) {
+		final int bound = SPECIES.loopBound(target.length);
+		
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, target, i).and(LongVector.fromArray(SPECIES, source, i)).not().intoArray(target, i);
+		}
+		for (; i < target.length; i++) {
+			target[i] = ~(target[i] & source[i]);
+		}
+	}
+
+	@Override
+	void xor(final long[] target, final long[] source) {
+		final int bound = SPECIES.loopBound(target.length);
+		
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, target, i).lanewise(VectorOperators.XOR, LongVector.fromArray(SPECIES, source, i)).intoArray(target, i);
+		}
+		for (; i < target.length; i++) {
+			target[i] ^= source[i];
+		}
+	}
+
+	@Override
+	void or(final long[] target, final long[] source) {
+		final int bound = SPECIES.loopBound(target.length);
+		
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, target, i).or(LongVector.fromArray(SPECIES, source, i)).intoArray(target, i);
+		}
+		for (; i < target.length; i++) {
+			target[i] |= source[i];
+		}
+	}
+
+	@Override
+	void nor(final long[] target, final long[] source) {
+		final int bound = SPECIES.loopBound(target.length);
+		
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, target, i).or(LongVector.fromArray(SPECIES, source, i)).not().intoArray(target, i);
+		}
+		for (; i < target.length; i++) {
+			target[i] = ~(target[i] | source[i]);
+		}
+	}
+
+	@Override
+	void not(final long[] target, final int fromIndex, final int toIndex) {
+		final int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+		
+		int i = fromIndex;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, target, i).not().intoArray(target, i);
+		}
+		for (; i < toIndex; i++) {
+			target[i] = ~target[i];
+		}
+	}
+	
+}